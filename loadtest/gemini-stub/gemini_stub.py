@@ -0,0 +1,152 @@
+#!/usr/bin/env python3
+# 부하 테스트용 Gemini 스텁 - 실제 모델 대신 고정 지연 후 고정 응답
+# - POST .../models/{model}:generateContent        -> LATENCY 초 후 JSON 응답
+# - POST .../models/{model}:streamGenerateContent  -> CHUNKS 개 조각을 나눠 SSE 로 전송 (총 LATENCY 초)
+# - POST   .../cachedContents                       -> 컨텍스트 캐시 생성 (name, expireTime)
+# - PATCH  .../cachedContents/{id}?updateMask=ttl   -> TTL 연장, 만료/없으면 404
+# - DELETE .../cachedContents/{id}                  -> 삭제, 없으면 404
+# - generateContent 의 cachedContent 가 만료/없으면 404 (앱은 핸들을 버리고 systemInstruction 으로 재전송)
+#
+# 실행: python3 gemini_stub.py [port]   (기본 8089)
+# - STUB_LATENCY_SECONDS: 응답 지연 (기본 3)
+# - STUB_CACHE_TTL_SECONDS: 캐시 TTL 상한 (기본 0 = 요청한 TTL 그대로, 짧게 주면 만료 → 404 → 재전송 경로 확인)
+# 앱:   GEMINI_API_URL=http://localhost:8089/v1beta/models/stub:generateContent
+
+import json
+import os
+import sys
+import threading
+import time
+import uuid
+from datetime import datetime, timezone
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+LATENCY = float(os.environ.get("STUB_LATENCY_SECONDS", "3"))
+CHUNKS = 6
+REPLY = "이번 달 식비가 예산의 절반을 넘었어요. 배달 대신 장보기를 주 2회로 늘려보면 어떨까요?"
+CACHE_TTL_CAP = float(os.environ.get("STUB_CACHE_TTL_SECONDS", "0"))
+
+caches = {}  # "cachedContents/{id}" -> 만료 시각 (epoch 초)
+caches_lock = threading.Lock()
+
+
+def candidate(text):
+    return {"candidates": [{"content": {"role": "model", "parts": [{"text": text}]}}]}
+
+
+def expire_at(ttl):
+    seconds = float(ttl.rstrip("s")) if ttl else 3600.0
+    if CACHE_TTL_CAP > 0:
+        seconds = min(seconds, CACHE_TTL_CAP)
+    return time.time() + seconds
+
+
+def rfc3339(epoch):
+    return datetime.fromtimestamp(epoch, timezone.utc).strftime("%Y-%m-%dT%H:%M:%S.%fZ")
+
+
+# 만료된 캐시는 조회 시점에 삭제
+def live_cache(name):
+    with caches_lock:
+        expire = caches.get(name)
+        if expire is not None and expire <= time.time():
+            del caches[name]
+            expire = None
+        return expire is not None
+
+
+def cache_name(path):
+    return path[path.index("cachedContents/"):]
+
+
+class Handler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_POST(self):
+        body = self.read_json()
+        path = self.path.split("?", 1)[0]
+
+        if path.endswith(":generateContent") or path.endswith(":streamGenerateContent"):
+            cached = body.get("cachedContent")
+            if cached and not live_cache(cached):
+                self.send_not_found("CachedContent not found: " + cached)
+            elif path.endswith(":generateContent"):
+                time.sleep(LATENCY)
+                self.send_json(200, candidate(REPLY))
+            else:
+                self.send_stream()
+        elif path.endswith("/cachedContents"):
+            name = "cachedContents/" + uuid.uuid4().hex[:12]
+            expire = expire_at(body.get("ttl"))
+            with caches_lock:
+                caches[name] = expire
+            self.send_json(200, {"name": name, "model": body.get("model"), "expireTime": rfc3339(expire)})
+        else:
+            self.send_not_found("Unknown path: " + path)
+
+    def do_PATCH(self):
+        body = self.read_json()
+        path = self.path.split("?", 1)[0]
+        if "cachedContents/" not in path:
+            self.send_not_found("Unknown path: " + path)
+            return
+
+        name = cache_name(path)
+        if not live_cache(name):
+            self.send_not_found("CachedContent not found: " + name)
+            return
+        expire = expire_at(body.get("ttl"))
+        with caches_lock:
+            caches[name] = expire
+        self.send_json(200, {"name": name, "expireTime": rfc3339(expire)})
+
+    def do_DELETE(self):
+        self.read_json()
+        path = self.path.split("?", 1)[0]
+        name = cache_name(path) if "cachedContents/" in path else None
+        with caches_lock:
+            removed = name is not None and caches.pop(name, None) is not None
+        if removed:
+            self.send_json(200, {})
+        else:
+            self.send_not_found("CachedContent not found: " + str(name))
+
+    def read_json(self):
+        length = int(self.headers.get("Content-Length", 0))
+        raw = self.rfile.read(length) if length else b""
+        return json.loads(raw) if raw else {}
+
+    def send_not_found(self, message):
+        self.send_json(404, {"error": {"code": 404, "message": message, "status": "NOT_FOUND"}})
+
+    def send_json(self, status, body):
+        payload = json.dumps(body, ensure_ascii=False).encode("utf-8")
+        self.send_response(status)
+        self.send_header("Content-Type", "application/json; charset=UTF-8")
+        self.send_header("Content-Length", str(len(payload)))
+        self.end_headers()
+        self.wfile.write(payload)
+
+    def send_stream(self):
+        self.send_response(200)
+        self.send_header("Content-Type", "text/event-stream")
+        self.send_header("Connection", "close")
+        self.end_headers()
+        size = -(-len(REPLY) // CHUNKS)
+        for i in range(0, len(REPLY), size):
+            time.sleep(LATENCY / CHUNKS)
+            event = "data: " + json.dumps(candidate(REPLY[i:i + size]), ensure_ascii=False) + "\r\n\r\n"
+            self.wfile.write(event.encode("utf-8"))
+            self.wfile.flush()
+        self.close_connection = True
+
+    def log_message(self, fmt, *args):
+        pass
+
+
+if __name__ == "__main__":
+    port = int(sys.argv[1]) if len(sys.argv) > 1 else 8089
+    server = ThreadingHTTPServer(("0.0.0.0", port), Handler)
+    server.daemon_threads = True
+    print(f"Gemini stub on :{port} (latency {LATENCY}s)")
+    server.serve_forever()
@@ -0,0 +1,77 @@
+// 동시 코치 대화 부하 테스트 (k6)
+// - 가상 사용자(VU)마다 한 사용자로 대화를 이어가며 일반/스트리밍 메시지를 번갈아 전송
+// - Gemini 는 gemini-stub 으로 대체 (응답 지연이 고정이므로 처리량 차이는 서버 동시성에서만 생김)
+//
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e MAX_VUS=400 -e USER_COUNT=100 loadtest/k6/coach-conversations.js
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '400');
+const USER_COUNT = parseInt(__ENV.USER_COUNT || '100');
+const USER_ID_OFFSET = parseInt(__ENV.USER_ID_OFFSET || '1');
+const THINK_TIME = parseFloat(__ENV.THINK_TIME || '1');
+
+const MESSAGES = [
+    '이번 달 식비가 너무 많이 나온 것 같아요',
+    '카페 지출을 줄이려면 어떻게 해야 할까요?',
+    '비상금 목표를 세우고 싶어요',
+    '지난주보다 지출이 늘었나요?',
+];
+
+const replies = new Counter('coach_replies');
+const failures = new Counter('coach_failures');
+const replyTime = new Trend('coach_reply_time', true);
+
+export const options = {
+    scenarios: {
+        conversations: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: Math.floor(MAX_VUS / 4) },
+                { duration: '2m', target: Math.floor(MAX_VUS / 2) },
+                { duration: '2m', target: MAX_VUS },
+                { duration: '3m', target: MAX_VUS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '30s',
+        },
+    },
+    thresholds: {
+        // 스텁 지연(기본 3초) + 서버 처리 - 대기열이 생기면 p95 가 먼저 무너짐
+        coach_reply_time: ['p(95)<6000'],
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const userId = USER_ID_OFFSET + (__VU % USER_COUNT);
+    const stream = __ITER % 2 === 1;
+    const url = `${BASE_URL}/api/coach/message/${userId}` + (stream ? '/stream' : '');
+    const body = JSON.stringify({
+        message: MESSAGES[__ITER % MESSAGES.length],
+        messageType: 'FREE_CHAT',
+    });
+
+    const res = http.post(url, body, {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { mode: stream ? 'stream' : 'sync' },
+        timeout: '60s',
+    });
+
+    // 스트리밍은 본문 끝의 done 이벤트까지 받아야 성공
+    const ok = check(res, {
+        'status 200': (r) => r.status === 200,
+        'reply completed': (r) => !stream || (r.body && r.body.includes('event:done')),
+    });
+    if (ok) {
+        replies.add(1);
+        replyTime.add(res.timings.duration);
+    } else {
+        failures.add(1);
+    }
+
+    sleep(THINK_TIME);
+}
@@ -1,5 +1,15 @@
 #!/bin/bash
 
+# 빌드 대상이 Java 21 이므로 Java 21 런타임으로 실행 (EC2 에 Amazon Corretto 21 설치 필요, JAVA_BIN 으로 경로 변경 가능)
+JAVA_BIN=${JAVA_BIN:-/usr/lib/jvm/java-21-amazon-corretto/bin/java}
+
+echo "> Java 런타임 확인: $JAVA_BIN"
+JAVA_MAJOR=$($JAVA_BIN -XshowSettings:properties -version 2>&1 | grep 'java.specification.version' | awk '{print $3}')
+if [ -z "$JAVA_MAJOR" ] || [ "$JAVA_MAJOR" -lt 21 ]; then
+  echo "> Java 21 이상이 필요합니다 (현재: ${JAVA_MAJOR:-없음}). 배포 중단."
+  exit 1
+fi
+
 echo ">>> build 파일 검색"
 BUILD_PATH=$(ls /home/ubuntu/app/*.jar | head -n 1)
 JAR_NAME=$(basename $BUILD_PATH)
@@ -46,7 +56,7 @@ else
 fi
 
 echo "> $IDLE_PROFILE 배포 시작 (port: $IDLE_PORT)"
-nohup java -jar $IDLE_APPLICATION_PATH --server.port=$IDLE_PORT >> /home/ubuntu/app/nohup.out 2>&1 &
+nohup $JAVA_BIN -jar $IDLE_APPLICATION_PATH --server.port=$IDLE_PORT --spring.profiles.active=prod >> /home/ubuntu/app/nohup.out 2>&1 &
 
 echo "> $IDLE_PROFILE 10초 후 Health check 시작"
 sleep 10
@@ -0,0 +1,32 @@
+package com.finz.domain.expense;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+// 한글 설명 -> Enum 변환 (values() 복사 + 스트림 선형 탐색) - 첫 항목/마지막 항목 비교
+public class DescriptionLookupBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class CategoryInput {
+        @Param({"음식", "기타"})
+        public String description;
+    }
+
+    @State(Scope.Benchmark)
+    public static class PaymentMethodInput {
+        @Param({"카드", "계좌이체"})
+        public String description;
+    }
+
+    @Benchmark
+    public ExpenseCategory categoryFromDescription(CategoryInput input) {
+        return ExpenseCategory.fromDescription(input.description);
+    }
+
+    @Benchmark
+    public PaymentMethod paymentMethodFromDescription(PaymentMethodInput input) {
+        return PaymentMethod.fromDescription(input.description);
+    }
+}
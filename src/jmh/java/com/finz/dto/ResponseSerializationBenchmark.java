@@ -0,0 +1,85 @@
+package com.finz.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.finz.domain.coach.MessageType;
+import com.finz.dto.coach.CoachHistoryPageDto;
+import com.finz.dto.coach.CoachMessageDto;
+import com.finz.dto.coach.CoachResponseDto;
+import com.finz.dto.home.CalendarResponseDto;
+import com.finz.dto.home.HighlightItemDto;
+import com.finz.dto.home.HomeDashboardResponseDto;
+import com.finz.dto.home.HomeHighlightResponseDto;
+import com.finz.dto.home.HomeSummaryResponseDto;
+import com.finz.service.BenchmarkFixtures;
+import com.finz.service.HomeCalendarBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.stream.Collectors;
+
+// GlobalResponseDto 응답 직렬화 비용 (Spring Boot 기본 ObjectMapper 설정과 동일하게 구성)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private GlobalResponseDto<CoachResponseDto> coachResponse;
+    private GlobalResponseDto<HomeDashboardResponseDto> dashboardResponse;
+    private GlobalResponseDto<CoachHistoryPageDto> historyResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        coachResponse = wrap(CoachResponseDto.builder()
+                .message(BenchmarkFixtures.conversation(2).get(1).getContent())
+                .messageType(MessageType.FREE_CHAT)
+                .build());
+
+        HomeCalendarBenchmark calendar = new HomeCalendarBenchmark();
+        calendar.setUp();
+        CalendarResponseDto calendarData = calendar.buildCalendar();
+        HighlightItemDto highlight = HighlightItemDto.builder().title("음식").valueText("-18%").build();
+        dashboardResponse = wrap(new HomeDashboardResponseDto(
+                new HomeSummaryResponseDto(612_000, 888_000, 0.408),
+                new HomeHighlightResponseDto(highlight, highlight, highlight),
+                calendarData));
+
+        historyResponse = wrap(CoachHistoryPageDto.builder()
+                .messages(BenchmarkFixtures.conversation(30).stream()
+                        .map(CoachMessageDto::fromEntity)
+                        .collect(Collectors.toList()))
+                .nextCursor("MjAyNS0xMC0xNVQwMDowMF8x")
+                .hasMore(true)
+                .build());
+    }
+
+    @Benchmark
+    public byte[] coachResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(coachResponse);
+    }
+
+    @Benchmark
+    public byte[] homeDashboard() throws Exception {
+        return objectMapper.writeValueAsBytes(dashboardResponse);
+    }
+
+    @Benchmark
+    public byte[] coachHistoryPage() throws Exception {
+        return objectMapper.writeValueAsBytes(historyResponse);
+    }
+
+    private static <T> GlobalResponseDto<T> wrap(T data) {
+        return GlobalResponseDto.<T>builder()
+                .status(200)
+                .success(true)
+                .message("조회 성공")
+                .data(data)
+                .build();
+    }
+}
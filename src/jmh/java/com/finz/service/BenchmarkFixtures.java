@@ -0,0 +1,100 @@
+package com.finz.service;
+
+import com.finz.domain.coach.CoachMessage;
+import com.finz.domain.coach.MessageSender;
+import com.finz.domain.coach.MessageType;
+import com.finz.domain.expense.Expense;
+import com.finz.domain.expense.ExpenseCategory;
+import com.finz.domain.expense.ExpensePattern;
+import com.finz.domain.expense.PaymentMethod;
+import com.finz.domain.goal.Goal;
+import com.finz.domain.goal.GoalStatus;
+import com.finz.domain.user.AgeGroup;
+import com.finz.domain.user.Job;
+import com.finz.domain.user.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크 공통 입력 데이터 (실제 사용자 한 명의 평균적인 규모로 고정 - 결과 재현성)
+public final class BenchmarkFixtures {
+
+    public static final LocalDate BASE_DATE = LocalDate.of(2025, 10, 15);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user() {
+        return User.builder()
+                .nickname("핀즈")
+                .ageGroup(AgeGroup.TWENTIES)
+                .job(Job.OFFICE_WORKER)
+                .monthlyBudget(1_500_000)
+                .build();
+    }
+
+    public static List<Goal> activeGoals() {
+        List<Goal> goals = new ArrayList<>();
+        goals.add(goal("여행 자금 모으기", 2_000_000, 450_000, "매주 5만원 저축"));
+        goals.add(goal("배달 줄이기", 200_000, 80_000, "주 2회 이하"));
+        return goals;
+    }
+
+    public static List<ExpensePattern> recentPatterns() {
+        List<ExpensePattern> patterns = new ArrayList<>();
+        long amount = 420_000;
+        for (ExpenseCategory category : ExpenseCategory.values()) {
+            patterns.add(new ExpensePattern(category, amount, amount / 15_000 + 1));
+            amount = amount * 2 / 3;
+        }
+        return patterns;
+    }
+
+    public static Expense expense(User user) {
+        return Expense.builder()
+                .user(user)
+                .expenseName("편의점 간식")
+                .amount(6_800)
+                .category(ExpenseCategory.FOOD)
+                .expenseTag("충동구매")
+                .memo("야근 중")
+                .paymentMethod(PaymentMethod.CARD)
+                .expenseDate(BASE_DATE)
+                .build();
+    }
+
+    // 대화 기록 (사용자/AI 번갈아 count개)
+    public static List<CoachMessage> conversation(int count) {
+        List<CoachMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boolean fromUser = i % 2 == 0;
+            messages.add(CoachMessage.builder()
+                    .messageId((long) i + 1)
+                    .userId(1L)
+                    .sender(fromUser ? MessageSender.USER : MessageSender.AI)
+                    .messageType(MessageType.FREE_CHAT)
+                    .content(fromUser
+                            ? "이번 달 식비가 너무 많이 나온 것 같은데 어떻게 줄일 수 있을까요?"
+                            : "이번 달 식비는 420,000원으로 예산의 28%예요 🍱 배달을 주 2회로 줄이면 약 60,000원을 아낄 수 있어요!")
+                    .createdAt(BASE_DATE.atStartOfDay().plusMinutes(i))
+                    .build());
+        }
+        return messages;
+    }
+
+    private static Goal goal(String goalType, int targetAmount, int currentAmount, String method) {
+        return Goal.builder()
+                .userId(1L)
+                .goalType(goalType)
+                .targetAmount(targetAmount)
+                .currentAmount(currentAmount)
+                .startDate(BASE_DATE.withDayOfMonth(1))
+                .endDate(BASE_DATE.plusMonths(3))
+                .method(method)
+                .status(GoalStatus.ACTIVE)
+                .createdAt(LocalDateTime.of(2025, 10, 1, 9, 0))
+                .build();
+    }
+}
@@ -0,0 +1,154 @@
+package com.finz.service;
+
+import com.finz.domain.coach.CoachMessage;
+import com.finz.domain.expense.Expense;
+import com.finz.domain.expense.ExpenseBatchImportedEvent;
+import com.finz.domain.expense.ExpenseCategory;
+import com.finz.domain.expense.ExpensePattern;
+import com.finz.domain.expense.ExpenseTagSummary;
+import com.finz.domain.expense.TagExpenseSummary;
+import com.finz.domain.goal.Goal;
+import com.finz.domain.user.User;
+import com.finz.infrastructure.gemini.dto.GeminiMessage;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import com.finz.infrastructure.prompt.PromptTemplateEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// 코치 시스템 프롬프트 생성 비용 - 템플릿 엔진(CoachPromptBuilder) vs 기존 String.format(legacy*)
+// 호출당 할당량은 -prof gc 결과(gc.alloc.rate.norm)로 비교
+@State(Scope.Benchmark)
+public class CoachPromptBuilderBenchmark {
+
+    private CoachPromptBuilder promptBuilder;
+    private LegacyCoachPromptBuilder legacyPromptBuilder;
+    private User user;
+    private List<Goal> goals;
+    private UserProfile profile;
+    private List<ActiveGoal> activeGoals;
+    private List<ExpensePattern> patterns;
+    private Expense expense;
+    private TagExpenseSummary tagSummary;
+    private ExpenseBatchImportedEvent importEvent;
+    private List<CoachMessage> history;
+
+    @Setup
+    public void setUp() {
+        promptBuilder = new CoachPromptBuilder(new PromptTemplateEngine());
+        legacyPromptBuilder = new LegacyCoachPromptBuilder();
+        user = BenchmarkFixtures.user();
+        goals = BenchmarkFixtures.activeGoals();
+        profile = UserProfile.from(user);
+        activeGoals = goals.stream().map(ActiveGoal::from).toList();
+        patterns = BenchmarkFixtures.recentPatterns();
+        expense = BenchmarkFixtures.expense(user);
+        tagSummary = new ExpenseTagSummary("충동구매", 4L, 38_500L);
+        history = BenchmarkFixtures.conversation(20);
+
+        Map<ExpenseCategory, Long> categoryTotals = new LinkedHashMap<>();
+        categoryTotals.put(ExpenseCategory.FOOD, 320_000L);
+        categoryTotals.put(ExpenseCategory.SHOPPING, 140_000L);
+        categoryTotals.put(ExpenseCategory.CAFE, 52_000L);
+        importEvent = new ExpenseBatchImportedEvent(1L, 87, 512_000L,
+                BenchmarkFixtures.BASE_DATE.withDayOfMonth(1), BenchmarkFixtures.BASE_DATE, categoryTotals);
+
+        // 템플릿 전환 후에도 프롬프트 문구가 그대로인지 확인 (다르면 벤치마크 비교 의미 없음)
+        // - 페르소나/컨텍스트 분리로 섹션 순서는 바뀌었으므로 줄 단위로 비교 (새로 추가된 제목 줄만 허용)
+        assertSame(this::goalSettingPrompt, this::legacyGoalSettingPrompt, "goal-setting");
+        assertSame(this::expenseConsultPrompt, this::legacyExpenseConsultPrompt, "expense-consult");
+        assertSame(this::expenseFeedbackPrompt, this::legacyExpenseFeedbackPrompt, "expense-feedback");
+        assertSame(this::expenseImportFeedbackPrompt, this::legacyExpenseImportFeedbackPrompt, "expense-import-feedback");
+        assertSame(() -> promptBuilder.buildGeneralChatPrompt(profile, activeGoals, patterns),
+                () -> legacyPromptBuilder.buildGeneralChatPrompt(user, goals, patterns), "general-chat");
+        assertSame(() -> promptBuilder.buildGoalSettingPrompt(profile, List.of(), List.of()),
+                () -> legacyPromptBuilder.buildGoalSettingPrompt(user, List.of(), List.of()), "goal-setting (empty)");
+        assertSame(() -> promptBuilder.buildExpenseConsultPrompt(profile, List.of(), List.of()),
+                () -> legacyPromptBuilder.buildExpenseConsultPrompt(user, List.of(), List.of()), "expense-consult (empty)");
+        assertSame(() -> promptBuilder.buildExpenseFeedbackPrompt(profile, expense, 612_000, -3_500, null),
+                () -> legacyPromptBuilder.buildExpenseFeedbackPrompt(user, expense, 612_000, -3_500, null), "expense-feedback (no tag summary)");
+    }
+
+    @Benchmark
+    public SystemPrompt goalSettingPrompt() {
+        return promptBuilder.buildGoalSettingPrompt(profile, activeGoals, patterns);
+    }
+
+    @Benchmark
+    public String legacyGoalSettingPrompt() {
+        return legacyPromptBuilder.buildGoalSettingPrompt(user, goals, patterns);
+    }
+
+    @Benchmark
+    public SystemPrompt expenseConsultPrompt() {
+        return promptBuilder.buildExpenseConsultPrompt(profile, patterns, activeGoals);
+    }
+
+    @Benchmark
+    public String legacyExpenseConsultPrompt() {
+        return legacyPromptBuilder.buildExpenseConsultPrompt(user, patterns, goals);
+    }
+
+    @Benchmark
+    public SystemPrompt expenseFeedbackPrompt() {
+        return promptBuilder.buildExpenseFeedbackPrompt(profile, expense, 612_000, 888_000, tagSummary);
+    }
+
+    @Benchmark
+    public String legacyExpenseFeedbackPrompt() {
+        return legacyPromptBuilder.buildExpenseFeedbackPrompt(user, expense, 612_000, 888_000, tagSummary);
+    }
+
+    @Benchmark
+    public SystemPrompt expenseImportFeedbackPrompt() {
+        return promptBuilder.buildExpenseImportFeedbackPrompt(profile, importEvent, 612_000, 888_000);
+    }
+
+    @Benchmark
+    public String legacyExpenseImportFeedbackPrompt() {
+        return legacyPromptBuilder.buildExpenseImportFeedbackPrompt(user, importEvent, 612_000, 888_000);
+    }
+
+    @Benchmark
+    public List<GeminiMessage> convertToGeminiFormat() {
+        return promptBuilder.convertToGeminiFormat(history);
+    }
+
+    private static void assertSame(Supplier<SystemPrompt> actual, Supplier<String> expected, String name) {
+        SystemPrompt rendered = actual.get();
+        String legacy = expected.get();
+        List<String> renderedLines = wordingLines(rendered.getPersona() + "\n" + rendered.getContext());
+        List<String> legacyLines = wordingLines(legacy);
+
+        // 기존 프롬프트에 없던 제목 줄 (예: '## 피드백 예시') 은 분리하면서 추가된 것이므로 제외
+        Set<String> legacySet = Set.copyOf(legacyLines);
+        renderedLines.removeIf(line -> line.startsWith("## ") && !legacySet.contains(line));
+
+        renderedLines.sort(null);
+        legacyLines.sort(null);
+        if (!renderedLines.equals(legacyLines)) {
+            throw new IllegalStateException("템플릿 렌더링 결과가 기존 프롬프트와 다릅니다: " + name
+                    + "\n--- persona ---\n" + rendered.getPersona()
+                    + "\n--- context ---\n" + rendered.getContext()
+                    + "\n--- legacy ---\n" + legacy);
+        }
+    }
+
+    private static List<String> wordingLines(String text) {
+        List<String> lines = new ArrayList<>();
+        for (String line : text.split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(line.strip());
+            }
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,36 @@
+package com.finz.service;
+
+import com.finz.dto.home.CalendarResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+// 달력 데이터 일별 루프 (HomeService.getCalendarData / getHomeDashboard 공통)
+@State(Scope.Benchmark)
+public class HomeCalendarBenchmark {
+
+    private YearMonth yearMonth;
+    private Map<LocalDate, Integer> expenseMap;
+
+    @Setup
+    public void setUp() {
+        yearMonth = YearMonth.from(BenchmarkFixtures.BASE_DATE);
+        expenseMap = new HashMap<>();
+
+        // 이틀 중 하루꼴로 지출, 일부는 일일 예산 초과
+        for (int day = 1; day <= yearMonth.lengthOfMonth(); day += 2) {
+            expenseMap.put(yearMonth.atDay(day), day % 3 == 0 ? 85_000 : 23_000);
+        }
+    }
+
+    @Benchmark
+    public CalendarResponseDto buildCalendar() {
+        return HomeService.buildCalendar(yearMonth, 1_500_000, expenseMap);
+    }
+}
@@ -0,0 +1,315 @@
+package com.finz.service;
+
+import com.finz.domain.coach.CoachMessage;
+import com.finz.domain.coach.MessageSender;
+import com.finz.domain.expense.Expense;
+import com.finz.domain.expense.ExpenseBatchImportedEvent;
+import com.finz.domain.expense.ExpensePattern;
+import com.finz.domain.expense.TagExpenseSummary;
+import com.finz.domain.goal.Goal;
+import com.finz.domain.user.User;
+import com.finz.infrastructure.gemini.dto.GeminiMessage;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+// 템플릿 엔진 도입 이전의 String.format 기반 프롬프트 생성 (비교 기준선 - 운영 코드에서는 사용하지 않음)
+public class LegacyCoachPromptBuilder {
+
+    // 개인화된 목표 설정 시스템 프롬프트 생성
+    public String buildGoalSettingPrompt(User user, List<Goal> goals, List<ExpensePattern> expenses) {
+        StringBuilder prompt = new StringBuilder();
+        
+        prompt.append("당신은 Finz의 친근한 AI 재무 코치입니다.\n");
+        prompt.append("사용자가 '목표 설정' 버튼을 눌러서 대화를 시작했습니다.\n\n");
+
+        // 사용자 개인 정보 포함
+        prompt.append("## 사용자 정보\n");
+        prompt.append(String.format("- 이름: %s\n", user.getNickname()));
+        prompt.append(String.format("- 연령대: %s\n", user.getAgeGroup().getDescription()));
+        prompt.append(String.format("- 직업: %s\n", user.getJob().getDescription()));
+        prompt.append(String.format("- 월 목표 예산: %,d원\n\n", user.getMonthlyBudget()));
+
+        // 기존 목표 정보
+        if (!goals.isEmpty()) {
+            prompt.append("## 현재 진행 중인 목표\n");
+            for (Goal goal : goals) {
+                int progress = (int) ((goal.getCurrentAmount() * 100.0) / goal.getTargetAmount());
+                prompt.append(String.format("- %s: %,d원 목표 (현재 %d%% 달성)\n",
+                    goal.getGoalType(), goal.getTargetAmount(), progress));
+            }
+            prompt.append("\n");
+        } else {
+            prompt.append("## 현재 진행 중인 목표\n");
+            prompt.append("- 아직 설정된 목표가 없습니다.\n\n");
+        }
+
+        // 지출 패턴 분석
+        if (!expenses.isEmpty()) {
+            prompt.append("## 최근 1개월 지출 패턴 (상위 5개)\n");
+            int limit = Math.min(5, expenses.size());
+            for (int i = 0; i < limit; i++) {
+                ExpensePattern expense = expenses.get(i);
+                prompt.append(String.format("- %s: %,d원 (%d회 사용)\n",
+                    expense.getCategory().getDescription(),
+                    expense.getTotalAmount(),
+                    expense.getCount()));
+            }
+            prompt.append("\n");
+        }
+
+        // AI의 역할 및 톤
+        prompt.append("## 당신의 역할과 말투\n");
+        prompt.append("1. 친근하고 격려하는 존댓말 사용\n");
+        prompt.append("2. 이모지를 적절히 활용 (🎯, 💰, 😊, 🔥, 💪 등)\n");
+        prompt.append("3. 사용자의 연령대와 직업을 고려한 맞춤형 조언\n");
+        prompt.append("4. 지출 패턴을 분석해 구체적인 목표 제안\n");
+        prompt.append("5. 목표는 현실적이고 달성 가능한 수준으로\n\n");
+
+        // 대화 진행 가이드
+        prompt.append("## 대화 진행 방법\n");
+        prompt.append("1. 먼저 친근하게 인사하며 목표 설정 시작\n");
+        prompt.append("2. 사용자의 지출 패턴을 언급하며 목표 후보 제시\n");
+        prompt.append("3. 사용자가 원하는 목표 유형 파악\n");
+        prompt.append("4. 구체적인 금액과 기간 질문\n");
+        prompt.append("5. 실행 가능한 방법 함께 고민\n");
+        prompt.append("6. 최종적으로 명확한 목표 제안\n\n");
+
+        // 개인화된 첫 메시지 예시
+        prompt.append("## 첫 메시지 작성 가이드\n");
+        prompt.append(String.format("- %s님의 이름을 부르며 친근하게 시작하세요\n", user.getNickname()));
+
+        if (!expenses.isEmpty()) {
+            ExpensePattern topExpense = expenses.get(0);
+            prompt.append(String.format("- 최근 '%s' 지출이 %,d원으로 가장 많다는 점을 자연스럽게 언급하세요\n",
+                topExpense.getCategory().getDescription(), topExpense.getTotalAmount()));
+        }
+
+        return prompt.toString();
+    }
+    
+    // 지출 상담 전용 시스템 프롬프트 생성
+    public String buildExpenseConsultPrompt(User user, List<ExpensePattern> expenses, List<Goal> goals) {
+        StringBuilder prompt = new StringBuilder();
+        
+        prompt.append("당신은 Finz의 친근한 AI 재무 코치입니다.\n");
+        prompt.append("사용자가 '지출 상담' 버튼을 눌러서 대화를 시작했습니다.\n\n");
+        
+        // 사용자 개인 정보
+        prompt.append("## 사용자 정보\n");
+        prompt.append(String.format("- 이름: %s\n", user.getNickname()));
+        prompt.append(String.format("- 연령대: %s\n", user.getAgeGroup().getDescription()));
+        prompt.append(String.format("- 직업: %s\n", user.getJob().getDescription()));
+        prompt.append(String.format("- 월 목표 예산: %,d원\n\n", user.getMonthlyBudget()));
+        
+        // 지출 패턴 분석 (핵심!)
+        if (!expenses.isEmpty()) {
+            prompt.append("## 최근 1개월 지출 패턴 (중요!)\n");
+            
+            // 총 지출액 계산
+            long totalExpense = expenses.stream()
+                .mapToLong(ExpensePattern::getTotalAmount)
+                .sum();
+            
+            prompt.append(String.format("- 총 지출액: %,d원\n", totalExpense));
+            prompt.append(String.format("- 예산 대비: %d%%\n\n", (totalExpense * 100 / user.getMonthlyBudget())));
+            
+            // 카테고리별 상위 5개
+            prompt.append("### 카테고리별 지출 (상위 5개)\n");
+            int limit = Math.min(5, expenses.size());
+            for (int i = 0; i < limit; i++) {
+                ExpensePattern expense = expenses.get(i);
+                long percentage = (expense.getTotalAmount() * 100) / totalExpense;
+                prompt.append(String.format("%d. %s: %,d원 (%d%%, %d회)\n",
+                    i + 1,
+                    expense.getCategory().getDescription(),
+                    expense.getTotalAmount(),
+                    percentage,
+                    expense.getCount()));
+            }
+            prompt.append("\n");
+        } else {
+            prompt.append("## 최근 1개월 지출 패턴\n");
+            prompt.append("- 아직 지출 내역이 없습니다.\n\n");
+        }
+        
+        // 활성 목표 (있다면)
+        if (!goals.isEmpty()) {
+            prompt.append("## 현재 진행 중인 목표\n");
+            for (Goal goal : goals) {
+                int progress = (int) ((goal.getCurrentAmount() * 100.0) / goal.getTargetAmount());
+                prompt.append(String.format("- %s: %,d원 목표 (현재 %d%% 달성)\n",
+                    goal.getGoalType(), goal.getTargetAmount(), progress));
+            }
+            prompt.append("\n");
+        }
+        
+        // AI의 역할
+        prompt.append("## 당신의 역할과 말투\n");
+        prompt.append("1. 친근하고 격려하는 존댓말 사용\n");
+        prompt.append("2. 이모지를 적절히 활용 (💰, 📊, 💡, 🎯, 👍 등)\n");
+        prompt.append("3. 지출 패턴을 분석해 구체적인 절약 방법 제안\n");
+        prompt.append("4. 비난하지 말고, 개선점을 긍정적으로 제시\n");
+        prompt.append("5. 실천 가능한 작은 변화 제안\n\n");
+        
+        // 대화 진행 가이드
+        prompt.append("## 대화 진행 방법\n");
+        prompt.append("1. 친근하게 인사하며 지출 패턴 언급\n");
+        prompt.append("2. 가장 많이 지출한 카테고리 지적\n");
+        prompt.append("3. 예산 대비 사용률 피드백\n");
+        prompt.append("4. 구체적인 절약 방법 제안\n");
+        prompt.append("5. 사용자의 의견 물어보기\n\n");
+        
+        // 첫 메시지 작성 가이드
+        prompt.append("## 첫 메시지 작성 가이드\n");
+        prompt.append(String.format("- %s님의 이름을 부르며 시작하세요\n", user.getNickname()));
+        
+        if (!expenses.isEmpty()) {
+            ExpensePattern topExpense = expenses.get(0);
+            prompt.append(String.format("- 최근 '%s'에 가장 많이 지출했다는 점을 자연스럽게 언급하세요\n",
+                topExpense.getCategory().getDescription()));
+            
+            // 예산 초과 여부
+            long totalExpense = expenses.stream()
+                .mapToLong(ExpensePattern::getTotalAmount)
+                .sum();
+            if (totalExpense > user.getMonthlyBudget()) {
+                prompt.append("- 예산을 초과했다는 점을 부드럽게 지적하고 절약 방법을 제안하세요\n");
+            } else {
+                prompt.append("- 예산 안에서 잘 관리하고 있다고 칭찬하되, 더 절약할 수 있는 팁을 제공하세요\n");
+            }
+        }
+        
+        return prompt.toString();
+    }
+
+    // 일반 대화용 시스템 프롬프트
+    public String buildGeneralChatPrompt(User user, List<Goal> goals, List<ExpensePattern> expenses) {
+        StringBuilder prompt = new StringBuilder();
+        
+        prompt.append("당신은 Finz의 친근한 AI 재무 코치입니다.\n\n");
+        
+        prompt.append("## 사용자 정보\n");
+        prompt.append(String.format("- 이름: %s\n", user.getNickname()));
+        prompt.append(String.format("- 연령대: %s\n", user.getAgeGroup().getDescription()));
+        prompt.append(String.format("- 직업: %s\n\n", user.getJob().getDescription()));
+
+        prompt.append("## 역할\n");
+        prompt.append("친근하고 격려하는 톤으로 사용자의 재무 관련 질문에 답변하세요.\n");
+        prompt.append("이모지를 적절히 사용하고, 구체적이고 실행 가능한 조언을 제공하세요.\n");
+
+        return prompt.toString();
+    }
+
+    // DB 메시지를 Gemini API 형식으로 변환
+    public List<GeminiMessage> convertToGeminiFormat(List<CoachMessage> messages) {
+        return messages.stream()
+            .map(msg -> GeminiMessage.builder()
+                .role(msg.getSender() == MessageSender.USER ? "user" : "model")
+                .content(msg.getContent())
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    public String buildExpenseFeedbackPrompt(
+            User user,
+            Expense expense,
+            Integer totalSpentThisMonth,
+            Integer remainingBudget,
+            TagExpenseSummary tagSummary
+    ) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("당신은 FiNZ의 긍정적이고 격려하는 AI 재무 코치입니다.\n");
+        prompt.append("사용자가 방금 앱에 지출 내역을 기록했으며, 당신은 이 지출에 대해 **즉각적이고 짧은 피드백**을 제공해야 합니다.\n\n");
+
+        prompt.append("## 1. 사용자 정보\n");
+        prompt.append(String.format("- 이름: %s\n", user.getNickname()));
+        prompt.append(String.format("- 월 목표 예산: %,d원\n\n", user.getMonthlyBudget()));
+
+        prompt.append("## 2. 방금 기록된 지출 (분석 대상)\n");
+        prompt.append(String.format("- 카테고리: %s\n", expense.getCategory().getDescription()));
+        prompt.append(String.format("- 금액: %,d원\n", expense.getAmount()));
+        prompt.append(String.format("- 내용: %s\n", expense.getExpenseName()));
+        if (expense.getExpenseTag() != null && !expense.getExpenseTag().isEmpty()) {
+            prompt.append(String.format("- 태그: #%s\n", expense.getExpenseTag()));
+        }
+        prompt.append("\n");
+
+        prompt.append("## 3. 현재 재무 상태 (중요 맥락)\n");
+        prompt.append(String.format("- 이번 달 총 지출액: %,d원\n", totalSpentThisMonth));
+        prompt.append(String.format("- 남은 예산: %,d원\n\n", remainingBudget));
+
+        // --- (핵심 수정) ---
+        prompt.append("## 4. 태그 심층 분석 (Contextual Insight)\n");
+        if (tagSummary != null) {
+            prompt.append(String.format("- 사용자는 '#%s' 태그를 이번 달에 %d회 사용했습니다.\n",
+                    expense.getExpenseTag(), tagSummary.getCount()));
+            prompt.append(String.format("- 이 태그로만 총 %,d원을 지출했습니다.\n\n",
+                    tagSummary.getTotalAmount()));
+        } else {
+            prompt.append("- 이 지출에는 태그가 없습니다.\n\n");
+        }
+        // --- (수정 끝) ---
+
+        prompt.append("## 5. 당신의 임무 (매우 중요)\n");
+        prompt.append("당신은 **두 부분**으로 구성된 **매우 짧은** 피드백을 생성해야 합니다.\n");
+        prompt.append("1. **(코멘트)**: '방금 기록된 지출(2번)'에 대해 1~2문장으로 긍정적/중립적 코멘트를 하세요.\n");
+        prompt.append("2. **(브리핑)**: '현재 재무 상태(3번)'와 **특히 '태그 분석(4번)'**을 결합하여 **남은 예산**과 **태그 사용 현황**을 간결하게 브리핑하세요.\n\n");
+
+        prompt.append("## 6. 말투 및 제약사항\n");
+        prompt.append("- **절대 비난 금지.** (나쁜 예: '또 돈을 쓰셨네요.')\n");
+        prompt.append("- 긍정적/격려하는 톤, 친근한 존댓말, 이모지 1~2개 사용.\n");
+        prompt.append("- **반드시 한두 문장으로 매우 짧게** 요약하세요.\n");
+        prompt.append(String.format("- UI 예시 (태그 O): '기분 전환 간식이군요! 🧁 이번 달 '#스트레스' 태그로 %s번째 지출이네요. 남은 예산은 %,d원입니다! 🔥'\n",
+                (tagSummary != null ? tagSummary.getCount() : 1), remainingBudget)); // 예시도 동적으로
+        prompt.append(String.format("- UI 예시 (태그 X): '기록 완료! 꼼꼼하시네요 👍. 남은 예산은 %,d원입니다!'\n\n", remainingBudget));
+
+        prompt.append("위 모든 정보를 바탕으로, 사용자의 방금 지출(2번)에 대한 '코멘트'와 '브리핑'을 포함한 피드백을 작성하세요:");
+
+        return prompt.toString();
+    }
+
+    // 지출 일괄 등록 피드백 시스템 프롬프트 생성
+    public String buildExpenseImportFeedbackPrompt(
+            User user,
+            ExpenseBatchImportedEvent event,
+            Integer totalSpentThisMonth,
+            Integer remainingBudget
+    ) {
+        StringBuilder prompt = new StringBuilder();
+
+        prompt.append("당신은 FiNZ의 긍정적이고 격려하는 AI 재무 코치입니다.\n");
+        prompt.append("사용자가 방금 은행/카드 내역 등에서 여러 건의 지출을 **한 번에** 등록했으며, 당신은 이 묶음 전체에 대해 **짧은 요약 피드백**을 제공해야 합니다.\n\n");
+
+        prompt.append("## 1. 사용자 정보\n");
+        prompt.append(String.format("- 이름: %s\n", user.getNickname()));
+        prompt.append(String.format("- 월 목표 예산: %,d원\n\n", user.getMonthlyBudget()));
+
+        prompt.append("## 2. 방금 등록된 지출 묶음 (분석 대상)\n");
+        prompt.append(String.format("- 건수: %d건\n", event.getImportedCount()));
+        prompt.append(String.format("- 총액: %,d원\n", event.getTotalAmount()));
+        prompt.append(String.format("- 기간: %s ~ %s\n", event.getStartDate(), event.getEndDate()));
+        prompt.append("- 카테고리별 합계:\n");
+        event.getCategoryTotals().forEach((category, amount) ->
+                prompt.append(String.format("  - %s: %,d원\n", category.getDescription(), amount)));
+        prompt.append("\n");
+
+        prompt.append("## 3. 현재 재무 상태 (중요 맥락)\n");
+        prompt.append(String.format("- 이번 달 총 지출액: %,d원\n", totalSpentThisMonth));
+        prompt.append(String.format("- 남은 예산: %,d원\n\n", remainingBudget));
+
+        prompt.append("## 4. 당신의 임무 (매우 중요)\n");
+        prompt.append("1. **(코멘트)**: 지출을 한 번에 정리한 것을 칭찬하고, 가장 큰 카테고리를 1문장으로 짚어주세요.\n");
+        prompt.append("2. **(브리핑)**: '현재 재무 상태(3번)'를 바탕으로 **남은 예산**을 간결하게 브리핑하세요.\n\n");
+
+        prompt.append("## 5. 말투 및 제약사항\n");
+        prompt.append("- **절대 비난 금지.**\n");
+        prompt.append("- 긍정적/격려하는 톤, 친근한 존댓말, 이모지 1~2개 사용.\n");
+        prompt.append("- **반드시 두세 문장으로 짧게** 요약하세요. 개별 지출을 하나씩 나열하지 마세요.\n\n");
+
+        prompt.append("위 모든 정보를 바탕으로, 방금 등록된 지출 묶음(2번)에 대한 '코멘트'와 '브리핑'을 포함한 피드백을 작성하세요:");
+
+        return prompt.toString();
+    }
+}
@@ -0,0 +1,179 @@
+package com.finz.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String EXPENSE_FEEDBACK_EXECUTOR = "expenseFeedbackExecutor";
+    public static final String COACH_STREAM_EXECUTOR = "coachStreamExecutor";
+    public static final String COACH_COMPACTION_EXECUTOR = "coachCompactionExecutor";
+    public static final String COACH_DB_SCHEDULER = "coachDbScheduler";
+    public static final String COACH_SSE_SCHEDULER = "coachSseScheduler";
+
+    // 가상 스레드 모드 (spring.threads.virtual.enabled - Tomcat 요청 스레드도 함께 전환)
+    // - 피드백/스트리밍 실행기는 풀 대신 작업마다 가상 스레드를 만들고, 동시 실행 수는 max-size + queue-capacity 로 제한
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${finz.async.expense-feedback.core-size:2}")
+    private int corePoolSize;
+
+    @Value("${finz.async.expense-feedback.max-size:4}")
+    private int maxPoolSize;
+
+    @Value("${finz.async.expense-feedback.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${finz.async.coach-stream.core-size:8}")
+    private int streamCorePoolSize;
+
+    @Value("${finz.async.coach-stream.max-size:32}")
+    private int streamMaxPoolSize;
+
+    @Value("${finz.async.coach-stream.queue-capacity:50}")
+    private int streamQueueCapacity;
+
+    @Value("${finz.async.coach-compaction.core-size:1}")
+    private int compactionCorePoolSize;
+
+    @Value("${finz.async.coach-compaction.max-size:2}")
+    private int compactionMaxPoolSize;
+
+    @Value("${finz.async.coach-compaction.queue-capacity:100}")
+    private int compactionQueueCapacity;
+
+    @Value("${finz.async.coach-db.max-size:10}")
+    private int dbSchedulerMaxSize;
+
+    @Value("${finz.async.coach-db.queue-capacity:1000}")
+    private int dbSchedulerQueueCapacity;
+
+    @Value("${finz.async.coach-sse.max-size:50}")
+    private int sseSchedulerMaxSize;
+
+    @Value("${finz.async.coach-sse.queue-capacity:10000}")
+    private int sseSchedulerQueueCapacity;
+
+    // 지출 기록 AI 피드백 전용 워커 풀
+    // - 큐가 가득 차면 요청 스레드로 넘기지 않고 TaskRejectedException (지출 저장은 이미 커밋된 상태)
+    //   제출한 쪽에서 피드백 생성을 건너뛰고 종료 상태를 남김
+    @Bean(name = EXPENSE_FEEDBACK_EXECUTOR)
+    public AsyncTaskExecutor expenseFeedbackExecutor(MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("finz.expense.feedback.rejected")
+                .description("큐 포화로 생성하지 못한 지출 피드백 수")
+                .register(meterRegistry);
+
+        if (virtualThreads) {
+            BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                    "expense-feedback-", maxPoolSize + queueCapacity, task -> {
+                        rejected.increment();
+                        throw new TaskRejectedException("지출 피드백 동시 실행 한도 초과");
+                    });
+            Gauge.builder("finz.expense.feedback.active", executor, BoundedVirtualThreadExecutor::getActiveCount)
+                    .description("처리 중인 지출 피드백 작업 수")
+                    .register(meterRegistry);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("expense-feedback-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("지출 피드백 큐 포화 (queue: " + pool.getQueue().size() + ")");
+        });
+
+        Gauge.builder("finz.expense.feedback.queue.depth", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("대기 중인 지출 피드백 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("finz.expense.feedback.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("처리 중인 지출 피드백 작업 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    // 코치 응답 스트리밍(SSE) 전용 풀 - 서블릿 스레드는 SseEmitter 반환 즉시 반납
+    // - 포화 시 TaskRejectedException (컨트롤러에서 스트림 에러로 종료)
+    @Bean(name = COACH_STREAM_EXECUTOR)
+    public AsyncTaskExecutor coachStreamExecutor(MeterRegistry meterRegistry) {
+        if (virtualThreads) {
+            BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor(
+                    "coach-stream-", streamMaxPoolSize + streamQueueCapacity, null);
+            Gauge.builder("finz.coach.stream.active", executor, BoundedVirtualThreadExecutor::getActiveCount)
+                    .description("진행 중인 코치 스트리밍 응답 수")
+                    .register(meterRegistry);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamCorePoolSize);
+        executor.setMaxPoolSize(streamMaxPoolSize);
+        executor.setQueueCapacity(streamQueueCapacity);
+        executor.setThreadNamePrefix("coach-stream-");
+
+        Gauge.builder("finz.coach.stream.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("진행 중인 코치 스트리밍 응답 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    // 대화 요약(컴팩션) 전용 풀 - 응답 경로와 분리해 요약 생성이 채팅 응답을 기다리게 하지 않음
+    // - 포화 시 TaskRejectedException (ConversationCompactor 에서 건너뛰고 다음 요청에서 재시도)
+    // - 가상 스레드 모드에서도 플랫폼 풀 유지 (백그라운드 요약이 Gemini 동시 호출 한도를 응답 경로와 나눠 쓰지 않도록 동시 실행 수 고정)
+    @Bean(name = COACH_COMPACTION_EXECUTOR)
+    public AsyncTaskExecutor coachCompactionExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(compactionCorePoolSize);
+        executor.setMaxPoolSize(compactionMaxPoolSize);
+        executor.setQueueCapacity(compactionQueueCapacity);
+        executor.setThreadNamePrefix("coach-compaction-");
+
+        Gauge.builder("finz.coach.compaction.queue.depth", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("대기 중인 대화 요약 작업 수")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    // 논블로킹 코치 응답 경로의 블로킹 작업(메시지 저장, 컨텍스트 조회) 전용 스케줄러
+    // - 스레드 수를 DB 커넥션 풀 크기 이하로 두어 커넥션 대기가 WebClient 이벤트 루프로 번지지 않도록 함
+    // - 대기 작업이 queue-capacity 를 넘으면 RejectedExecutionException (CoachService 에서 대체 응답)
+    @Bean(name = COACH_DB_SCHEDULER, destroyMethod = "dispose")
+    public Scheduler coachDbScheduler() {
+        return Schedulers.newBoundedElastic(dbSchedulerMaxSize, dbSchedulerQueueCapacity, "coach-db");
+    }
+
+    // 스트리밍 응답의 토큰 조각 전달(SseEmitter.send - 블로킹 소켓 쓰기) 전용 스케줄러
+    // - 논블로킹: WebClient 이벤트 루프와 coach-db 스레드가 느린 클라이언트에 묶이지 않도록 분리
+    // - 블로킹(/stream): Gemini 허가/벌크헤드를 쥔 스트림 읽기 스레드가 클라이언트 쓰기를 기다리지 않도록 분리 (SseChunkRelay)
+    // - 대기 작업이 queue-capacity 를 넘으면 RejectedExecutionException (첫 조각 전이면 CoachService 에서 대체 응답, 이후면 스트림 에러로 종료)
+    @Bean(name = COACH_SSE_SCHEDULER, destroyMethod = "dispose")
+    public Scheduler coachSseScheduler() {
+        return Schedulers.newBoundedElastic(sseSchedulerMaxSize, sseSchedulerQueueCapacity, "coach-sse");
+    }
+}
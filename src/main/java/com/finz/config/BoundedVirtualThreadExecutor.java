@@ -0,0 +1,71 @@
+package com.finz.config;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+// 가상 스레드 실행기 (작업마다 새 가상 스레드, 풀/큐 없음)
+// - 동시 실행 수가 상한에 닿으면 대기하지 않고 거절 (스레드 풀의 "큐 포화" 와 같은 역할)
+// - rejectionHandler 가 없으면 TaskRejectedException, 있으면 핸들러 호출 후 작업을 버림
+public class BoundedVirtualThreadExecutor implements AsyncTaskExecutor {
+
+    private final VirtualThreadTaskExecutor delegate;
+    private final Semaphore permits;
+    private final int concurrencyLimit;
+    private final Consumer<Runnable> rejectionHandler;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int concurrencyLimit, Consumer<Runnable> rejectionHandler) {
+        this.delegate = new VirtualThreadTaskExecutor(threadNamePrefix);
+        this.permits = new Semaphore(concurrencyLimit);
+        this.concurrencyLimit = concurrencyLimit;
+        this.rejectionHandler = rejectionHandler;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            if (rejectionHandler != null) {
+                rejectionHandler.accept(task);
+                return;
+            }
+            throw new TaskRejectedException("가상 스레드 동시 실행 한도(" + concurrencyLimit + ") 초과");
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        execute(future);
+        return future;
+    }
+
+    // 실행 중인 작업 수
+    public int getActiveCount() {
+        return concurrencyLimit - permits.availablePermits();
+    }
+}
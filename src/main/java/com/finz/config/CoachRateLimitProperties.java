@@ -0,0 +1,45 @@
+package com.finz.config;
+
+import com.finz.domain.coach.MessageType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// 코치 요청 사용자별 한도 (finz.coach.rate-limit)
+// - MessageType 별 토큰 버킷: refill-period 동안 capacity 개가 고르게 채워지고, 최대 capacity 개까지 연속 요청 가능
+// - types 에 없는 종류는 defaults 적용
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "finz.coach.rate-limit")
+public class CoachRateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 이 시간 동안 요청이 없던 사용자의 버킷은 제거 (다음 요청은 가득 찬 버킷에서 시작)
+    private Duration idleExpiry = Duration.ofMinutes(30);
+
+    private Limit defaults = new Limit(10, Duration.ofMinutes(1));
+
+    private Map<MessageType, Limit> types = new EnumMap<>(MessageType.class);
+
+    public Limit limitFor(MessageType messageType) {
+        return types.getOrDefault(messageType, defaults);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;
+        private Duration refillPeriod;
+    }
+}
@@ -0,0 +1,35 @@
+package com.finz.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// DataSource 를 datasource-proxy 로 감싸 JDBC 문장마다 SlowQueryListener 호출
+// - Hibernate StatementInspector 는 실행 전 SQL 만 볼 수 있어 실행 시간은 JDBC 계층에서 측정
+// - JPA / Flyway / JdbcTemplate(ExpenseJdbcWriter) 모두 같은 프록시를 거침
+// - Hikari 메트릭 / 헬스 체크는 unwrap 으로 원본 HikariDataSource 를 찾으므로 그대로 동작
+@Configuration
+public class DataSourceProxyConfig {
+
+    // static - BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 리스너(MeterRegistry)는 감쌀 때 조회
+    @Bean
+    public static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<SlowQueryListener> slowQueryListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(slowQueryListener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.finz.config;
+
+import com.finz.infrastructure.gemini.GeminiPriority;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Gemini 호출 허가 배분 설정 (gemini.fair-share)
+// - 전체 허가 수는 벌크헤드 한도(gemini.resilience.max-concurrent-calls)
+// - priorities 에 없는 우선순위는 defaults 적용
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gemini.fair-share")
+public class GeminiFairShareProperties {
+
+    private boolean enabled = true;
+
+    // 사용자 한 명이 우선순위마다 동시에 쥘 수 있는 허가 수 (백그라운드 작업이 같은 사용자의 대화 요청 몫을 쓰지 않음)
+    private int perUserMaxConcurrent = 2;
+
+    private Lane defaults = new Lane(1, 1.0, Duration.ofSeconds(3), Duration.ZERO);
+
+    private Map<GeminiPriority, Lane> priorities = new EnumMap<>(GeminiPriority.class);
+
+    public Lane laneFor(GeminiPriority priority) {
+        return priorities.getOrDefault(priority, defaults);
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Lane {
+        // 대기자가 있는 우선순위끼리 허가를 weight 비율로 나눔
+        private int weight = 1;
+        // 이 우선순위가 동시에 쥘 수 있는 허가 비율 (나머지는 상위 우선순위 몫으로 남김)
+        private double maxShare = 1.0;
+        // 허가 대기 상한 - 넘으면 GeminiUnavailableException
+        private Duration maxWait = Duration.ofSeconds(3);
+        // 이 시간 넘게 기다린 대기자가 있으면 비율과 무관하게 먼저 배분 (0 이면 사용 안 함)
+        private Duration agingAfter = Duration.ZERO;
+    }
+}
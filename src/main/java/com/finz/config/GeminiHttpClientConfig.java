@@ -0,0 +1,125 @@
+package com.finz.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.SSLConnectionSocketFactoryBuilder;
+import org.apache.hc.core5.http.ssl.TLS;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+// Gemini API 전용 HTTP 클라이언트 (커넥션 풀 + keep-alive + 타임아웃)
+// - RestTemplate(Apache HttpClient, 블로킹) / WebClient(Reactor Netty, 논블로킹) 두 경로
+@Configuration
+public class GeminiHttpClientConfig {
+
+    @Value("${gemini.http.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${gemini.http.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${gemini.http.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${gemini.http.pool-acquire-timeout:2s}")
+    private Duration poolAcquireTimeout;
+
+    @Value("${gemini.http.keep-alive:60s}")
+    private Duration keepAlive;
+
+    @Value("${gemini.http.connection-ttl:5m}")
+    private Duration connectionTtl;
+
+    @Bean
+    public PoolingHttpClientConnectionManager geminiConnectionManager(MeterRegistry meterRegistry) {
+        // 동일한 SSLContext를 재사용해야 JSSE 세션 캐시로 TLS 세션 재개가 가능
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setSSLSocketFactory(SSLConnectionSocketFactoryBuilder.create()
+                        .setSslContext(SSLContexts.createSystemDefault())
+                        .setTlsVersions(TLS.V_1_3, TLS.V_1_2)
+                        .build())
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO) // 최근 사용한(살아있는) 커넥션 우선 재사용
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections) // Gemini 단일 호스트
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        .setTimeToLive(TimeValue.of(connectionTtl))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "gemini")
+                .bindTo(meterRegistry);
+
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient geminiHttpClient(PoolingHttpClientConnectionManager geminiConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(geminiConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(poolAcquireTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> TimeValue.of(keepAlive))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(keepAlive))
+                .disableAutomaticRetries() // 재시도는 GeminiApiClient에서 제어
+                .build();
+    }
+
+    @Bean
+    public RestTemplate geminiRestTemplate(CloseableHttpClient geminiHttpClient) {
+        return new RestTemplate(new HttpComponentsClientHttpRequestFactory(geminiHttpClient));
+    }
+
+    // 논블로킹 경로(ReactiveGeminiClient)용 Reactor Netty 커넥션 풀 - 위 풀과 같은 한도/타임아웃
+    // - 응답 대기 중인 호출은 스레드 없이 이벤트 루프에서 대기하므로, 동시 호출 수는 연결 수와 벌크헤드로만 제한
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider geminiConnectionProvider() {
+        return ConnectionProvider.builder("gemini")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(poolAcquireTimeout)
+                .maxIdleTime(keepAlive)
+                .maxLifeTime(connectionTtl)
+                .evictInBackground(keepAlive)
+                .lifo() // 최근 사용한(살아있는) 커넥션 우선 재사용
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient geminiWebClient(WebClient.Builder builder, ConnectionProvider geminiConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(geminiConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout); // 응답 읽기 사이 최대 간격 (스트리밍 조각 사이 포함)
+
+        return builder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package com.finz.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+
+// Gemini API 장애 격리 설정 (서킷 브레이커 + 동시 호출 제한)
+@Configuration
+public class GeminiResilienceConfig {
+
+    public static final String GEMINI = "gemini";
+
+    @Value("${gemini.resilience.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${gemini.resilience.sliding-window-size:20}")
+    private int slidingWindowSize;
+
+    @Value("${gemini.resilience.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${gemini.resilience.open-duration:30s}")
+    private Duration openDuration;
+
+    @Value("${gemini.resilience.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    @Value("${gemini.resilience.max-concurrent-calls:20}")
+    private int maxConcurrentCalls;
+
+    @Value("${gemini.resilience.max-wait:200ms}")
+    private Duration maxWait;
+
+    // OPEN 후 openDuration이 지나면 HALF_OPEN으로 전환되어 halfOpenCalls개의 요청으로 복구 여부를 확인
+    @Bean
+    public CircuitBreaker geminiCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .waitDurationInOpenState(openDuration)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .permittedNumberOfCallsInHalfOpenState(halfOpenCalls)
+                .recordException(GeminiResilienceConfig::isTransientFailure)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+
+        return registry.circuitBreaker(GEMINI);
+    }
+
+    // 진행 중인 LLM 호출 수 상한 - 초과 시 자리가 날 때까지 최대 max-wait 대기 (기본 200ms, 가상 스레드 프로필 1s), 그래도 없으면 BulkheadFullException
+    @Bean
+    public Bulkhead geminiBulkhead(MeterRegistry meterRegistry) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(maxWait)
+                .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+
+        return registry.bulkhead(GEMINI);
+    }
+
+    // 일시적 장애 여부 (5xx, 429, 타임아웃/연결 오류) - 재시도 및 서킷 실패 집계 대상
+    // - RestTemplate(ResourceAccessException/HttpStatusCodeException), WebClient(WebClientRequestException/WebClientResponseException) 공통
+    public static boolean isTransientFailure(Throwable e) {
+        if (e instanceof ResourceAccessException || e instanceof WebClientRequestException) {
+            return true;
+        }
+        if (e instanceof HttpStatusCodeException statusException) {
+            return isTransientStatus(statusException.getStatusCode().value());
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return isTransientStatus(responseException.getStatusCode().value());
+        }
+        return false;
+    }
+
+    private static boolean isTransientStatus(int status) {
+        return status == 429 || status == 500 || status == 502 || status == 503 || status == 504;
+    }
+}
@@ -0,0 +1,115 @@
+package com.finz.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.finz.dto.GlobalResponseDto;
+import com.finz.dto.coach.CoachHistoryPageDto;
+import com.finz.dto.coach.CoachMessageDto;
+import com.finz.dto.coach.CoachResponseDto;
+import com.finz.dto.expense.CreateExpenseResponseDto;
+import com.finz.dto.expense.ExpenseDetailResponseDto;
+import com.finz.dto.goal.GoalResponseDto;
+import com.finz.dto.home.CalendarResponseDto;
+import com.finz.dto.home.HomeDashboardResponseDto;
+import com.finz.dto.home.HomeDetailsResponseDto;
+import com.finz.dto.home.HomeHighlightResponseDto;
+import com.finz.dto.home.HomeSummaryResponseDto;
+import com.finz.exception.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// API 응답 인코딩 (모바일 클라이언트 페이로드 / 직렬화 비용)
+// - Accept 헤더로 JSON 외에 CBOR(application/cbor), Smile(application/x-jackson-smile) 협상
+//   (필드명/값은 JSON 과 같은 ObjectMapper 설정 - 이진 인코딩만 다름, Accept 가 없거나 */* 이면 JSON)
+// - Blackbird: 게터/세터 호출을 리플렉션 대신 LambdaMetafactory 로 만든 접근자로 (JSON / CBOR / Smile 공통)
+// - 시작 시 응답 DTO 직렬화기를 미리 만들어 첫 요청들이 직렬화기 생성 비용을 내지 않도록
+// - 응답 압축(gzip)은 server.compression (SSE 는 조각 단위 전송을 위해 제외)
+@Slf4j
+@Configuration
+public class JacksonConfig implements WebMvcConfigurer {
+
+    // GlobalResponseDto/ApiResponse 의 data 는 런타임 타입으로 직렬화기를 찾으므로 내용 DTO 도 포함
+    private static final List<Class<?>> WARMUP_TYPES = List.of(
+            GlobalResponseDto.class,
+            ApiResponse.class,
+            CoachResponseDto.class,
+            CoachHistoryPageDto.class,
+            CoachMessageDto.class,
+            HomeDashboardResponseDto.class,
+            HomeSummaryResponseDto.class,
+            HomeHighlightResponseDto.class,
+            HomeDetailsResponseDto.class,
+            CalendarResponseDto.class,
+            CreateExpenseResponseDto.class,
+            ExpenseDetailResponseDto.class,
+            GoalResponseDto.class
+    );
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> mapperBuilders;
+    private final ObjectProvider<ObjectMapper> jsonMapper;
+    private final List<ObjectMapper> binaryMappers = new ArrayList<>();
+
+    public JacksonConfig(ObjectProvider<Jackson2ObjectMapperBuilder> mapperBuilders, ObjectProvider<ObjectMapper> jsonMapper) {
+        this.mapperBuilders = mapperBuilders;
+        this.jsonMapper = jsonMapper;
+    }
+
+    // Spring Boot 가 Module 빈을 모든 Jackson2ObjectMapperBuilder 에 등록 (static - ObjectMapper 생성이 이 설정에 의존하지 않도록)
+    @Bean
+    public static Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    // 기본 CBOR/Smile 컨버터는 Boot 설정(모듈, 날짜 형식 등)이 빠진 ObjectMapper 를 쓰므로 같은 자리에서 교체
+    // - JSON 컨버터 뒤에 두어 Accept 가 없거나 */* 인 요청은 계속 JSON
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ObjectMapper cborMapper = mapperBuilders.getObject().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = mapperBuilders.getObject().factory(new SmileFactory()).build();
+        binaryMappers.add(cborMapper);
+        binaryMappers.add(smileMapper);
+
+        replaceOrAdd(converters, MappingJackson2CborHttpMessageConverter.class, new MappingJackson2CborHttpMessageConverter(cborMapper));
+        replaceOrAdd(converters, MappingJackson2SmileHttpMessageConverter.class, new MappingJackson2SmileHttpMessageConverter(smileMapper));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpSerializers() {
+        List<ObjectMapper> mappers = new ArrayList<>(binaryMappers);
+        mappers.add(0, jsonMapper.getObject());
+
+        for (ObjectMapper mapper : mappers) {
+            for (Class<?> type : WARMUP_TYPES) {
+                // 루트 타입 직렬화기를 미리 찾음 (ObjectMapper 의 직렬화기 캐시에 저장되어 요청 간 공유)
+                mapper.writerFor(type);
+            }
+        }
+        log.info("응답 DTO 직렬화기 준비 완료 - 인코딩 {}개, 타입 {}개", mappers.size(), WARMUP_TYPES.size());
+    }
+
+    private static void replaceOrAdd(List<HttpMessageConverter<?>> converters,
+                                     Class<?> type, HttpMessageConverter<?> converter) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                converters.set(i, converter);
+                return;
+            }
+        }
+        converters.add(converter);
+    }
+}
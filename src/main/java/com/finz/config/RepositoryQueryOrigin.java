@@ -0,0 +1,59 @@
+package com.finz.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// JDBC 문장을 실행시킨 리포지토리 메서드 기록 (SlowQueryListener 의 메트릭 태그 / 느린 쿼리 로그용)
+// - Spring Data 리포지토리와 @Repository 빈(ExpenseJdbcWriter) 호출 동안 현재 스레드에 저장
+// - 중첩 호출은 가장 안쪽 메서드, 리포지토리 밖에서 실행된 문장(커밋 시 flush, 지연 로딩, Flyway)은 NONE
+@Aspect
+@Component
+public class RepositoryQueryOrigin {
+
+    public static final Origin NONE = new Origin("None", "None");
+
+    private static final ThreadLocal<Origin> CURRENT = new ThreadLocal<>();
+    private static final Map<Class<?>, String> NAMES = new ConcurrentHashMap<>();
+
+    public record Origin(String repository, String method) {
+    }
+
+    public static Origin current() {
+        Origin origin = CURRENT.get();
+        return origin == null ? NONE : origin;
+    }
+
+    @Around("this(org.springframework.data.repository.Repository) || @within(org.springframework.stereotype.Repository)")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        Origin previous = CURRENT.get();
+        CURRENT.set(new Origin(repositoryName(joinPoint.getThis()), joinPoint.getSignature().getName()));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    // Spring Data 리포지토리는 JDK 프록시이므로 구현한 리포지토리 인터페이스 이름 (save 등 상속 메서드도 ExpenseRepository 로)
+    private static String repositoryName(Object bean) {
+        return NAMES.computeIfAbsent(ClassUtils.getUserClass(bean), type -> {
+            for (Class<?> ifc : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (Repository.class.isAssignableFrom(ifc) && !ifc.getName().startsWith("org.springframework.")) {
+                    return ifc.getSimpleName();
+                }
+            }
+            return type.getSimpleName();
+        });
+    }
+}
@@ -0,0 +1,58 @@
+package com.finz.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+// 서비스 계층 메서드 실행 시간 (finz.service.invocations)
+// - 태그: service(클래스명) / method / state(SUCCESS|ERROR) / exception(예외 클래스명, 없으면 None)
+//   리포지토리 메트릭(spring.data.repository.invocations)과 같은 태그 구성
+// - 같은 빈 내부 호출(self-invocation)은 프록시를 거치지 않으므로 집계되지 않음
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.finz.service..*) && @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            stop(sample, joinPoint, e);
+            throw e;
+        }
+
+        // 비동기 결과(CompletableFuture)는 완료 시점까지 측정
+        if (result instanceof CompletionStage<?> stage) {
+            return stage.whenComplete((value, e) -> stop(sample, joinPoint, unwrap(e)));
+        }
+        stop(sample, joinPoint, null);
+        return result;
+    }
+
+    private void stop(Timer.Sample sample, ProceedingJoinPoint joinPoint, Throwable error) {
+        String exception = error == null ? "None" : error.getClass().getSimpleName();
+        sample.stop(Timer.builder("finz.service.invocations")
+                .description("서비스 메서드 실행 시간")
+                .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("state", error == null ? "SUCCESS" : "ERROR")
+                .tag("exception", exception)
+                .register(meterRegistry));
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
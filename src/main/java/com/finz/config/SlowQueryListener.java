@@ -0,0 +1,106 @@
+package com.finz.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// JDBC 문장 실행 시간 (DataSourceProxyConfig 가 감싼 DataSource 에서 호출)
+// - 모든 문장: finz.db.query 타이머 (태그: repository / method / operation / state, 히스토그램은 management.metrics.distribution)
+// - threshold 를 넘은 문장은 WARN 로그 - 바인딩 값은 남기지 않고(개수만), SQL 안의 문자열/숫자 리터럴도 ? 로 가림
+// - threshold 미만 문장은 sample-rate 비율만 INFO 로그 (같은 방식으로 가림, 기본 0 = 남기지 않음)
+// - show_sql 과 달리 샘플링되지 않은 빠른 문장은 문자열을 만들거나 출력하지 않음
+@Slf4j
+@Component
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^'\\\\]|''|\\\\.)*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final MeterRegistry meterRegistry;
+    private final long thresholdMillis;
+    private final double sampleRate;
+    private final int maxSqlLength;
+
+    public SlowQueryListener(
+            MeterRegistry meterRegistry,
+            @Value("${finz.persistence.slow-query.threshold:200ms}") Duration threshold,
+            @Value("${finz.persistence.slow-query.sample-rate:0}") double sampleRate,
+            @Value("${finz.persistence.slow-query.max-sql-length:1000}") int maxSqlLength) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdMillis = threshold.toMillis();
+        this.sampleRate = Math.max(0, Math.min(1, sampleRate));
+        this.maxSqlLength = maxSqlLength;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RepositoryQueryOrigin.Origin origin = RepositoryQueryOrigin.current();
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        long elapsedMillis = execInfo.getElapsedTime();
+
+        Timer.builder("finz.db.query")
+                .description("JDBC 문장 실행 시간 (실행시킨 리포지토리 메서드별)")
+                .tag("repository", origin.repository())
+                .tag("method", origin.method())
+                .tag("operation", operation(sql))
+                .tag("state", execInfo.isSuccess() ? "SUCCESS" : "ERROR")
+                .register(meterRegistry)
+                .record(elapsedMillis, TimeUnit.MILLISECONDS);
+
+        if (elapsedMillis >= thresholdMillis) {
+            log.warn("느린 쿼리 {}ms (기준 {}ms) - {}.{} - batch: {}, 바인딩: {}개, 성공: {} - {}",
+                    elapsedMillis, thresholdMillis, origin.repository(), origin.method(),
+                    execInfo.isBatch() ? execInfo.getBatchSize() : 0, parameterCount(queryInfoList),
+                    execInfo.isSuccess(), redact(sql));
+        } else if (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            log.info("쿼리 샘플 {}ms - {}.{} - batch: {}, 바인딩: {}개, 성공: {} - {}",
+                    elapsedMillis, origin.repository(), origin.method(),
+                    execInfo.isBatch() ? execInfo.getBatchSize() : 0, parameterCount(queryInfoList),
+                    execInfo.isSuccess(), redact(sql));
+        }
+    }
+
+    private static String operation(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        String keyword = trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+
+    private static int parameterCount(List<QueryInfo> queryInfoList) {
+        return queryInfoList.stream()
+                .flatMap(queryInfo -> queryInfo.getParametersList().stream())
+                .mapToInt(List::size)
+                .sum();
+    }
+
+    private String redact(String sql) {
+        String redacted = STRING_LITERAL.matcher(sql).replaceAll("?");
+        redacted = NUMERIC_LITERAL.matcher(redacted).replaceAll("?");
+        redacted = WHITESPACE.matcher(redacted).replaceAll(" ").trim();
+        return redacted.length() > maxSqlLength ? redacted.substring(0, maxSqlLength) + "..." : redacted;
+    }
+}
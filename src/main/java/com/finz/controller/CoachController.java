@@ -1,18 +1,31 @@
 package com.finz.controller;
 
+import com.finz.config.AsyncConfig;
 import com.finz.dto.GlobalResponseDto;
+import com.finz.dto.coach.CoachHistoryPageDto;
 import com.finz.dto.coach.CoachMessageDto;
 import com.finz.dto.coach.CoachResponseDto;
 import com.finz.dto.coach.MessageRequest;
+import com.finz.service.CoachRateLimiter;
 import com.finz.service.CoachService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @RestController
@@ -22,6 +35,14 @@ import java.util.List;
 public class CoachController {
     
     private final CoachService coachService;
+
+    private final CoachRateLimiter rateLimiter;
+
+    @Qualifier(AsyncConfig.COACH_STREAM_EXECUTOR)
+    private final TaskExecutor streamExecutor;
+
+    @Value("${finz.coach.stream-timeout-ms:120000}")
+    private long streamTimeoutMs;
     
     // 목표 상담 요청
     @PostMapping("/goal-consult/{userId}")
@@ -59,13 +80,146 @@ public class CoachController {
         return ResponseEntity.ok(response);
     }
 
+    // 메시지 전송 - 스트리밍 (SSE)
+    // - event "chunk": 토큰 조각 / event "done": 완성된 응답(CoachResponseDto)
+    @PostMapping(value = "/message/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "메시지 전송 (스트리밍)", description = "AI 코치의 응답을 생성되는 즉시 Server-Sent Events로 전달합니다.")
+    public SseEmitter streamMessage(
+            @PathVariable Long userId,
+            @RequestBody MessageRequest request) {
+        log.info("메시지 스트리밍 요청 - userId: {}, type: {}", userId, request.getMessageType());
+        // 한도 초과는 스트림을 열기 전에 429로 응답 (스트리밍은 중복 제거 대상이 아니라 요청마다 Gemini 를 호출하므로 여기서 차감)
+        rateLimiter.acquire(userId, request.getMessageType());
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        // 클라이언트 연결이 끊겨도 스트림은 끝까지 받아 저장 (대화 내역에서 확인 가능)
+        AtomicBoolean clientGone = new AtomicBoolean(false);
+
+        try {
+            streamExecutor.execute(() -> {
+                try {
+                    CoachResponseDto response = coachService.streamResponse(userId, request,
+                            chunk -> sendChunk(emitter, clientGone, userId, chunk));
+                    sendDone(emitter, clientGone, response);
+                } catch (Exception e) {
+                    log.error("메시지 스트리밍 실패 - userId: {}", userId, e);
+                    emitter.completeWithError(e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.warn("스트리밍 작업 풀 포화 - userId: {}", userId);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
+    // 메시지 전송 - 논블로킹 (Gemini 응답 대기 동안 서블릿/워커 스레드를 점유하지 않음)
+    @PostMapping("/message/{userId}/async")
+    @Operation(summary = "메시지 전송 (비동기)", description = "사용자 메시지를 전송하고 AI 코치의 응답을 받습니다. 응답 대기 중 서버 스레드를 점유하지 않습니다.")
+    public CompletableFuture<ResponseEntity<CoachResponseDto>> sendMessageAsync(
+            @PathVariable Long userId,
+            @RequestBody MessageRequest request) {
+        log.info("메시지 전송 (비동기) - userId: {}, type: {}", userId, request.getMessageType());
+
+        return coachService.generateResponseAsync(userId, request)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    // 메시지 전송 - 논블로킹 스트리밍 (SSE, 이벤트 형식은 /stream 과 동일)
+    // - 스트리밍 풀(coach-stream) 스레드 없이 WebClient 이벤트 루프에서 조각 전달
+    @PostMapping(value = "/message/{userId}/stream/async", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "메시지 전송 (비동기 스트리밍)", description = "AI 코치의 응답을 생성되는 즉시 Server-Sent Events로 전달합니다. 응답 대기 중 서버 스레드를 점유하지 않습니다.")
+    public SseEmitter streamMessageAsync(
+            @PathVariable Long userId,
+            @RequestBody MessageRequest request) {
+        log.info("메시지 스트리밍 요청 (비동기) - userId: {}, type: {}", userId, request.getMessageType());
+        // 한도 초과는 스트림을 열기 전에 429로 응답 (/stream 과 동일)
+        rateLimiter.acquire(userId, request.getMessageType());
+
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        AtomicBoolean clientGone = new AtomicBoolean(false);
+
+        coachService.streamResponseAsync(userId, request, chunk -> sendChunk(emitter, clientGone, userId, chunk))
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        log.error("메시지 스트리밍 실패 - userId: {}", userId, e);
+                        emitter.completeWithError(e);
+                        return;
+                    }
+                    try {
+                        sendDone(emitter, clientGone, response);
+                    } catch (IOException | IllegalStateException sendError) {
+                        emitter.completeWithError(sendError);
+                    }
+                });
+
+        return emitter;
+    }
+
+    // 클라이언트 연결이 끊긴 뒤의 조각은 버림 (응답은 끝까지 받아 저장)
+    private void sendChunk(SseEmitter emitter, AtomicBoolean clientGone, Long userId, String chunk) {
+        if (clientGone.get()) {
+            return;
+        }
+        try {
+            emitter.send(SseEmitter.event().name("chunk").data(chunk));
+        } catch (IOException | IllegalStateException e) {
+            clientGone.set(true);
+            log.info("스트리밍 클라이언트 연결 종료 - userId: {}", userId);
+        }
+    }
+
+    private void sendDone(SseEmitter emitter, AtomicBoolean clientGone, CoachResponseDto response) throws IOException {
+        if (!clientGone.get()) {
+            emitter.send(SseEmitter.event().name("done").data(response, MediaType.APPLICATION_JSON));
+            emitter.complete();
+        }
+    }
+
     // 그간의 대화 내역 조회
     @GetMapping("/history/{userId}")
-    @Operation(summary = "대화 내역 조회", description = "AI 코치와의 전체 대화 내역을 조회합니다.")
+    @Operation(summary = "대화 내역 조회",
+            description = "AI 코치와의 전체 대화 내역을 조회합니다. 대화가 길면 페이지 단위 조회(/history/{userId}/page)를 사용하세요.")
     public ResponseEntity<List<CoachMessageDto>> getChatHistory(@PathVariable Long userId) {
         log.info("대화 내역 조회 요청 - userId: {}", userId);
 
         List<CoachMessageDto> history = coachService.getChatHistory(userId);
         return ResponseEntity.ok(history);
     }
+
+    // 대화 내역 페이지 조회 (최신 페이지부터, "이전 대화 더보기"는 nextCursor 로)
+    @GetMapping("/history/{userId}/page")
+    @Operation(summary = "대화 내역 페이지 조회",
+            description = "AI 코치와의 대화 내역을 최신 페이지부터 조회합니다. 이전 대화는 응답의 nextCursor를 cursor로 전달해 불러옵니다.")
+    public ResponseEntity<CoachHistoryPageDto> getChatHistoryPage(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        log.info("대화 내역 페이지 조회 요청 - userId: {}, cursor: {}", userId, cursor);
+
+        CoachHistoryPageDto history = coachService.getChatHistoryPage(userId, cursor, size);
+        return ResponseEntity.ok(history);
+    }
+
+    // 지출 기록 AI 피드백 조회 (비동기 생성 - 준비 전이면 202, 피드백 없이 끝났으면 410)
+    @GetMapping("/expense-feedback/{expenseId}")
+    @Operation(summary = "지출 기록 피드백 조회",
+            description = "지출 기록에 대한 AI 코치 피드백을 조회합니다. 생성 중이면 202, 생성 실패/생략(한도 초과, 일괄 등록 등)으로 피드백이 없으면 410, 지출이 없으면 404를 반환합니다.")
+    public ResponseEntity<GlobalResponseDto<CoachMessageDto>> getExpenseFeedback(@PathVariable Long expenseId) {
+        log.info("지출 피드백 조회 요청 - expenseId: {}", expenseId);
+
+        return coachService.getExpenseFeedback(expenseId)
+                .map(feedback -> ResponseEntity.ok(GlobalResponseDto.<CoachMessageDto>builder()
+                        .status(200)
+                        .success(true)
+                        .message("지출 피드백 조회 성공")
+                        .data(feedback)
+                        .build()))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.ACCEPTED).body(GlobalResponseDto.<CoachMessageDto>builder()
+                        .status(202)
+                        .success(true)
+                        .message("AI 피드백을 생성 중입니다. 잠시 후 다시 조회해주세요.")
+                        .build()));
+    }
 }
@@ -2,11 +2,23 @@ package com.finz.controller;
 import com.finz.dto.GlobalResponseDto;
 import com.finz.dto.expense.CreateExpenseResponseDto;
 import com.finz.dto.expense.ExpenseDetailResponseDto;
+import com.finz.dto.expense.ExpenseImportResponseDto;
 import com.finz.dto.expense.ExpenseRequestDto;
+import com.finz.service.ExpenseImportService;
 import com.finz.service.ExpenseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -14,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class ExpenseController {
 
     private final ExpenseService expenseService;
+    private final ExpenseImportService expenseImportService;
     // private final AuthService authService; // 실제로는 토큰 검증 로직 필요
 
     @PostMapping
@@ -35,6 +48,37 @@ public class ExpenseController {
         return ResponseEntity.ok(response);
     }
 
+    // 지출 일괄 등록 (JSON 배열) - 요청 본문을 스트리밍으로 읽어 행 단위 검증
+    @PostMapping(value = "/import/{userId}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "지출 일괄 등록 (JSON)",
+            description = "지출 배열을 한 번에 등록합니다. 형식/검증 오류 행만 거절하고 나머지는 등록하며, 거절 사유는 행 번호와 함께 반환합니다. "
+                    + "문법 오류이거나 최대 건수를 넘으면 400을 반환합니다.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true, content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    array = @ArraySchema(schema = @Schema(implementation = ExpenseRequestDto.class)))))
+    public ResponseEntity<GlobalResponseDto<ExpenseImportResponseDto>> importExpensesJson(
+            @PathVariable Long userId,
+            HttpServletRequest request
+    ) throws IOException {
+        ExpenseImportResponseDto data = expenseImportService.importJson(userId, request.getInputStream());
+        return ResponseEntity.ok(importResponse(data));
+    }
+
+    // 지출 일괄 등록 (CSV 업로드, 헤더: expense_name,amount,category,expense_tag,memo,payment_method,expense_date)
+    @PostMapping(value = "/import/{userId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "지출 일괄 등록 (CSV)",
+            description = "CSV 파일(헤더: expense_name,amount,category,expense_tag,memo,payment_method,expense_date)의 지출을 한 번에 등록합니다. "
+                    + "형식/검증 오류 행만 거절하고 나머지는 등록하며, 최대 건수를 넘으면 400을 반환합니다.")
+    public ResponseEntity<GlobalResponseDto<ExpenseImportResponseDto>> importExpensesCsv(
+            @PathVariable Long userId,
+            @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        try (InputStream inputStream = file.getInputStream()) {
+            ExpenseImportResponseDto data = expenseImportService.importCsv(userId, inputStream);
+            return ResponseEntity.ok(importResponse(data));
+        }
+    }
+
     @PutMapping("/{expenseId}")
     public ResponseEntity<GlobalResponseDto<CreateExpenseResponseDto>> updateExpense(
             @PathVariable Long expenseId,
@@ -85,4 +129,13 @@ public class ExpenseController {
 
         return ResponseEntity.ok(response);
     }
+
+    private GlobalResponseDto<ExpenseImportResponseDto> importResponse(ExpenseImportResponseDto data) {
+        return GlobalResponseDto.<ExpenseImportResponseDto>builder()
+                .status(200)
+                .success(true)
+                .message(String.format("지출 %d건이 등록되었습니다.", data.getImportedCount()))
+                .data(data)
+                .build();
+    }
 }
\ No newline at end of file
@@ -2,19 +2,25 @@ package com.finz.controller;
 
 import com.finz.dto.GlobalResponseDto; // (GlobalResponseDto 경로)
 import com.finz.dto.home.CalendarResponseDto;
+import com.finz.dto.home.HomeDashboardResponseDto;
 import com.finz.dto.home.HomeDetailsResponseDto;
 import com.finz.dto.home.HomeHighlightResponseDto;
 import com.finz.dto.home.HomeSummaryResponseDto;
 import com.finz.service.HomeService;
+import com.finz.service.UserDataVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -25,26 +31,51 @@ public class HomeController {
 
     private final HomeService homeService;
 
+    private final UserDataVersionService dataVersionService;
+
+    @GetMapping("/dashboard")
+    @Operation(summary = "홈 대시보드 조회", description = "요약, 이번 주 하이라이트, 이번 달 달력을 한 번에 조회합니다.")
+    public ResponseEntity<GlobalResponseDto<HomeDashboardResponseDto>> getHomeDashboard(
+            @RequestParam("user_id") Long userId,
+            WebRequest webRequest
+    ) {
+
+        // TODO: (보안) MVP 이후, Spring Security에서 인증된 ID를 가져오도록 수정.
+        log.info("홈 대시보드 조회 요청 - userId: {}", userId);
+
+        return conditional(webRequest, userId, "dashboard", () -> {
+            HomeDashboardResponseDto data = homeService.getHomeDashboard(userId);
+
+            return GlobalResponseDto.<HomeDashboardResponseDto>builder()
+                    .status(200)
+                    .success(true)
+                    .message("홈 대시보드 조회 성공")
+                    .data(data)
+                    .build();
+        });
+    }
+
     @GetMapping("/summary")
     @Operation(summary = "홈 화면 요약 정보 조회", description = "이번 달 총 지출, 남은 예산, 진행률을 조회합니다.")
     public ResponseEntity<GlobalResponseDto<HomeSummaryResponseDto>> getHomeSummary(
-            @RequestParam("user_id") Long userId
+            @RequestParam("user_id") Long userId,
+            WebRequest webRequest
     ) {
 
         // TODO: (보안) 추후 Spring Security로 사용자 인증 구현
 
         log.info("홈 요약 정보 조회 요청 - userId: {}", userId);
 
-        HomeSummaryResponseDto data = homeService.getHomeSummary(userId);
-
-        GlobalResponseDto<HomeSummaryResponseDto> response = GlobalResponseDto.<HomeSummaryResponseDto>builder()
-                .status(200)
-                .success(true)
-                .message("요약 정보 조회 성공")
-                .data(data)
-                .build();
+        return conditional(webRequest, userId, "summary", () -> {
+            HomeSummaryResponseDto data = homeService.getHomeSummary(userId);
 
-        return ResponseEntity.ok(response);
+            return GlobalResponseDto.<HomeSummaryResponseDto>builder()
+                    .status(200)
+                    .success(true)
+                    .message("요약 정보 조회 성공")
+                    .data(data)
+                    .build();
+        });
     }
 
     @GetMapping("/details")
@@ -52,44 +83,46 @@ public class HomeController {
     public ResponseEntity<GlobalResponseDto<HomeDetailsResponseDto>> getHomeDetails(
             @RequestParam("user_id") Long userId,
             // "2025-10-15" 형식의 문자열을 LocalDate로 자동 변환
-            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+            @RequestParam("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest
     ) {
 
         // TODO: (보안)
 
         log.info("홈 세부 내역 조회 요청 - userId: {}, date: {}", userId, date);
 
-        HomeDetailsResponseDto data = homeService.getHomeDetails(userId, date);
+        return conditional(webRequest, userId, "details-" + date, () -> {
+            HomeDetailsResponseDto data = homeService.getHomeDetails(userId, date);
 
-        GlobalResponseDto<HomeDetailsResponseDto> response = GlobalResponseDto.<HomeDetailsResponseDto>builder()
-                .status(200)
-                .success(true)
-                .message("세부 내역 조회 성공")
-                .data(data)
-                .build();
-
-        return ResponseEntity.ok(response);
+            return GlobalResponseDto.<HomeDetailsResponseDto>builder()
+                    .status(200)
+                    .success(true)
+                    .message("세부 내역 조회 성공")
+                    .data(data)
+                    .build();
+        });
     }
 
     @GetMapping("/highlight")
     @Operation(summary = "홈 화면 하이라이트 조회", description = "이번 주 하이라이트(지난주 대비)를 조회합니다.")
     public ResponseEntity<GlobalResponseDto<HomeHighlightResponseDto>> getHomeHighlight(
-            @RequestParam("user_id") Long userId
+            @RequestParam("user_id") Long userId,
+            WebRequest webRequest
     ) {
 
         // TODO: (보안) MVP 이후, Spring Security에서 인증된 ID를 가져오도록 수정.
         log.info("홈 하이라이트 조회 요청 - userId: {}", userId);
 
-        HomeHighlightResponseDto data = homeService.getHomeHighlight(userId);
+        return conditional(webRequest, userId, "highlight", () -> {
+            HomeHighlightResponseDto data = homeService.getHomeHighlight(userId);
 
-        GlobalResponseDto<HomeHighlightResponseDto> response = GlobalResponseDto.<HomeHighlightResponseDto>builder()
-                .status(200)
-                .success(true)
-                .message("이번 주 하이라이트 조회 성공")
-                .data(data)
-                .build();
-
-        return ResponseEntity.ok(response);
+            return GlobalResponseDto.<HomeHighlightResponseDto>builder()
+                    .status(200)
+                    .success(true)
+                    .message("이번 주 하이라이트 조회 성공")
+                    .data(data)
+                    .build();
+        });
     }
 
     /**
@@ -100,19 +133,41 @@ public class HomeController {
     public ResponseEntity<GlobalResponseDto<CalendarResponseDto>> getCalendarData(
             @RequestParam("user_id") Long userId,
             @RequestParam("year") int year,
-            @RequestParam("month") int month
+            @RequestParam("month") int month,
+            WebRequest webRequest
     ) {
         // TODO: (보안) MVP 이후, Spring Security에서 인증된 ID를 가져오도록 수정.
         log.info("달력 데이터 조회 요청 - userId: {}, year: {}, month: {}", userId, year, month);
 
-        CalendarResponseDto data = homeService.getCalendarData(userId, year, month);
-        GlobalResponseDto<CalendarResponseDto> response = GlobalResponseDto.<CalendarResponseDto>builder()
-                .status(200)
-                .success(true)
-                .message("달력 데이터 조회 성공")
-                .data(data)
-                .build();
+        return conditional(webRequest, userId, "calendar-" + year + "-" + month, () -> {
+            CalendarResponseDto data = homeService.getCalendarData(userId, year, month);
+
+            return GlobalResponseDto.<CalendarResponseDto>builder()
+                    .status(200)
+                    .success(true)
+                    .message("달력 데이터 조회 성공")
+                    .data(data)
+                    .build();
+        });
+    }
 
-        return ResponseEntity.ok(response);
+    // 조건부 조회 - If-None-Match 가 현재 ETag 와 같으면 집계 없이 304
+    // - ETag: 화면(+파라미터) / 사용자 데이터 버전 / 오늘 날짜 ("이번 달", "이번 주" 기준이 날짜에 따라 바뀜)
+    // - 버전은 집계보다 먼저 읽음 (그 사이 쓰기가 커밋되면 응답이 더 최신일 뿐, 다음 조회에서 200)
+    // - 304 응답의 ETag 헤더는 checkNotModified 가 설정
+    private <T> ResponseEntity<GlobalResponseDto<T>> conditional(
+            WebRequest webRequest, Long userId, String resource, Supplier<GlobalResponseDto<T>> response) {
+
+        Optional<Long> version = dataVersionService.currentVersion(userId);
+        if (version.isPresent()) {
+            String etag = "\"" + resource + "-" + userId + "-v" + version.get() + "-" + LocalDate.now() + "\"";
+            if (webRequest.checkNotModified(etag)) {
+                return null;
+            }
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response.get());
     }
 }
@@ -0,0 +1,62 @@
+package com.finz.domain.coach;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 사용자별 누적 대화 요약 (1인 1행)
+// - lastMessageId 까지의 대화가 content 에 접혀 있고, 그 이후 메시지만 원문으로 Gemini 에 전달
+// - 백그라운드 요약 작업끼리 겹치면 @Version 으로 나중 저장을 거절
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "coach_conversation_summary")
+@EntityListeners(AuditingEntityListener.class)
+public class CoachConversationSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "summary_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    // 요약에 반영된 마지막 메시지 ID
+    @Column(name = "last_message_id", nullable = false)
+    private Long lastMessageId;
+
+    // 요약 본문의 추정 토큰 수 (TokenEstimator)
+    @Column(name = "token_estimate", nullable = false)
+    private Integer tokenEstimate;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static CoachConversationSummary of(Long userId, String content, Long lastMessageId, int tokenEstimate) {
+        CoachConversationSummary summary = new CoachConversationSummary();
+        summary.userId = userId;
+        summary.fold(content, lastMessageId, tokenEstimate);
+        return summary;
+    }
+
+    // 새로 접어 넣은 요약으로 교체
+    public void fold(String content, Long lastMessageId, int tokenEstimate) {
+        this.content = content;
+        this.lastMessageId = lastMessageId;
+        this.tokenEstimate = tokenEstimate;
+    }
+}
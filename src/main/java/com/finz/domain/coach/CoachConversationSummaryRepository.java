@@ -0,0 +1,15 @@
+package com.finz.domain.coach;
+
+import com.finz.repository.IndexedBy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface CoachConversationSummaryRepository extends JpaRepository<CoachConversationSummary, Long> {
+
+    // 사용자별 누적 대화 요약 조회
+    @IndexedBy("uk_conversation_summary_user")
+    Optional<CoachConversationSummary> findByUserId(Long userId);
+}
@@ -8,9 +8,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "coach_message", indexes = {
-    @Index(name = "idx_user_created", columnList = "user_id, created_at")
-})
+@Table(name = "coach_message")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,6 +35,14 @@ public class CoachMessage {
     
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
+
+    // EXPENSE_RECORD 메시지가 가리키는 지출 ID (그 외 타입은 null)
+    @Column(name = "expense_id")
+    private Long expenseId;
+
+    // 이 지출 기록에 대한 AI 피드백이 연결된 지출 ID (연속 기록 묶음은 묶음의 마지막 지출, null 이면 expenseId 와 같음)
+    @Column(name = "feedback_expense_id")
+    private Long feedbackExpenseId;
     
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
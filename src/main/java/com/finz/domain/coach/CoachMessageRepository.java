@@ -1,16 +1,49 @@
 package com.finz.domain.coach;
 
+import com.finz.repository.IndexedBy;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CoachMessageRepository extends JpaRepository<CoachMessage, Long> {
     
-    // 사용자별 최근 대화 조회 (최신순)
-    List<CoachMessage> findTop20ByUserIdOrderByCreatedAtDesc(Long userId);
+    // 요약에 아직 반영되지 않은 최근 대화 (최신순, Gemini 히스토리 구성용)
+    @IndexedBy("idx_user_created")
+    List<CoachMessage> findByUserIdAndMessageIdGreaterThanOrderByCreatedAtDescMessageIdDesc(Long userId, Long messageId, Limit limit);
+
+    // 요약에 아직 반영되지 않은 대화 (시간순, 대화 요약 작업용)
+    @IndexedBy("idx_user_created")
+    List<CoachMessage> findByUserIdAndMessageIdGreaterThanOrderByCreatedAtAscMessageIdAsc(Long userId, Long messageId, Limit limit);
+
+    // 전체 대화 내역 (시간 오름차순) - 커서 없는 기존 대화 내역 API
+    @IndexedBy("idx_user_created")
+    List<CoachMessage> findByUserIdOrderByCreatedAtAscMessageIdAsc(Long userId);
+
+    // 대화 내역 최신 페이지 (최신순, idx_user_created 뒤에 붙는 PK로 message_id 정렬까지 인덱스로 처리)
+    @IndexedBy("idx_user_created")
+    List<CoachMessage> findByUserIdOrderByCreatedAtDescMessageIdDesc(Long userId, Limit limit);
+
+    // 커서 이전의 대화 내역 페이지 (키셋 페이지네이션, 최신순)
+    @IndexedBy("idx_user_created")
+    @Query("SELECT m FROM CoachMessage m WHERE m.userId = :userId " +
+            "AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.messageId < :messageId)) " +
+            "ORDER BY m.createdAt DESC, m.messageId DESC")
+    List<CoachMessage> findPageBefore(
+            @Param("userId") Long userId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("messageId") Long messageId,
+            Limit limit
+    );
+
+    // 지출 기록에 대한 AI 피드백 조회 (비동기 생성 결과 폴링용)
+    @IndexedBy("idx_expense")
+    Optional<CoachMessage> findFirstByExpenseIdAndSender(Long expenseId, MessageSender sender);
 
-    // 채팅방 입장 시 '전체' 대화 내역을 불러오기 위한 메서드 (시간 오름차순)
-    List<CoachMessage> findByUserIdOrderByCreatedAtAsc(Long userId);
 }
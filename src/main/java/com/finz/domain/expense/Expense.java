@@ -58,6 +58,11 @@ public class Expense {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // AI 피드백이 만들어지지 않고 끝난 경우의 상태 (null 이면 생성 대기 중 또는 생성됨)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "feedback_status")
+    private ExpenseFeedbackStatus feedbackStatus;
+
     @Builder
     public Expense(User user, String expenseName, Integer amount, ExpenseCategory category, String expenseTag,
                    String memo, PaymentMethod paymentMethod, LocalDate expenseDate) {
@@ -0,0 +1,19 @@
+package com.finz.domain.expense;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+// 지출 일괄 등록(커밋) 후 묶음 전체에 대한 AI 피드백 1건 생성을 위해 발행되는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class ExpenseBatchImportedEvent {
+    private final Long userId;
+    private final int importedCount;                       // 등록된 지출 건수
+    private final long totalAmount;                        // 등록된 지출 총액
+    private final LocalDate startDate;                     // 가장 이른 지출일
+    private final LocalDate endDate;                       // 가장 늦은 지출일
+    private final Map<ExpenseCategory, Long> categoryTotals; // 카테고리별 합계 (금액 내림차순)
+}
@@ -0,0 +1,39 @@
+package com.finz.domain.expense;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 사용자 x 날짜 x 카테고리 단위 지출 집계 (롤업) 테이블
+// - 일별 합계 = 날짜 기준 합산, 월별 합계 = 기간 합산, 카테고리별 합계 = 카테고리 기준 합산
+// - 지출 생성/수정/삭제 트랜잭션 안에서 ExpenseDailySummaryRepository.accumulate로 함께 갱신
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "expense_daily_summary")
+public class ExpenseDailySummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "summary_id")
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "expense_date", nullable = false)
+    private LocalDate expenseDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "category", nullable = false)
+    private ExpenseCategory category;
+
+    @Column(name = "total_amount", nullable = false)
+    private Long totalAmount;
+
+    @Column(name = "expense_count", nullable = false)
+    private Long expenseCount;
+}
@@ -0,0 +1,14 @@
+package com.finz.domain.expense;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// AI 피드백이 만들어지지 않고 끝난 지출 기록의 상태 (피드백 폴링 종료용)
+@Getter
+@RequiredArgsConstructor
+public enum ExpenseFeedbackStatus {
+    FAILED("생성 실패"),   // Gemini 호출/처리 중 오류
+    SKIPPED("생략");       // 사용자별 한도 초과, 워커 포화, 일괄 등록(묶음 요약 1건으로 대체)
+
+    private final String description;
+}
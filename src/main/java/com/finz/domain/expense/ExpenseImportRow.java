@@ -0,0 +1,19 @@
+package com.finz.domain.expense;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+// 일괄 등록 시 검증을 통과한 지출 한 건 (JDBC 배치 insert 대상)
+@Getter
+@RequiredArgsConstructor
+public class ExpenseImportRow {
+    private final String expenseName;
+    private final Integer amount;
+    private final ExpenseCategory category;
+    private final String expenseTag;
+    private final String memo;
+    private final PaymentMethod paymentMethod;
+    private final LocalDate expenseDate;
+}
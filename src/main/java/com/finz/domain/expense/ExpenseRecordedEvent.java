@@ -0,0 +1,12 @@
+package com.finz.domain.expense;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 지출 저장(커밋) 후 AI 피드백 생성을 위해 발행되는 이벤트
+@Getter
+@RequiredArgsConstructor
+public class ExpenseRecordedEvent {
+    private final Long userId;
+    private final Long expenseId;
+}
@@ -0,0 +1,17 @@
+package com.finz.domain.expense;
+
+import lombok.Getter;
+
+// 태그별 지출 요약 (특정 기간의 전체 태그를 한 번에 조회할 때 사용)
+@Getter
+public class ExpenseTagSummary implements TagExpenseSummary {
+    private final String tag;           // 태그
+    private final Long count;           // 지출 횟수
+    private final Integer totalAmount;  // 총 지출액
+
+    public ExpenseTagSummary(String tag, Long count, Long totalAmount) {
+        this.tag = tag;
+        this.count = count;
+        this.totalAmount = Math.toIntExact(totalAmount);
+    }
+}
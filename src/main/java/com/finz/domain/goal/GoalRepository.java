@@ -1,5 +1,6 @@
 package com.finz.domain.goal;
 
+import com.finz.repository.IndexedBy;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,6 +10,7 @@ import java.util.List;
 public interface GoalRepository extends JpaRepository<Goal, Long> {
     
     // 사용자별 특정 상태의 목표 조회
+    @IndexedBy("idx_goal_user_status")
     List<Goal> findByUserIdAndStatus(Long userId, GoalStatus status);
 
 }
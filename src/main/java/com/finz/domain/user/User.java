@@ -34,6 +34,10 @@ public class User {
     @Column(name = "monthly_budget", nullable = false)
     private Integer monthlyBudget;
 
+    // 지출/목표/예산 변경 시 증가 (UserDataVersionService, 홈 화면 ETag 용) - 엔티티로는 바꾸지 않음
+    @Column(name = "data_version", nullable = false, insertable = false, updatable = false)
+    private Long dataVersion;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -0,0 +1,11 @@
+package com.finz.domain.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 사용자의 지출/목표 데이터가 변경되었을 때 발행되는 이벤트 (사용자 단위 캐시 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class UserDataChangedEvent {
+    private final Long userId;
+}
@@ -1,6 +1,23 @@
 package com.finz.domain.user;
 
+import com.finz.repository.IndexedBy;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    // 사용자 데이터 버전 (홈 화면 ETag 계산용 - 엔티티를 읽지 않고 한 컬럼만 조회)
+    @IndexedBy("PRIMARY")
+    @Query("SELECT u.dataVersion FROM User u WHERE u.id = :userId")
+    Optional<Long> findDataVersionById(@Param("userId") Long userId);
+
+    // 사용자 데이터 버전 증가 (쓰기 트랜잭션 커밋 직전에 같은 트랜잭션에서 실행)
+    @IndexedBy("PRIMARY")
+    @Modifying
+    @Query("UPDATE User u SET u.dataVersion = u.dataVersion + 1 WHERE u.id = :userId")
+    int incrementDataVersion(@Param("userId") Long userId);
 }
@@ -0,0 +1,15 @@
+package com.finz.dto.coach;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 대화 내역 페이지 (최신 페이지부터, "이전 대화 더보기"는 nextCursor로 요청)
+@Getter
+@Builder
+public class CoachHistoryPageDto {
+    private List<CoachMessageDto> messages;  // 페이지 내 메시지 (시간 오름차순)
+    private String nextCursor;               // 더 오래된 메시지를 불러올 커서 (없으면 null)
+    private boolean hasMore;                 // 더 오래된 메시지 존재 여부
+}
@@ -0,0 +1,12 @@
+package com.finz.dto.expense;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 일괄 등록 시 거절된 행 (row: 1부터 시작, CSV는 헤더 제외)
+@Getter
+@AllArgsConstructor
+public class ExpenseImportErrorDto {
+    private final int row;
+    private final String reason;
+}
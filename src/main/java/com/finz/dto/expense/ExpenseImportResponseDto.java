@@ -0,0 +1,21 @@
+package com.finz.dto.expense;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ExpenseImportResponseDto {
+
+    @JsonProperty("imported_count")
+    private final int importedCount;
+
+    @JsonProperty("rejected_count")
+    private final int rejectedCount;
+
+    // 거절된 행 상세 (최대 100건까지만 포함)
+    private final List<ExpenseImportErrorDto> errors;
+}
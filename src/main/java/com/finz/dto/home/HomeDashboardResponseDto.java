@@ -0,0 +1,13 @@
+package com.finz.dto.home;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 홈 화면 진입 시 한 번에 내려주는 요약 + 하이라이트 + 이번 달 달력
+@Getter
+@AllArgsConstructor
+public class HomeDashboardResponseDto {
+    private final HomeSummaryResponseDto summary;
+    private final HomeHighlightResponseDto highlight;
+    private final CalendarResponseDto calendar;
+}
@@ -1,6 +1,7 @@
 package com.finz.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -17,6 +18,16 @@ public class ApiExceptionHandler {
                 .body(ApiResponse.fail(e.getErrorCode()));
     }
 
+    // 요청 한도 초과 - Retry-After 헤더 + 본문에 재시도까지 남은 초
+    @ExceptionHandler(RateLimitExceededException.class)
+    protected ResponseEntity<ApiResponse<RetryAfterDto>> handleRateLimitExceeded(RateLimitExceededException e) {
+        log.warn("RateLimitExceeded - {}", e.getMessage());
+        return ResponseEntity
+                .status(e.getErrorCode().getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.fail(e.getErrorCode(), e.getMessage(), new RetryAfterDto(e.getRetryAfterSeconds())));
+    }
+
     @ExceptionHandler(Exception.class)
     protected ResponseEntity<ApiResponse<Void>> handleException(Exception e) {
         e.printStackTrace();
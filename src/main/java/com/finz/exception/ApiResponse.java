@@ -71,4 +71,14 @@ public class ApiResponse<T> {
         response.data = null;
         return response;
     }
+
+    // 실패 응답 - 커스텀 메시지 + 부가 정보 (예: 재시도 가능 시각)
+    public static <T> ApiResponse<T> fail(ErrorCode errorCode, String message, T data) {
+        ApiResponse<T> response = new ApiResponse<>();
+        response.isSuccess = false;
+        response.code = errorCode.getCode();
+        response.message = message;
+        response.data = data;
+        return response;
+    }
 }
@@ -9,7 +9,11 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "C001", "올바르지 않은 입력값입니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "C002", "잘못된 HTTP 메서드를 호출했습니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C003", "서버 에러가 발생했습니다."),
-    NOT_FOUND(HttpStatus.NOT_FOUND, "C004", "존재하지 않는 리소스입니다.");
+    NOT_FOUND(HttpStatus.NOT_FOUND, "C004", "존재하지 않는 리소스입니다."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "C005", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // Coach
+    EXPENSE_FEEDBACK_UNAVAILABLE(HttpStatus.GONE, "CO001", "이 지출 기록에 대한 AI 피드백이 생성되지 않았습니다.");
 
     private final HttpStatus status;
     private final String code;
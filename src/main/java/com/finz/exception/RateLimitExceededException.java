@@ -0,0 +1,15 @@
+package com.finz.exception;
+
+import lombok.Getter;
+
+// 사용자별 요청 한도 초과 (429 + Retry-After)
+@Getter
+public class RateLimitExceededException extends BaseException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        super(retryAfterSeconds + "초 후 다시 시도해주세요.", ErrorCode.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,11 @@
+package com.finz.exception;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 요청 한도 초과 응답 data - 다시 시도할 수 있을 때까지 남은 초
+@Getter
+@AllArgsConstructor
+public class RetryAfterDto {
+    private final long retryAfterSeconds;
+}
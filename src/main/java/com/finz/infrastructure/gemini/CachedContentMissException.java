@@ -0,0 +1,9 @@
+package com.finz.infrastructure.gemini;
+
+// 요청에 지정한 cachedContent 핸들이 만료/삭제됨 (핸들을 버리고 캐시 없이 다시 요청)
+class CachedContentMissException extends RuntimeException {
+
+    CachedContentMissException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -1,148 +1,287 @@
 package com.finz.infrastructure.gemini;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finz.config.GeminiResilienceConfig;
 import com.finz.infrastructure.gemini.dto.*;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.ArrayList;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class GeminiApiClient {
-    
+
     @Value("${gemini.api.key}")
     private String apiKey;
     
     @Value("${gemini.api.url}")
     private String apiUrl;
     
+    @Qualifier("geminiRestTemplate")
     private final RestTemplate restTemplate;
+
+    private final ObjectMapper objectMapper;
+
+    private final CircuitBreaker geminiCircuitBreaker;
+
+    private final Bulkhead geminiBulkhead;
+
+    private final GeminiContextCache contextCache;
+
+    private final GeminiMetrics metrics;
+
+    private final GeminiFairScheduler fairScheduler;
+
+    @Value("${gemini.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${gemini.retry.initial-backoff:500ms}")
+    private Duration initialBackoff;
+
+    @Value("${gemini.retry.max-backoff:8s}")
+    private Duration maxBackoff;
+
+    // 한 번의 호출에서 재시도 대기에 쓸 수 있는 최대 시간 (Retry-After가 이보다 길면 즉시 실패)
+    @Value("${gemini.retry.max-total-wait:10s}")
+    private Duration maxTotalWait;
     
     // 대화 첫 메시지 생성 (범용)
-    public String generateInitialMessage(String systemPrompt) {
-        
-        List<GeminiRequest.Content> contents = new ArrayList<>();
-        
-        // 시스템 프롬프트를 user 메시지로 추가
-        contents.add(GeminiRequest.Content.builder()
-            .role("user")
-            .parts(List.of(GeminiRequest.Part.builder().text(systemPrompt).build()))
-            .build());
+    public String generateInitialMessage(Long userId, SystemPrompt systemPrompt) {
         
         // AI에게 첫 메시지 생성 요청
-        contents.add(GeminiRequest.Content.builder()
-            .role("user")
-            .parts(List.of(GeminiRequest.Part.builder()
-                .text("위 정보를 바탕으로 대화를 시작하는 첫 메시지를 작성해주세요.")
-                .build()))
-            .build());
+        List<GeminiRequest.Content> contents = List.of(
+            GeminiRequests.userContent("위 정보를 바탕으로 대화를 시작하는 첫 메시지를 작성해주세요.")
+        );
         
-        return callGeminiApi(contents);
+        return metrics.record(GeminiMetrics.INITIAL, systemPrompt, contents,
+            () -> callGeminiApi(userId, GeminiPriority.CONSULT, systemPrompt, contents));
     }
     
-    // 대화 진행 (히스토리 포함)
-    public String chat(String systemPrompt, List<GeminiMessage> history, String userMessage) {
-        
-        List<GeminiRequest.Content> contents = new ArrayList<>();
-        
-        // 1. 시스템 프롬프트
-        contents.add(GeminiRequest.Content.builder()
-            .role("user")
-            .parts(List.of(GeminiRequest.Part.builder().text(systemPrompt).build()))
-            .build());
-        
-        // 2. 대화 히스토리
-        for (GeminiMessage msg : history) {
-            contents.add(GeminiRequest.Content.builder()
-                .role(msg.getRole())
-                .parts(List.of(GeminiRequest.Part.builder().text(msg.getContent()).build()))
-                .build());
+    // 대화 진행 (히스토리 포함, priority: 허가 배분 우선순위 - 사용자 대화 / 백그라운드 피드백 / 배치)
+    public String chat(Long userId, GeminiPriority priority, SystemPrompt systemPrompt, List<GeminiMessage> history, String userMessage) {
+        List<GeminiRequest.Content> contents = GeminiRequests.chatContents(history, userMessage);
+        return metrics.record(GeminiMetrics.CHAT, systemPrompt, contents,
+            () -> callGeminiApi(userId, priority, systemPrompt, contents));
+    }
+
+    // 대화 진행 - 스트리밍 (토큰 조각이 도착할 때마다 onChunk 호출, 완성된 전체 응답 반환)
+    // - onChunk 는 공정 분배 허가/벌크헤드/서킷 브레이커 안에서 호출되므로 블로킹 I/O(클라이언트 소켓 쓰기) 없이 바로 반환해야 함
+    public String chatStream(Long userId, SystemPrompt systemPrompt, List<GeminiMessage> history, String userMessage,
+                             Consumer<String> onChunk) {
+
+        List<GeminiRequest.Content> contents = GeminiRequests.chatContents(history, userMessage);
+
+        return metrics.record(GeminiMetrics.STREAM, systemPrompt, contents, () -> {
+            String cachedContent = contextCache.handleFor(systemPrompt.getPersona());
+            if (cachedContent != null) {
+                try {
+                    return stream(userId, GeminiRequests.build(systemPrompt, contents, cachedContent), onChunk);
+                } catch (CachedContentMissException e) {
+                    // 첫 조각 전에 실패했으므로 캐시 없이 다시 요청
+                    contextCache.evict(systemPrompt.getPersona(), cachedContent);
+                }
+            }
+            return stream(userId, GeminiRequests.build(systemPrompt, contents, null), onChunk);
+        });
+    }
+
+    // 우선순위/사용자별 공정 분배 허가를 쥔 채로 한 번 시도 (재시도 대기 중에는 쥐지 않음, 끝나면 반납)
+    private <T> T withPermit(Long userId, GeminiPriority priority, Supplier<T> call) {
+        GeminiFairScheduler.Permit permit = fairScheduler.acquire(userId, priority);
+        try {
+            return call.get();
+        } finally {
+            permit.release();
         }
-        
-        // 3. 현재 사용자 메시지
-        contents.add(GeminiRequest.Content.builder()
-            .role("user")
-            .parts(List.of(GeminiRequest.Part.builder().text(userMessage).build()))
-            .build());
-        
-        return callGeminiApi(contents);
     }
-    
-    // Gemini API 호출 (재시도 로직 포함)
-    private String callGeminiApi(List<GeminiRequest.Content> contents) {
+
+    private String stream(Long userId, GeminiRequest request, Consumer<String> onChunk) {
+
+        String url = GeminiRequests.streamUrl(apiUrl) + "&key=" + apiKey;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+
+        try {
+            // 스트리밍은 첫 조각 이후 재시도할 수 없으므로 서킷 브레이커/벌크헤드만 적용
+            String text = withPermit(userId, GeminiPriority.INTERACTIVE, () -> withBulkhead(() -> geminiCircuitBreaker.executeSupplier(() -> restTemplate.execute(
+                url,
+                HttpMethod.POST,
+                restTemplate.httpEntityCallback(new HttpEntity<>(request, headers)),
+                response -> readEventStream(response.getBody(), onChunk)
+            ))));
+
+            if (text == null || text.isEmpty()) {
+                throw new RuntimeException("Gemini API 응답이 비어있습니다.");
+            }
+
+            log.debug("Gemini API 스트리밍 응답 완료 - {}자", text.length());
+            return text;
+
+        } catch (CallNotPermittedException e) {
+            log.warn("Gemini API 서킷 OPEN - 스트리밍 호출 차단");
+            throw new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, e);
+
+        } catch (RestClientException e) {
+            metrics.attemptFailed(GeminiBackoff.describe(e));
+            if (request.getCachedContent() != null && GeminiContextCache.isCachedContentMiss(e)) {
+                throw new CachedContentMissException(e);
+            }
+            log.error("Gemini API 스트리밍 호출 실패", e);
+            if (GeminiResilienceConfig.isTransientFailure(e)) {
+                throw new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, e);
+            }
+            throw new RuntimeException("AI 응답 생성 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // SSE 응답 파싱: "data: {GeminiResponse JSON}" 라인마다 텍스트 조각 추출
+    private String readEventStream(InputStream body, Consumer<String> onChunk) throws IOException {
+        StringBuilder fullText = new StringBuilder();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("data:")) {
+                    continue;
+                }
+
+                GeminiResponse chunk = objectMapper.readValue(line.substring(5).trim(), GeminiResponse.class);
+                String text = GeminiRequests.extractText(chunk);
+                if (text != null && !text.isEmpty()) {
+                    fullText.append(text);
+                    onChunk.accept(text);
+                }
+            }
+        }
+
+        return fullText.toString();
+    }
+
+    // Gemini API 호출 (컨텍스트 캐시 → 재시도(지수 백오프 + 지터) → 시도마다 공정 분배 허가 → 벌크헤드 → 서킷 브레이커)
+    // - 허가와 벌크헤드 자리는 시도 동안만 쥐고 재시도 대기 중에는 반납 (장애 시 대기 중인 재시도가 한도를 모두 차지하지 않도록)
+    // - 캐시 핸들이 만료/삭제되어 있으면 핸들을 버리고 캐시 없이 한 번 더 요청
+    private String callGeminiApi(Long userId, GeminiPriority priority, SystemPrompt systemPrompt, List<GeminiRequest.Content> contents) {
+
+        String cachedContent = contextCache.handleFor(systemPrompt.getPersona());
+        if (cachedContent != null) {
+            try {
+                return callGeminiApi(userId, priority, GeminiRequests.build(systemPrompt, contents, cachedContent));
+            } catch (CachedContentMissException e) {
+                contextCache.evict(systemPrompt.getPersona(), cachedContent);
+            }
+        }
+        return callGeminiApi(userId, priority, GeminiRequests.build(systemPrompt, contents, null));
+    }
+
+    private String callGeminiApi(Long userId, GeminiPriority priority, GeminiRequest request) {
         
         String url = apiUrl + "?key=" + apiKey;
         
-        GeminiRequest request = GeminiRequest.builder()
-            .contents(contents)
-            .build();
-        
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         
         HttpEntity<GeminiRequest> entity = new HttpEntity<>(request, headers);
         
-        // 최대 3번 재시도
-        int maxRetries = 3;
-        int retryCount = 0;
-        
-        while (retryCount < maxRetries) {
+        return callWithRetry(userId, priority, url, entity);
+    }
+
+    private String callWithRetry(Long userId, GeminiPriority priority, String url, HttpEntity<GeminiRequest> entity) {
+
+        long deadline = System.nanoTime() + maxTotalWait.toNanos();
+
+        for (int attempt = 1; ; attempt++) {
             try {
-                log.debug("Gemini API 호출 시도 {}/{} - URL: {}", retryCount + 1, maxRetries, url);
-                
-                GeminiResponse response = restTemplate.postForObject(
-                    url,
-                    entity,
-                    GeminiResponse.class
-                );
-                
-                if (response != null && !response.getCandidates().isEmpty()) {
-                    String text = response.getCandidates().get(0)
-                        .getContent()
-                        .getParts()
-                        .get(0)
-                        .getText();
-                    
-                    log.debug("Gemini API 응답 성공");
-                    return text;
+                log.debug("Gemini API 호출 시도 {}/{}", attempt, maxAttempts);
+
+                GeminiResponse response = withPermit(userId, priority, () -> withBulkhead(() -> geminiCircuitBreaker.executeSupplier(
+                    () -> restTemplate.postForObject(url, entity, GeminiResponse.class)
+                )));
+
+                String text = GeminiRequests.extractText(response);
+                if (text == null) {
+                    throw new RuntimeException("Gemini API 응답이 비어있습니다.");
                 }
-                
-                throw new RuntimeException("Gemini API 응답이 비어있습니다.");
-                
-            } catch (Exception e) {
-                retryCount++;
-                
-                // 503 에러인 경우
-                if (e.getMessage() != null && e.getMessage().contains("503")) {
-                    if (retryCount < maxRetries) {
-                        log.warn("Gemini API 과부하 (503) - {}초 후 재시도 {}/{}", 
-                                retryCount * 2, retryCount, maxRetries);
-                        try {
-                            Thread.sleep(retryCount * 2000L); // 2초, 4초, 6초
-                        } catch (InterruptedException ie) {
-                            Thread.currentThread().interrupt();
-                        }
-                        continue;
-                    } else {
-                        log.error("Gemini API 재시도 초과 - 최대 {}번 시도 완료", maxRetries);
-                        throw new RuntimeException("AI 서비스가 현재 사용량이 많습니다. 잠시 후 다시 시도해주세요.");
-                    }
+
+                log.debug("Gemini API 응답 성공");
+                return text;
+
+            } catch (CallNotPermittedException e) {
+                log.warn("Gemini API 서킷 OPEN - 호출 차단");
+                throw new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, e);
+
+            } catch (RestClientException e) {
+                metrics.attemptFailed(GeminiBackoff.describe(e));
+                if (entity.getBody() != null && entity.getBody().getCachedContent() != null
+                        && GeminiContextCache.isCachedContentMiss(e)) {
+                    throw new CachedContentMissException(e);
+                }
+                if (!GeminiResilienceConfig.isTransientFailure(e)) {
+                    // 4xx 등 재시도해도 의미 없는 에러는 즉시 throw
+                    log.error("Gemini API 호출 실패", e);
+                    throw new RuntimeException("AI 응답 생성 중 오류가 발생했습니다: " + e.getMessage());
+                }
+
+                if (attempt >= maxAttempts) {
+                    log.error("Gemini API 재시도 초과 - 최대 {}번 시도 완료", maxAttempts);
+                    throw new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, e);
                 }
-                
-                // 다른 에러는 즉시 throw
-                log.error("Gemini API 호출 실패", e);
-                throw new RuntimeException("AI 응답 생성 중 오류가 발생했습니다: " + e.getMessage());
+
+                long waitMillis = GeminiBackoff.millis(attempt, initialBackoff, maxBackoff, e);
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis) > deadline) {
+                    log.warn("Gemini API 재시도 대기({}ms)가 재시도 예산을 초과 - 즉시 실패", waitMillis);
+                    throw new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, e);
+                }
+
+                log.warn("Gemini API 일시 오류 ({}) - {}ms 후 재시도 {}/{}",
+                        GeminiBackoff.describe(e), waitMillis, attempt, maxAttempts);
+                metrics.retried(GeminiBackoff.describe(e));
+                sleep(waitMillis);
             }
         }
-        
-        throw new RuntimeException("AI 서비스가 현재 사용량이 많습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    // 동시 진행 중인 LLM 호출 수 제한 (한도 초과 시 자리가 날 때까지 최대 gemini.resilience.max-wait 대기, 그래도 없으면 실패)
+    private <T> T withBulkhead(Supplier<T> call) {
+        try {
+            return geminiBulkhead.executeSupplier(call);
+        } catch (BulkheadFullException e) {
+            log.warn("Gemini API 동시 호출 한도 초과 - {} 대기 후 실패", geminiBulkhead.getBulkheadConfig().getMaxWaitDuration());
+            throw new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, ie);
+        }
     }
 }
@@ -0,0 +1,70 @@
+package com.finz.infrastructure.gemini;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 재시도 대기 시간 계산 (RestTemplate / WebClient 예외 공통)
+final class GeminiBackoff {
+
+    private GeminiBackoff() {
+    }
+
+    // 재시도 대기 시간: Retry-After 헤더 우선, 없으면 지수 백오프 + 지터 (cap/2 ~ cap)
+    static long millis(long attempt, Duration initialBackoff, Duration maxBackoff, Throwable e) {
+        Long retryAfter = retryAfterMillis(e);
+        if (retryAfter != null) {
+            return retryAfter;
+        }
+
+        long cap = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(cap / 2, cap + 1);
+    }
+
+    // 메트릭/로그용 실패 사유 (HTTP 상태 코드, 없으면 예외 클래스명)
+    static String describe(Throwable e) {
+        if (e instanceof HttpStatusCodeException statusException) {
+            return String.valueOf(statusException.getStatusCode().value());
+        }
+        if (e instanceof WebClientResponseException responseException) {
+            return String.valueOf(responseException.getStatusCode().value());
+        }
+        return e.getClass().getSimpleName();
+    }
+
+    private static Long retryAfterMillis(Throwable e) {
+        HttpHeaders headers = null;
+        if (e instanceof HttpStatusCodeException statusException) {
+            headers = statusException.getResponseHeaders();
+        } else if (e instanceof WebClientResponseException responseException) {
+            headers = responseException.getHeaders();
+        }
+        if (headers == null) {
+            return null;
+        }
+
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return null;
+        }
+
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식
+        }
+        try {
+            ZonedDateTime at = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(ZonedDateTime.now(), at).toMillis());
+        } catch (DateTimeParseException ignored) {
+            return null;
+        }
+    }
+}
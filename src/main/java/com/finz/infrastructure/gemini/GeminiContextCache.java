@@ -0,0 +1,285 @@
+package com.finz.infrastructure.gemini;
+
+import com.finz.infrastructure.gemini.dto.GeminiCachedContent;
+import com.finz.infrastructure.gemini.dto.GeminiRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 정적 페르소나(시스템 프롬프트 앞부분)에 대한 Gemini cachedContents 핸들 관리
+// - 페르소나 문자열별로 핸들 1개를 만들어 재사용, 만료 refresh-before 전에 TTL 연장
+// - 추정 토큰이 min-tokens 미만이거나 API 가 최소 캐시 크기 미달로 거절한 페르소나는 계속 캐시 없이 systemInstruction 으로 전송
+//   (기본값 1024 는 Gemini 2.5 Flash 의 문서상 최소 캐시 크기 - 2.5 Pro 등 더 큰 모델은 gemini.cache.min-tokens 로 올림)
+// - 그 밖의 생성 실패는 캐시 없이 전송하고 retry-after-failure 동안 재시도 안 함
+// - 생성/갱신 중인 다른 요청은 기다리지 않고 기존 핸들(또는 캐시 없음)로 진행
+// - cachedContents 엔드포인트는 gemini.api.url 에서 유도 ({base}/{version}/models/{model}:generateContent)
+@Slf4j
+@Component
+public class GeminiContextCache {
+
+    private static final Pattern GENERATE_CONTENT_URL = Pattern.compile("^(.+?/v\\w+)/(models/[^/:]+):generateContent$");
+
+    private final RestTemplate restTemplate;
+    private final String apiKey;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration refreshBefore;
+    private final Duration retryAfterFailure;
+    private final int minTokens;
+
+    private final String versionUrl;   // {base}/{version}
+    private final String model;        // models/{model}
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter bypassed;
+    private final Counter created;
+    private final Counter evicted;
+
+    public GeminiContextCache(
+            @Qualifier("geminiRestTemplate") RestTemplate restTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${gemini.api.key}") String apiKey,
+            @Value("${gemini.api.url}") String apiUrl,
+            @Value("${gemini.cache.enabled:true}") boolean enabled,
+            @Value("${gemini.cache.ttl:1h}") Duration ttl,
+            @Value("${gemini.cache.refresh-before:5m}") Duration refreshBefore,
+            @Value("${gemini.cache.retry-after-failure:30m}") Duration retryAfterFailure,
+            @Value("${gemini.cache.min-tokens:1024}") int minTokens) {
+
+        this.restTemplate = restTemplate;
+        this.apiKey = apiKey;
+        this.ttl = ttl;
+        this.refreshBefore = refreshBefore;
+        this.retryAfterFailure = retryAfterFailure;
+        this.minTokens = minTokens;
+
+        Matcher matcher = GENERATE_CONTENT_URL.matcher(apiUrl == null ? "" : apiUrl);
+        if (enabled && !matcher.matches()) {
+            log.warn("gemini.api.url 에서 cachedContents 엔드포인트를 유도할 수 없어 컨텍스트 캐시를 끕니다. - url: {}", apiUrl);
+        }
+        this.enabled = enabled && matcher.matches();
+        this.versionUrl = this.enabled ? matcher.group(1) : null;
+        this.model = this.enabled ? matcher.group(2) : null;
+
+        this.hits = counter(meterRegistry, "hit");
+        this.bypassed = counter(meterRegistry, "bypass");
+        this.created = counter(meterRegistry, "create");
+        this.evicted = counter(meterRegistry, "evict");
+    }
+
+    // 사용할 수 있는 캐시 핸들 ("cachedContents/{id}"), 없으면 null (캐시 없이 전송)
+    public String handleFor(String persona) {
+        if (!enabled || persona == null || persona.isEmpty()) {
+            return null;
+        }
+
+        Entry entry = entries.computeIfAbsent(persona, p -> new Entry(TokenEstimator.estimate(p) >= minTokens));
+        if (!entry.cacheable) {
+            bypassed.increment();
+            return null;
+        }
+
+        Instant now = Instant.now();
+        String name = entry.name;
+        if (name != null && entry.expireTime.isAfter(now.plus(refreshBefore))) {
+            hits.increment();
+            return name;
+        }
+
+        // 생성/갱신은 한 요청만 수행, 나머지는 아직 유효한 기존 핸들로 진행
+        if (!entry.lock.tryLock()) {
+            return validHandle(entry, now);
+        }
+        try {
+            if (entry.name != null && entry.expireTime.isAfter(now.plus(refreshBefore))) {
+                return entry.name;
+            }
+            if (entry.name != null && entry.expireTime.isAfter(now)) {
+                refresh(entry);
+            }
+            if (entry.name == null && (entry.retryAt == null || now.isAfter(entry.retryAt))) {
+                create(entry, persona);
+            }
+            return validHandle(entry, Instant.now());
+        } finally {
+            entry.lock.unlock();
+        }
+    }
+
+    // generateContent 가 핸들을 찾지 못한 경우 (만료/삭제) - 다음 요청에서 새로 생성
+    public void evict(String persona, String name) {
+        Entry entry = entries.get(persona);
+        if (entry != null && name.equals(entry.name)) {
+            entry.name = null;
+            evicted.increment();
+            log.info("Gemini 컨텍스트 캐시 만료 - {}", name);
+        }
+    }
+
+    // 만료/삭제된 캐시 핸들을 가리키는 에러인지 (404 또는 cachedContent 관련 400/403)
+    public static boolean isCachedContentMiss(Throwable e) {
+        int status;
+        String body;
+        if (e instanceof HttpStatusCodeException statusException) {
+            status = statusException.getStatusCode().value();
+            body = statusException.getResponseBodyAsString();
+        } else if (e instanceof WebClientResponseException responseException) {
+            status = responseException.getStatusCode().value();
+            body = responseException.getResponseBodyAsString();
+        } else {
+            return false;
+        }
+        if (status == HttpStatus.NOT_FOUND.value()) {
+            return true;
+        }
+        return (status == HttpStatus.BAD_REQUEST.value() || status == HttpStatus.FORBIDDEN.value())
+                && body.toLowerCase().contains("cachedcontent");
+    }
+
+    // 종료 시 남은 캐시 삭제 (저장 시간 과금 방지, 실패해도 TTL 이 지나면 자동 삭제)
+    @PreDestroy
+    public void deleteAll() {
+        for (Entry entry : entries.values()) {
+            String name = entry.name;
+            if (name == null) {
+                continue;
+            }
+            try {
+                restTemplate.delete(versionUrl + "/" + name + "?key=" + apiKey);
+            } catch (RestClientException e) {
+                log.debug("Gemini 컨텍스트 캐시 삭제 실패 - {}", name);
+            }
+        }
+    }
+
+    private String validHandle(Entry entry, Instant now) {
+        String name = entry.name;
+        if (name != null && entry.expireTime.isAfter(now)) {
+            hits.increment();
+            return name;
+        }
+        bypassed.increment();
+        return null;
+    }
+
+    private void create(Entry entry, String persona) {
+        GeminiCachedContent request = GeminiCachedContent.builder()
+                .model(model)
+                .systemInstruction(GeminiRequest.Content.builder()
+                        .parts(List.of(GeminiRequest.Part.builder().text(persona).build()))
+                        .build())
+                .ttl(ttl.toSeconds() + "s")
+                .build();
+        try {
+            GeminiCachedContent response = restTemplate.postForObject(
+                    versionUrl + "/cachedContents?key=" + apiKey, json(request), GeminiCachedContent.class);
+            if (response == null || response.getName() == null) {
+                throw new RestClientException("cachedContents 응답에 name 이 없습니다.");
+            }
+            entry.expireTime = expireTime(response);
+            entry.name = response.getName();
+            entry.retryAt = null;
+            created.increment();
+            log.info("Gemini 컨텍스트 캐시 생성 - {} (만료: {})", entry.name, entry.expireTime);
+        } catch (RestClientException e) {
+            if (isBelowMinimumSize(e)) {
+                entry.cacheable = false;
+                log.info("Gemini 컨텍스트 캐시 생략 - 페르소나가 모델 최소 캐시 크기보다 작아 캐시 없이 전송");
+                return;
+            }
+            entry.retryAt = Instant.now().plus(retryAfterFailure);
+            log.warn("Gemini 컨텍스트 캐시 생성 실패 - {} 동안 캐시 없이 전송: {}", retryAfterFailure, e.getMessage());
+        }
+    }
+
+    private void refresh(Entry entry) {
+        GeminiCachedContent request = GeminiCachedContent.builder()
+                .ttl(ttl.toSeconds() + "s")
+                .build();
+        try {
+            GeminiCachedContent response = restTemplate.exchange(
+                    versionUrl + "/" + entry.name + "?updateMask=ttl&key=" + apiKey,
+                    HttpMethod.PATCH, json(request), GeminiCachedContent.class).getBody();
+            entry.expireTime = expireTime(response);
+            log.debug("Gemini 컨텍스트 캐시 TTL 연장 - {} (만료: {})", entry.name, entry.expireTime);
+        } catch (RestClientException e) {
+            log.warn("Gemini 컨텍스트 캐시 TTL 연장 실패 - {}: {}", entry.name, e.getMessage());
+            // 이미 만료/삭제됐으면 새로 생성, 그 밖의 오류는 남은 TTL 동안 기존 핸들 사용
+            if (isCachedContentMiss(e)) {
+                entry.name = null;
+                evicted.increment();
+            }
+        }
+    }
+
+    // 캐시할 내용이 모델 최소 토큰 수보다 작다는 400 ("Cached content is too small ... min_total_token_count=...")
+    private static boolean isBelowMinimumSize(RestClientException e) {
+        if (!(e instanceof HttpStatusCodeException statusException)
+                || statusException.getStatusCode().value() != HttpStatus.BAD_REQUEST.value()) {
+            return false;
+        }
+        String body = statusException.getResponseBodyAsString().toLowerCase();
+        return body.contains("too small") || body.contains("min_total_token_count");
+    }
+
+    private Instant expireTime(GeminiCachedContent response) {
+        if (response != null && response.getExpireTime() != null) {
+            try {
+                return Instant.parse(response.getExpireTime());
+            } catch (DateTimeParseException ignored) {
+                // 형식이 다르면 요청한 TTL 기준
+            }
+        }
+        return Instant.now().plus(ttl);
+    }
+
+    private static HttpEntity<GeminiCachedContent> json(GeminiCachedContent body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new HttpEntity<>(body, headers);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gemini.context.cache")
+                .description("Gemini 컨텍스트 캐시 사용 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Entry {
+        private volatile boolean cacheable;
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile String name;
+        private volatile Instant expireTime = Instant.EPOCH;
+        private volatile Instant retryAt;
+
+        private Entry(boolean cacheable) {
+            this.cacheable = cacheable;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.finz.infrastructure.gemini;
+
+import com.finz.config.GeminiFairShareProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Gemini 동시 호출 허가 배분 (모든 사용자가 API 키 하나를 공유)
+// - 허가 수 = 벌크헤드 한도, 남는 허가가 없으면 우선순위 > 사용자별 대기열에 넣고 허가가 반납될 때마다 배분
+// - 우선순위 사이: 대기자가 있는 우선순위끼리 weight 비율로 배분 (smooth weighted round robin)
+//   - max-share 로 백그라운드 우선순위가 쥘 수 있는 허가를 제한해 대화 요청 몫을 남겨 둠
+//   - aging-after 넘게 기다린 대기자가 있는 우선순위는 비율과 무관하게 먼저 배분 (하위 우선순위 기아 방지)
+// - 같은 우선순위 안: 사용자 단위 라운드 로빈 (요청을 많이 보낸 사용자가 앞자리를 모두 차지하지 못함)
+// - 사용자 한 명이 동시에 쥘 수 있는 허가는 우선순위마다 per-user-max-concurrent 개
+//   (같은 사용자의 백그라운드 작업(FEEDBACK / BATCH)이 그 사용자의 대화 요청 허가를 막지 않도록 우선순위별로 셈)
+// - 우선순위별 max-wait 안에 허가를 받지 못하면 GeminiUnavailableException (호출 측 대체 응답)
+@Slf4j
+@Component
+public class GeminiFairScheduler {
+
+    private final boolean enabled;
+    private final int permits;
+    private final int perUserLimit;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<GeminiPriority, Lane> lanes = new EnumMap<>(GeminiPriority.class);
+    private volatile int inUse;
+
+    private final MeterRegistry meterRegistry;
+
+    public GeminiFairScheduler(
+            MeterRegistry meterRegistry,
+            GeminiFairShareProperties properties,
+            @Value("${gemini.resilience.max-concurrent-calls:20}") int permits) {
+
+        this.meterRegistry = meterRegistry;
+        this.enabled = properties.isEnabled();
+        this.permits = permits;
+        this.perUserLimit = properties.getPerUserMaxConcurrent();
+
+        for (GeminiPriority priority : GeminiPriority.values()) {
+            lanes.put(priority, new Lane(priority, properties.laneFor(priority), permits, meterRegistry));
+        }
+    }
+
+    // 게이지는 생성이 끝난 뒤 등록 (생성자에서 this 를 레지스트리에 넘기지 않도록)
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("gemini.fair-share.in-use.total", this, scheduler -> scheduler.inUse)
+                .description("사용 중인 Gemini 호출 허가 수 (전체)")
+                .register(meterRegistry);
+        for (Lane lane : lanes.values()) {
+            String tag = lane.priority.name();
+            Gauge.builder("gemini.fair-share.waiting", lane, l -> l.waiting)
+                    .description("Gemini 호출 허가를 기다리는 요청 수")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            Gauge.builder("gemini.fair-share.in-use", lane, l -> l.inFlight)
+                    .description("사용 중인 Gemini 호출 허가 수")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+        }
+    }
+
+    // 허가를 받을 때까지 대기 (블로킹 클라이언트)
+    public Permit acquire(Long userId, GeminiPriority priority) {
+        if (!enabled) {
+            return Permit.NONE;
+        }
+
+        Lane lane = lanes.get(priority);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Waiter waiter = request(userId, lane);
+        try {
+            return waiter.ticket.get(lane.maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(waiter);
+            throw busy(userId, lane, e);
+        } catch (InterruptedException e) {
+            abandon(waiter);
+            Thread.currentThread().interrupt();
+            throw busy(userId, lane, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            sample.stop(lane.waitTimer);
+        }
+    }
+
+    // 허가를 받으면 발행 (논블로킹 클라이언트) - 취소/시간 초과 시 대기열에서 빠지고, 이미 받은 허가는 반납
+    public Mono<Permit> acquireAsync(Long userId, GeminiPriority priority) {
+        if (!enabled) {
+            return Mono.just(Permit.NONE);
+        }
+
+        Lane lane = lanes.get(priority);
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Waiter waiter = request(userId, lane);
+            return Mono.fromFuture(waiter.ticket, true)
+                    .timeout(lane.maxWait)
+                    .doOnCancel(() -> abandon(waiter))
+                    .onErrorMap(TimeoutException.class, e -> {
+                        abandon(waiter);
+                        return busy(userId, lane, e);
+                    })
+                    .doFinally(signal -> sample.stop(lane.waitTimer));
+        });
+    }
+
+    private Waiter request(Long userId, Lane lane) {
+        List<Grant> grants;
+        Waiter waiter;
+
+        lock.lock();
+        try {
+            UserQueue user = lane.users.computeIfAbsent(userId, UserQueue::new);
+            waiter = new Waiter(lane, user, System.nanoTime());
+            user.waiters.addLast(waiter);
+            lane.waiting++;
+            if (user.waiters.size() == 1) {
+                lane.ready.addLast(user);
+            }
+            grants = dispatch();
+        } finally {
+            lock.unlock();
+        }
+
+        complete(grants);
+        return waiter;
+    }
+
+    private void release(Long userId, Lane lane) {
+        List<Grant> grants;
+
+        lock.lock();
+        try {
+            lane.inFlightByUser.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+            lane.inFlight--;
+            inUse--;
+            grants = dispatch();
+        } finally {
+            lock.unlock();
+        }
+
+        complete(grants);
+    }
+
+    // 남은 허가를 우선순위/사용자 순서대로 배분 (잠금 안에서 호출)
+    private List<Grant> dispatch() {
+        List<Grant> grants = new ArrayList<>();
+        long now = System.nanoTime();
+
+        while (inUse < permits) {
+            Lane chosen = null;
+            Lane aged = null;
+            int totalWeight = 0;
+
+            for (Lane lane : lanes.values()) {
+                lane.candidate = lane.nextUser(perUserLimit);
+                if (lane.candidate == null) {
+                    continue;
+                }
+                // 가장 오래 기다린 대기자가 aging-after 를 넘긴 우선순위 - 상위 우선순위부터
+                if (aged == null && lane.agingNanos > 0
+                        && now - lane.candidate.waiters.peekFirst().enqueuedAt >= lane.agingNanos) {
+                    aged = lane;
+                }
+                lane.current += lane.weight;
+                totalWeight += lane.weight;
+                if (chosen == null || lane.current > chosen.current) {
+                    chosen = lane;
+                }
+            }
+            if (chosen == null) {
+                break;
+            }
+            if (aged != null && aged != chosen) {
+                aged.promoted.increment();
+                chosen = aged;
+            }
+            chosen.current -= totalWeight;
+
+            UserQueue user = chosen.candidate;
+            Waiter waiter = user.waiters.pollFirst();
+            chosen.ready.remove(user);
+            if (user.waiters.isEmpty()) {
+                chosen.users.remove(user.userId);
+            } else {
+                chosen.ready.addLast(user);
+            }
+            chosen.waiting--;
+            chosen.inFlight++;
+            inUse++;
+            chosen.inFlightByUser.merge(user.userId, 1, Integer::sum);
+            grants.add(new Grant(waiter, new Permit(this, user.userId, chosen)));
+        }
+        return grants;
+    }
+
+    // 잠금 밖에서 대기자 깨우기 (그 사이 취소된 대기자의 허가는 바로 반납)
+    private void complete(List<Grant> grants) {
+        for (Grant grant : grants) {
+            if (!grant.waiter.ticket.complete(grant.permit)) {
+                grant.permit.release();
+            }
+        }
+    }
+
+    // 대기 포기 - 아직 대기열에 있으면 제거, 이미 허가를 받았으면 반납
+    private void abandon(Waiter waiter) {
+        if (!waiter.ticket.cancel(false)) {
+            Permit permit = waiter.ticket.getNow(null);
+            if (permit != null) {
+                permit.release();
+            }
+            return;
+        }
+
+        lock.lock();
+        try {
+            UserQueue user = waiter.user;
+            Lane lane = waiter.lane;
+            if (user.waiters.remove(waiter)) {
+                lane.waiting--;
+                if (user.waiters.isEmpty()) {
+                    lane.ready.remove(user);
+                    lane.users.remove(user.userId);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private GeminiUnavailableException busy(Long userId, Lane lane, Exception cause) {
+        lane.timedOut.increment();
+        log.warn("[User: {}] Gemini 호출 허가 대기 시간 초과 ({}, {}) - 즉시 실패", userId, lane.priority, lane.maxWait);
+        return new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, cause);
+    }
+
+    // Gemini 호출 허가 - 호출이 끝나면 반드시 release (중복 호출은 무시)
+    public static final class Permit {
+
+        private static final Permit NONE = new Permit(null, null, null);
+
+        private final GeminiFairScheduler scheduler;
+        private final Long userId;
+        private final Lane lane;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(GeminiFairScheduler scheduler, Long userId, Lane lane) {
+            this.scheduler = scheduler;
+            this.userId = userId;
+            this.lane = lane;
+        }
+
+        public void release() {
+            if (scheduler != null && released.compareAndSet(false, true)) {
+                scheduler.release(userId, lane);
+            }
+        }
+    }
+
+    // 우선순위별 대기열 (필드는 잠금 안에서만 변경)
+    private static final class Lane {
+        private final GeminiPriority priority;
+        private final int weight;
+        private final int maxInFlight;
+        private final Duration maxWait;
+        private final long agingNanos;
+
+        private final Map<Long, UserQueue> users = new HashMap<>();
+        // 대기자가 있는 사용자 (라운드 로빈 순서)
+        private final ArrayDeque<UserQueue> ready = new ArrayDeque<>();
+        // 이 우선순위에서 사용자별 사용 중인 허가 수 (0 이 되면 제거)
+        private final Map<Long, Integer> inFlightByUser = new HashMap<>();
+        private volatile int waiting;
+        private volatile int inFlight;
+        // smooth weighted round robin 누적 값 / 이번 배분 후보
+        private int current;
+        private UserQueue candidate;
+
+        private final Timer waitTimer;
+        private final Counter timedOut;
+        private final Counter promoted;
+
+        private Lane(GeminiPriority priority, GeminiFairShareProperties.Lane config, int permits, MeterRegistry meterRegistry) {
+            this.priority = priority;
+            this.weight = Math.max(1, config.getWeight());
+            this.maxInFlight = Math.max(1, (int) Math.ceil(permits * config.getMaxShare()));
+            this.maxWait = config.getMaxWait();
+            this.agingNanos = config.getAgingAfter().toNanos();
+
+            String tag = priority.name();
+            this.waitTimer = Timer.builder("gemini.fair-share.wait")
+                    .description("Gemini 호출 허가 대기 시간")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            this.timedOut = Counter.builder("gemini.fair-share.timeouts")
+                    .description("대기 시간 안에 Gemini 호출 허가를 받지 못한 요청 수")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+            this.promoted = Counter.builder("gemini.fair-share.promotions")
+                    .description("오래 기다려 비율과 무관하게 먼저 배분된 횟수")
+                    .tag("priority", tag)
+                    .register(meterRegistry);
+        }
+
+        // 지금 허가를 받을 수 있는 첫 사용자 (우선순위 몫 / 사용자별 한도를 넘은 사용자는 건너뜀)
+        private UserQueue nextUser(int perUserLimit) {
+            if (inFlight >= maxInFlight) {
+                return null;
+            }
+            for (UserQueue user : ready) {
+                if (inFlightByUser.getOrDefault(user.userId, 0) < perUserLimit) {
+                    return user;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static final class UserQueue {
+        private final Long userId;
+        private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+
+        private UserQueue(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    private static final class Waiter {
+        private final CompletableFuture<Permit> ticket = new CompletableFuture<>();
+        private final Lane lane;
+        private final UserQueue user;
+        private final long enqueuedAt;
+
+        private Waiter(Lane lane, UserQueue user, long enqueuedAt) {
+            this.lane = lane;
+            this.user = user;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+
+    private static final class Grant {
+        private final Waiter waiter;
+        private final Permit permit;
+
+        private Grant(Waiter waiter, Permit permit) {
+            this.waiter = waiter;
+            this.permit = permit;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.finz.infrastructure.gemini;
+
+import com.finz.infrastructure.gemini.dto.GeminiRequest;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Gemini 호출 메트릭
+// - gemini.request            호출 지연 (재시도/대기 포함, 태그: operation, outcome(success|error|unavailable|cancelled))
+// - gemini.request.size       요청 본문 글자 수 / gemini.request.tokens 추정 입력 토큰 수 (태그: operation)
+// - gemini.response.size      응답 글자 수 (태그: operation)
+// - gemini.errors             실패한 HTTP 시도 수 (태그: status - 429/503/ResourceAccessException 등)
+// - gemini.retries            재시도 횟수 (태그: reason)
+@Component
+public class GeminiMetrics {
+
+    public static final String INITIAL = "initial";
+    public static final String CHAT = "chat";
+    public static final String STREAM = "stream";
+
+    private final MeterRegistry meterRegistry;
+
+    public GeminiMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public String record(String operation, SystemPrompt systemPrompt, List<GeminiRequest.Content> contents,
+                         Supplier<String> call) {
+
+        recordRequestSize(operation, systemPrompt, contents);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            String response = call.get();
+            outcome = "success";
+            recordResponseSize(operation, response.length());
+            return response;
+        } catch (GeminiUnavailableException e) {
+            outcome = "unavailable";
+            throw e;
+        } finally {
+            stop(sample, operation, outcome);
+        }
+    }
+
+    // WebClient 호출 - 구독 시점부터 완료/에러/취소까지
+    public Mono<String> record(String operation, SystemPrompt systemPrompt, List<GeminiRequest.Content> contents,
+                               Mono<String> call) {
+
+        return Mono.defer(() -> {
+            recordRequestSize(operation, systemPrompt, contents);
+            Timer.Sample sample = Timer.start(meterRegistry);
+
+            return call
+                    .doOnSuccess(response -> {
+                        recordResponseSize(operation, response == null ? 0 : response.length());
+                        stop(sample, operation, "success");
+                    })
+                    .doOnError(e -> stop(sample, operation, outcome(e)))
+                    .doOnCancel(() -> stop(sample, operation, "cancelled"));
+        });
+    }
+
+    // WebClient 스트리밍 호출 - 응답 크기는 전체 조각 글자 수 합
+    public Flux<String> recordStream(String operation, SystemPrompt systemPrompt, List<GeminiRequest.Content> contents,
+                                     Flux<String> call) {
+
+        return Flux.defer(() -> {
+            recordRequestSize(operation, systemPrompt, contents);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicLong chars = new AtomicLong();
+
+            return call
+                    .doOnNext(chunk -> chars.addAndGet(chunk.length()))
+                    .doOnComplete(() -> {
+                        recordResponseSize(operation, chars.get());
+                        stop(sample, operation, "success");
+                    })
+                    .doOnError(e -> stop(sample, operation, outcome(e)))
+                    .doOnCancel(() -> stop(sample, operation, "cancelled"));
+        });
+    }
+
+    public void attemptFailed(String status) {
+        Counter.builder("gemini.errors")
+                .description("실패한 Gemini HTTP 시도 수")
+                .tag("status", status)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public void retried(String reason) {
+        Counter.builder("gemini.retries")
+                .description("Gemini 호출 재시도 횟수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String outcome(Throwable e) {
+        return e instanceof GeminiUnavailableException ? "unavailable" : "error";
+    }
+
+    private void stop(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(Timer.builder("gemini.request")
+                .description("Gemini 호출 지연 (재시도 포함)")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    private void recordResponseSize(String operation, long chars) {
+        DistributionSummary.builder("gemini.response.size")
+                .description("Gemini 응답 글자 수")
+                .baseUnit("chars")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(chars);
+    }
+
+    private void recordRequestSize(String operation, SystemPrompt systemPrompt, List<GeminiRequest.Content> contents) {
+        String prompt = systemPrompt.text();
+        long chars = prompt.length();
+        long tokens = TokenEstimator.estimate(prompt);
+        for (GeminiRequest.Content content : contents) {
+            for (GeminiRequest.Part part : content.getParts()) {
+                chars += part.getText().length();
+                tokens += TokenEstimator.estimateMessage(part.getText());
+            }
+        }
+
+        DistributionSummary.builder("gemini.request.size")
+                .description("Gemini 요청 글자 수 (시스템 프롬프트 + 대화)")
+                .baseUnit("chars")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(chars);
+        DistributionSummary.builder("gemini.request.tokens")
+                .description("Gemini 요청 추정 입력 토큰 수")
+                .baseUnit("tokens")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(tokens);
+    }
+}
@@ -0,0 +1,9 @@
+package com.finz.infrastructure.gemini;
+
+// Gemini 호출 우선순위 (GeminiFairScheduler 가 허가를 배분하는 기준)
+public enum GeminiPriority {
+    INTERACTIVE,  // 대화 진행 - 사용자가 응답을 기다리는 중
+    CONSULT,      // 상담 시작 메시지
+    FEEDBACK,     // 지출 기록 피드백 - 백그라운드, 지연 허용
+    BATCH         // 대화 요약 등 배치 작업
+}
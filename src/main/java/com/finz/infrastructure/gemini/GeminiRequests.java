@@ -0,0 +1,83 @@
+package com.finz.infrastructure.gemini;
+
+import com.finz.infrastructure.gemini.dto.GeminiMessage;
+import com.finz.infrastructure.gemini.dto.GeminiRequest;
+import com.finz.infrastructure.gemini.dto.GeminiResponse;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Gemini 요청 본문 구성 / 응답 텍스트 추출 (RestTemplate, WebClient 클라이언트 공통)
+final class GeminiRequests {
+
+    private GeminiRequests() {
+    }
+
+    static List<GeminiRequest.Content> chatContents(List<GeminiMessage> history, String userMessage) {
+
+        List<GeminiRequest.Content> contents = new ArrayList<>(history.size() + 1);
+
+        // 1. 대화 히스토리
+        for (GeminiMessage msg : history) {
+            contents.add(GeminiRequest.Content.builder()
+                .role(msg.getRole())
+                .parts(List.of(GeminiRequest.Part.builder().text(msg.getContent()).build()))
+                .build());
+        }
+
+        // 2. 현재 사용자 메시지
+        contents.add(userContent(userMessage));
+
+        return contents;
+    }
+
+    // 시스템 프롬프트 배치
+    // - 캐시 핸들 있음: 페르소나는 cachedContent 로 참조, 사용자별 컨텍스트는 첫 user 턴으로 전송
+    //   (cachedContent 와 systemInstruction 은 한 요청에 함께 지정할 수 없음)
+    // - 캐시 핸들 없음: 페르소나 + 컨텍스트 전체를 systemInstruction 으로 전송
+    static GeminiRequest build(SystemPrompt systemPrompt, List<GeminiRequest.Content> contents, String cachedContent) {
+
+        if (cachedContent == null) {
+            return GeminiRequest.builder()
+                .systemInstruction(GeminiRequest.Content.builder()
+                    .parts(List.of(GeminiRequest.Part.builder().text(systemPrompt.text()).build()))
+                    .build())
+                .contents(contents)
+                .build();
+        }
+
+        List<GeminiRequest.Content> withContext = new ArrayList<>(contents.size() + 1);
+        if (systemPrompt.getContext() != null && !systemPrompt.getContext().isEmpty()) {
+            withContext.add(userContent(systemPrompt.getContext()));
+        }
+        withContext.addAll(contents);
+        return GeminiRequest.builder()
+            .cachedContent(cachedContent)
+            .contents(withContext)
+            .build();
+    }
+
+    static GeminiRequest.Content userContent(String text) {
+        return GeminiRequest.Content.builder()
+            .role("user")
+            .parts(List.of(GeminiRequest.Part.builder().text(text).build()))
+            .build();
+    }
+
+    static String extractText(GeminiResponse response) {
+        if (response == null || response.getCandidates() == null || response.getCandidates().isEmpty()) {
+            return null;
+        }
+        GeminiRequest.Content content = response.getCandidates().get(0).getContent();
+        if (content == null || content.getParts() == null || content.getParts().isEmpty()) {
+            return null;
+        }
+        return content.getParts().get(0).getText();
+    }
+
+    // generateContent 엔드포인트로부터 streamGenerateContent(SSE) 엔드포인트 생성
+    static String streamUrl(String apiUrl) {
+        return apiUrl.replace(":generateContent", ":streamGenerateContent") + "?alt=sse";
+    }
+}
@@ -0,0 +1,12 @@
+package com.finz.infrastructure.gemini;
+
+// Gemini를 일시적으로 사용할 수 없는 경우 (서킷 OPEN, 동시 호출 한도 초과, 재시도 예산 소진, 쿼터 초과)
+// - 호출 측은 이 예외를 받으면 대체(fallback) 응답으로 빠르게 응답할 수 있음
+public class GeminiUnavailableException extends RuntimeException {
+
+    static final String BUSY_MESSAGE = "AI 서비스가 현재 사용량이 많습니다. 잠시 후 다시 시도해주세요.";
+
+    public GeminiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
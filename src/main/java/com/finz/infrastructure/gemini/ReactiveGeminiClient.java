@@ -0,0 +1,237 @@
+package com.finz.infrastructure.gemini;
+
+import com.finz.config.AsyncConfig;
+import com.finz.config.GeminiResilienceConfig;
+import com.finz.infrastructure.gemini.dto.GeminiMessage;
+import com.finz.infrastructure.gemini.dto.GeminiRequest;
+import com.finz.infrastructure.gemini.dto.GeminiResponse;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Gemini API 논블로킹 클라이언트 (WebClient / Reactor Netty)
+// - GeminiApiClient 와 같은 요청 구성, 컨텍스트 캐시, 재시도(Retry-After / 지수 백오프 + 지터) → 시도마다 벌크헤드 → 서킷 브레이커 순서
+//   (벌크헤드 자리는 시도 동안만 쥐고 재시도 대기 중에는 반납)
+// - 응답 대기 동안 스레드를 점유하지 않으므로 진행 중인 호출 수는 연결 수와 벌크헤드로만 제한
+// - 컨텍스트 캐시 핸들 생성/갱신은 블로킹 HTTP 호출이므로 coach-db 스케줄러에서 실행
+// - 시도마다 GeminiFairScheduler 허가(사용자 대화 우선순위)를 받고, 완료/에러/취소 시 반납 (재시도 대기 중에는 쥐지 않음)
+@Slf4j
+@Component
+public class ReactiveGeminiClient {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<GeminiResponse>> STREAM_EVENT =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+    private final CircuitBreaker geminiCircuitBreaker;
+    private final Bulkhead geminiBulkhead;
+    private final GeminiContextCache contextCache;
+    private final GeminiMetrics metrics;
+    private final GeminiFairScheduler fairScheduler;
+    private final Scheduler blockingScheduler;
+
+    private final String apiKey;
+    private final String apiUrl;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration maxTotalWait;
+
+    public ReactiveGeminiClient(
+            @Qualifier("geminiWebClient") WebClient webClient,
+            CircuitBreaker geminiCircuitBreaker,
+            Bulkhead geminiBulkhead,
+            GeminiContextCache contextCache,
+            GeminiMetrics metrics,
+            GeminiFairScheduler fairScheduler,
+            @Qualifier(AsyncConfig.COACH_DB_SCHEDULER) Scheduler blockingScheduler,
+            @Value("${gemini.api.key}") String apiKey,
+            @Value("${gemini.api.url}") String apiUrl,
+            @Value("${gemini.retry.max-attempts:3}") int maxAttempts,
+            @Value("${gemini.retry.initial-backoff:500ms}") Duration initialBackoff,
+            @Value("${gemini.retry.max-backoff:8s}") Duration maxBackoff,
+            @Value("${gemini.retry.max-total-wait:10s}") Duration maxTotalWait) {
+
+        this.webClient = webClient;
+        this.geminiCircuitBreaker = geminiCircuitBreaker;
+        this.geminiBulkhead = geminiBulkhead;
+        this.contextCache = contextCache;
+        this.metrics = metrics;
+        this.fairScheduler = fairScheduler;
+        this.blockingScheduler = blockingScheduler;
+        this.apiKey = apiKey;
+        this.apiUrl = apiUrl;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.maxTotalWait = maxTotalWait;
+    }
+
+    // 대화 진행 (히스토리 포함)
+    public Mono<String> chat(Long userId, SystemPrompt systemPrompt, List<GeminiMessage> history, String userMessage) {
+        List<GeminiRequest.Content> contents = GeminiRequests.chatContents(history, userMessage);
+
+        Mono<String> call = cacheHandle(systemPrompt).flatMap(handle -> handle
+                .map(cachedContent -> generate(userId, GeminiRequests.build(systemPrompt, contents, cachedContent))
+                        .onErrorResume(CachedContentMissException.class, e -> {
+                            contextCache.evict(systemPrompt.getPersona(), cachedContent);
+                            return generate(userId, GeminiRequests.build(systemPrompt, contents, null));
+                        }))
+                .orElseGet(() -> generate(userId, GeminiRequests.build(systemPrompt, contents, null))));
+
+        return metrics.record(GeminiMetrics.CHAT, systemPrompt, contents, call);
+    }
+
+    // 대화 진행 - 스트리밍 (토큰 조각 Flux, 조각이 하나도 없으면 에러)
+    public Flux<String> chatStream(Long userId, SystemPrompt systemPrompt, List<GeminiMessage> history, String userMessage) {
+        List<GeminiRequest.Content> contents = GeminiRequests.chatContents(history, userMessage);
+
+        Flux<String> call = cacheHandle(systemPrompt).flatMapMany(handle -> handle
+                .map(cachedContent -> stream(userId, GeminiRequests.build(systemPrompt, contents, cachedContent))
+                        // 캐시 핸들 오류는 응답 상태로 오므로 첫 조각 전 - 캐시 없이 다시 요청
+                        .onErrorResume(CachedContentMissException.class, e -> {
+                            contextCache.evict(systemPrompt.getPersona(), cachedContent);
+                            return stream(userId, GeminiRequests.build(systemPrompt, contents, null));
+                        }))
+                .orElseGet(() -> stream(userId, GeminiRequests.build(systemPrompt, contents, null))))
+                .switchIfEmpty(Flux.error(() -> new RuntimeException("Gemini API 응답이 비어있습니다.")));
+
+        return metrics.recordStream(GeminiMetrics.STREAM, systemPrompt, contents, call);
+    }
+
+    private Mono<Void> release(GeminiFairScheduler.Permit permit) {
+        return Mono.fromRunnable(permit::release);
+    }
+
+    private Mono<Optional<String>> cacheHandle(SystemPrompt systemPrompt) {
+        return Mono.fromSupplier(() -> Optional.ofNullable(contextCache.handleFor(systemPrompt.getPersona())))
+                .subscribeOn(blockingScheduler);
+    }
+
+    // 재시도마다 다시 구독되므로 허가/벌크헤드는 시도 단위로 받고 반납
+    private Mono<String> generate(Long userId, GeminiRequest request) {
+        return Mono.usingWhen(fairScheduler.acquireAsync(userId, GeminiPriority.INTERACTIVE), permit -> attempt(request), this::release)
+                .retryWhen(retry())
+                .onErrorMap(translate(request));
+    }
+
+    private Mono<String> attempt(GeminiRequest request) {
+        return webClient.post()
+                .uri(apiUrl + "?key={key}", apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(GeminiResponse.class)
+                .map(response -> {
+                    String text = GeminiRequests.extractText(response);
+                    if (text == null) {
+                        throw new RuntimeException("Gemini API 응답이 비어있습니다.");
+                    }
+                    return text;
+                })
+                .doOnError(WebClientException.class, e -> metrics.attemptFailed(GeminiBackoff.describe(e)))
+                .transformDeferred(CircuitBreakerOperator.of(geminiCircuitBreaker))
+                .transformDeferred(BulkheadOperator.of(geminiBulkhead));
+    }
+
+    // 스트리밍은 첫 조각 이후 재시도할 수 없으므로 허가 → 서킷 브레이커/벌크헤드만 적용
+    private Flux<String> stream(Long userId, GeminiRequest request) {
+        return Flux.usingWhen(fairScheduler.acquireAsync(userId, GeminiPriority.INTERACTIVE), permit -> streamAttempt(request), this::release)
+                .onErrorMap(translate(request));
+    }
+
+    private Flux<String> streamAttempt(GeminiRequest request) {
+        return webClient.post()
+                .uri(GeminiRequests.streamUrl(apiUrl) + "&key={key}", apiKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(request)
+                .retrieve()
+                .bodyToFlux(STREAM_EVENT)
+                .mapNotNull(event -> GeminiRequests.extractText(event.data()))
+                .filter(text -> !text.isEmpty())
+                .doOnError(WebClientException.class, e -> metrics.attemptFailed(GeminiBackoff.describe(e)))
+                .transformDeferred(CircuitBreakerOperator.of(geminiCircuitBreaker))
+                .transformDeferred(BulkheadOperator.of(geminiBulkhead));
+    }
+
+    // 일시 오류만 재시도 (Retry-After 우선), 대기 합계가 재시도 예산을 넘으면 즉시 실패
+    private Retry retry() {
+        return Retry.from(signals -> {
+            long deadline = System.nanoTime() + maxTotalWait.toNanos();
+
+            return signals.concatMap(signal -> {
+                Throwable e = signal.failure();
+                long attempt = signal.totalRetries() + 1;
+
+                if (!GeminiResilienceConfig.isTransientFailure(e)) {
+                    return Mono.error(e);
+                }
+                if (attempt >= maxAttempts) {
+                    log.error("Gemini API 재시도 초과 - 최대 {}번 시도 완료", maxAttempts);
+                    return Mono.error(e);
+                }
+
+                long waitMillis = GeminiBackoff.millis(attempt, initialBackoff, maxBackoff, e);
+                if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis) > deadline) {
+                    log.warn("Gemini API 재시도 대기({}ms)가 재시도 예산을 초과 - 즉시 실패", waitMillis);
+                    return Mono.error(e);
+                }
+
+                log.warn("Gemini API 일시 오류 ({}) - {}ms 후 재시도 {}/{}",
+                        GeminiBackoff.describe(e), waitMillis, attempt, maxAttempts);
+                metrics.retried(GeminiBackoff.describe(e));
+                return Mono.delay(Duration.ofMillis(waitMillis));
+            });
+        });
+    }
+
+    // 블로킹 클라이언트와 같은 예외로 변환 (호출 측 대체 응답 처리 공유)
+    private Function<Throwable, Throwable> translate(GeminiRequest request) {
+        return e -> {
+            if (e instanceof CallNotPermittedException) {
+                log.warn("Gemini API 서킷 OPEN - 호출 차단");
+                return new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, e);
+            }
+            if (e instanceof BulkheadFullException) {
+                log.warn("Gemini API 동시 호출 한도 초과 - {} 대기 후 실패", geminiBulkhead.getBulkheadConfig().getMaxWaitDuration());
+                return new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, e);
+            }
+            if (!(e instanceof WebClientException)) {
+                return e;
+            }
+            if (request.getCachedContent() != null && GeminiContextCache.isCachedContentMiss(e)) {
+                return new CachedContentMissException(e);
+            }
+            if (GeminiResilienceConfig.isTransientFailure(e)) {
+                return new GeminiUnavailableException(GeminiUnavailableException.BUSY_MESSAGE, e);
+            }
+            log.error("Gemini API 호출 실패", e);
+            return new RuntimeException("AI 응답 생성 중 오류가 발생했습니다: " + e.getMessage());
+        };
+    }
+}
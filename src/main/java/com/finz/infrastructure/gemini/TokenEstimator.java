@@ -0,0 +1,55 @@
+package com.finz.infrastructure.gemini;
+
+// Gemini 입력 토큰 수 추정 (요청 전에 프롬프트 예산을 지키기 위한 보수적 근사치)
+// - 한글 음절/자모, 한자: 글자당 1토큰 (실측보다 약간 크게 잡음)
+// - 숫자: 자리당 1토큰 (Gemini 토크나이저는 숫자를 한 자리씩 분리)
+// - 영문/공백: 4글자당 1토큰, 기타 ASCII 기호: 2글자당 1토큰
+// - 이모지 등 보조 평면 문자: 글자당 2토큰
+// 내부적으로 1/4 토큰 단위로 더한 뒤 올림
+public final class TokenEstimator {
+
+    // 메시지 1건당 역할/구분자 오버헤드
+    public static final int MESSAGE_OVERHEAD = 4;
+
+    private static final int QUARTERS_PER_TOKEN = 4;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+
+        long quarters = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                quarters += 2 * QUARTERS_PER_TOKEN;
+                i++;
+            } else if (c < 0x80) {
+                quarters += asciiQuarters(c);
+            } else {
+                // 한글 음절(AC00-D7A3), 자모, 한자 및 그 밖의 BMP 문자
+                quarters += QUARTERS_PER_TOKEN;
+            }
+        }
+        return (int) ((quarters + QUARTERS_PER_TOKEN - 1) / QUARTERS_PER_TOKEN);
+    }
+
+    // 대화 메시지 1건 (본문 + 오버헤드)
+    public static int estimateMessage(CharSequence content) {
+        return estimate(content) + MESSAGE_OVERHEAD;
+    }
+
+    private static int asciiQuarters(char c) {
+        if (c >= '0' && c <= '9') {
+            return QUARTERS_PER_TOKEN;
+        }
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == ' ' || c == '\n' || c == '\t' || c == '\r') {
+            return 1;
+        }
+        return 2;
+    }
+}
@@ -0,0 +1,23 @@
+package com.finz.infrastructure.gemini.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// cachedContents 생성/TTL 갱신 요청 및 응답
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GeminiCachedContent {
+    private String name;                                // "cachedContents/{id}" (응답)
+    private String model;                               // "models/{model}" (생성 요청)
+    private GeminiRequest.Content systemInstruction;    // 캐시할 페르소나 (생성 요청)
+    private String ttl;                                 // "3600s"
+    private String expireTime;                          // RFC 3339 (응답)
+}
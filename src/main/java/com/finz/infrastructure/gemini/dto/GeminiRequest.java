@@ -1,5 +1,6 @@
 package com.finz.infrastructure.gemini.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,13 +12,17 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class GeminiRequest {
+    private Content systemInstruction;  // 페르소나 + 사용자 컨텍스트 (cachedContent 사용 시에는 지정 불가)
+    private String cachedContent;       // "cachedContents/{id}" - 캐시된 페르소나 핸들
     private List<Content> contents;
     
     @Data
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Content {
         private String role;
         private List<Part> parts;
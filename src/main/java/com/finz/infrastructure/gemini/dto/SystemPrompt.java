@@ -0,0 +1,28 @@
+package com.finz.infrastructure.gemini.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 시스템 프롬프트 = 모든 사용자에게 동일한 페르소나 + 사용자별 컨텍스트
+// - persona: 역할/말투/진행 가이드 (systemInstruction, 가능하면 cachedContent 로 재사용)
+// - context: 사용자 정보/지출/목표 등 요청마다 달라지는 부분
+@Getter
+@RequiredArgsConstructor(staticName = "of")
+public class SystemPrompt {
+
+    private final String persona;
+    private final String context;
+
+    // 사용자별 컨텍스트만 교체 (페르소나는 그대로 유지해 캐시 재사용)
+    public SystemPrompt withContext(String context) {
+        return SystemPrompt.of(persona, context);
+    }
+
+    // 페르소나 + 컨텍스트 전체 (캐시 미사용 시 systemInstruction, 토큰 추정/응답 캐시 키)
+    public String text() {
+        if (context == null || context.isEmpty()) {
+            return persona;
+        }
+        return persona + "\n\n" + context;
+    }
+}
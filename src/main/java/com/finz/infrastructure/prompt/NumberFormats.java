@@ -0,0 +1,44 @@
+package com.finz.infrastructure.prompt;
+
+// 천 단위 구분 숫자 출력 (String.format("%,d")와 같은 결과, Formatter/정규식 파싱 없이 버퍼에 바로 기록)
+public final class NumberFormats {
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private NumberFormats() {
+    }
+
+    public static StringBuilder appendGrouped(StringBuilder out, long value) {
+        if (value == Long.MIN_VALUE) {
+            return out.append("-9,223,372,036,854,775,808");
+        }
+        if (value < 0) {
+            out.append('-');
+            value = -value;
+        }
+
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+
+        int firstGroup = digits % 3 == 0 ? 3 : digits % 3;
+        for (int i = 0; i < digits; i++) {
+            if (i >= firstGroup && (i - firstGroup) % 3 == 0) {
+                out.append(',');
+            }
+            long divisor = POWERS_OF_TEN[digits - 1 - i];
+            int digit = (int) (value / divisor);
+            out.append((char) ('0' + digit));
+            value -= digit * divisor;
+        }
+        return out;
+    }
+}
@@ -0,0 +1,269 @@
+package com.finz.infrastructure.prompt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+// 시작 시 한 번 파싱된 프롬프트 템플릿 (세그먼트 배열)
+// 문법
+// - {{name}}       값 출력
+// - {{name:n}}     숫자 천 단위 구분 출력 (String.format("%,d") 대체)
+// - {{#name}}..{{/name}}  값이 List면 항목마다 반복(항목 Map이 새 스코프), true/값 있음이면 1회 출력
+// - {{^name}}..{{/name}}  값이 없거나 false/빈 목록일 때만 출력
+// - {{@index}}     반복 중 1부터 시작하는 순번
+// - {{>fragment}}  공통 조각 포함 (파싱 전에 펼침)
+// 섹션/조각 태그만 있는 줄은 줄 전체(개행 포함)를 출력하지 않음
+public final class PromptTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final String INDEX = "@index";
+
+    private final String name;
+    private final Segment[] segments;
+
+    // 렌더링 결과 길이 추정치 (버퍼 크기 힌트) - 관측된 최대 길이로 갱신
+    private volatile int sizeHint;
+
+    private PromptTemplate(String name, Segment[] segments, int literalLength) {
+        this.name = name;
+        this.segments = segments;
+        this.sizeHint = literalLength + literalLength / 4;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    int getSizeHint() {
+        return sizeHint;
+    }
+
+    void render(StringBuilder out, Map<String, ?> model) {
+        int start = out.length();
+        renderSegments(segments, out, new Scope(model));
+
+        int rendered = out.length() - start;
+        if (rendered > sizeHint) {
+            sizeHint = rendered;
+        }
+    }
+
+    // ===== 파싱 =====
+
+    static PromptTemplate parse(String name, String source) {
+        List<Segment> root = new ArrayList<>();
+        List<List<Segment>> stack = new ArrayList<>();
+        List<String> openNames = new ArrayList<>();
+        List<Boolean> openInverted = new ArrayList<>();
+        stack.add(root);
+
+        int literalLength = 0;
+        int pos = 0;
+        while (pos < source.length()) {
+            int open = source.indexOf(OPEN, pos);
+            if (open < 0) {
+                literalLength += addLiteral(stack.get(stack.size() - 1), source.substring(pos));
+                break;
+            }
+            int close = source.indexOf(CLOSE, open);
+            if (close < 0) {
+                throw new IllegalStateException("닫히지 않은 태그 - template: " + name + ", offset: " + open);
+            }
+
+            String tag = source.substring(open + OPEN.length(), close).trim();
+            int tagEnd = close + CLOSE.length();
+            char kind = tag.isEmpty() ? ' ' : tag.charAt(0);
+
+            // 섹션 태그만 있는 줄이면 줄 전체를 제거
+            int literalEnd = open;
+            if (kind == '#' || kind == '^' || kind == '/') {
+                int lineStart = source.lastIndexOf('\n', open - 1) + 1;
+                int lineEnd = source.indexOf('\n', tagEnd);
+                lineEnd = lineEnd < 0 ? source.length() : lineEnd + 1;
+                if (source.substring(lineStart, open).isBlank() && source.substring(tagEnd, lineEnd).isBlank()) {
+                    literalEnd = Math.max(pos, lineStart);
+                    tagEnd = lineEnd;
+                }
+            }
+            literalLength += addLiteral(stack.get(stack.size() - 1), source.substring(pos, literalEnd));
+
+            switch (kind) {
+                case '#', '^' -> {
+                    List<Segment> children = new ArrayList<>();
+                    openNames.add(tag.substring(1).trim());
+                    openInverted.add(kind == '^');
+                    stack.add(children);
+                }
+                case '/' -> {
+                    String sectionName = tag.substring(1).trim();
+                    if (openNames.isEmpty() || !openNames.get(openNames.size() - 1).equals(sectionName)) {
+                        throw new IllegalStateException("섹션 짝이 맞지 않음 - template: " + name + ", section: " + sectionName);
+                    }
+                    List<Segment> children = stack.remove(stack.size() - 1);
+                    String openName = openNames.remove(openNames.size() - 1);
+                    boolean inverted = openInverted.remove(openInverted.size() - 1);
+                    stack.get(stack.size() - 1).add(new Section(openName, inverted, children.toArray(Segment[]::new)));
+                }
+                case '>' -> throw new IllegalStateException("펼쳐지지 않은 조각 - template: " + name + ", fragment: " + tag);
+                default -> {
+                    if (tag.isEmpty()) {
+                        throw new IllegalStateException("빈 태그 - template: " + name + ", offset: " + open);
+                    }
+                    boolean grouped = tag.endsWith(":n");
+                    String variable = grouped ? tag.substring(0, tag.length() - 2).trim() : tag;
+                    stack.get(stack.size() - 1).add(new Variable(variable, grouped));
+                }
+            }
+            pos = tagEnd;
+        }
+
+        if (!openNames.isEmpty()) {
+            throw new IllegalStateException("닫히지 않은 섹션 - template: " + name + ", section: " + openNames);
+        }
+        return new PromptTemplate(name, root.toArray(Segment[]::new), literalLength);
+    }
+
+    private static int addLiteral(List<Segment> target, String text) {
+        if (!text.isEmpty()) {
+            target.add(new Literal(text));
+        }
+        return text.length();
+    }
+
+    // ===== 렌더링 =====
+
+    private static void renderSegments(Segment[] segments, StringBuilder out, Scope scope) {
+        for (Segment segment : segments) {
+            if (segment instanceof Literal literal) {
+                out.append(literal.text);
+            } else if (segment instanceof Variable variable) {
+                appendValue(out, scope.lookup(variable.name), variable.grouped);
+            } else {
+                renderSection((Section) segment, out, scope);
+            }
+        }
+    }
+
+    private static void renderSection(Section section, StringBuilder out, Scope scope) {
+        Object value = scope.lookup(section.name);
+
+        if (section.inverted) {
+            if (!isTruthy(value)) {
+                renderSegments(section.children, out, scope);
+            }
+            return;
+        }
+        if (!isTruthy(value)) {
+            return;
+        }
+
+        if (value instanceof List<?> items) {
+            for (int i = 0; i < items.size(); i++) {
+                renderSegments(section.children, out, scope.push(items.get(i), i + 1));
+            }
+        } else if (value instanceof Map<?, ?>) {
+            renderSegments(section.children, out, scope.push(value, scope.index));
+        } else {
+            renderSegments(section.children, out, scope);
+        }
+    }
+
+    private static boolean isTruthy(Object value) {
+        if (value == null || Boolean.FALSE.equals(value)) {
+            return false;
+        }
+        if (value instanceof CharSequence text) {
+            return !text.isEmpty();
+        }
+        if (value instanceof Collection<?> items) {
+            return !items.isEmpty();
+        }
+        return true;
+    }
+
+    private static void appendValue(StringBuilder out, Object value, boolean grouped) {
+        if (value instanceof Integer || value instanceof Long) {
+            long number = ((Number) value).longValue();
+            if (grouped) {
+                NumberFormats.appendGrouped(out, number);
+            } else {
+                out.append(number);
+            }
+        } else {
+            out.append(value);
+        }
+    }
+
+    // ===== 세그먼트 =====
+
+    private interface Segment {
+    }
+
+    private static final class Literal implements Segment {
+        private final String text;
+
+        private Literal(String text) {
+            this.text = text;
+        }
+    }
+
+    private static final class Variable implements Segment {
+        private final String name;
+        private final boolean grouped;
+
+        private Variable(String name, boolean grouped) {
+            this.name = name;
+            this.grouped = grouped;
+        }
+    }
+
+    private static final class Section implements Segment {
+        private final String name;
+        private final boolean inverted;
+        private final Segment[] children;
+
+        private Section(String name, boolean inverted, Segment[] children) {
+            this.name = name;
+            this.inverted = inverted;
+            this.children = children;
+        }
+    }
+
+    // 변수 조회 스코프 (안쪽 섹션 항목 -> 바깥 모델 순서로 조회)
+    private static final class Scope {
+        private final Object values;
+        private final Scope parent;
+        private final int index;
+
+        private Scope(Object values) {
+            this(values, null, 0);
+        }
+
+        private Scope(Object values, Scope parent, int index) {
+            this.values = values;
+            this.parent = parent;
+            this.index = index;
+        }
+
+        private Scope push(Object values, int index) {
+            return new Scope(values, this, index);
+        }
+
+        private Object lookup(String key) {
+            if (INDEX.equals(key)) {
+                return index;
+            }
+            for (Scope scope = this; scope != null; scope = scope.parent) {
+                if (scope.values instanceof Map<?, ?> map) {
+                    Object value = map.get(key);
+                    if (value != null || map.containsKey(key)) {
+                        return value;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
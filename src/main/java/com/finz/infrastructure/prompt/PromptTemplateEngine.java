@@ -0,0 +1,110 @@
+package com.finz.infrastructure.prompt;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 프롬프트 템플릿 엔진
+// - classpath:prompts/*.txt (템플릿), prompts/fragments/*.txt (공통 조각)를 시작 시 한 번 파싱
+// - 문법 오류/없는 조각은 애플리케이션 시작 시점에 실패
+// - 렌더링은 스레드별로 재사용하는 버퍼에 기록 (템플릿별 크기 힌트로 미리 확보)
+@Slf4j
+@Component
+public class PromptTemplateEngine {
+
+    private static final String TEMPLATE_LOCATION = "classpath:prompts/*.txt";
+    private static final String FRAGMENT_LOCATION = "classpath:prompts/fragments/*.txt";
+
+    // 조각 태그만 있는 줄은 줄 전체를, 그 외에는 태그 자리만 조각 내용으로 바꿈
+    private static final Pattern FRAGMENT_TAG = Pattern.compile("(?m)^[ \\t]*\\{\\{>\\s*([\\w-]+)\\s*}}[ \\t]*\\n|\\{\\{>\\s*([\\w-]+)\\s*}}");
+    private static final int MAX_FRAGMENT_DEPTH = 5;
+
+    // 이보다 커진 버퍼는 재사용하지 않음 (비정상적으로 긴 렌더링 결과가 스레드에 남지 않도록)
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    // 가상 스레드 모드에서는 요청마다 새 스레드라 재사용 효과는 없지만, 스레드와 함께 버려지므로 누적되지 않음
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final Map<String, PromptTemplate> templates;
+
+    public PromptTemplateEngine() {
+        this(new PathMatchingResourcePatternResolver());
+    }
+
+    public PromptTemplateEngine(ResourcePatternResolver resolver) {
+        Map<String, String> fragments = readAll(resolver, FRAGMENT_LOCATION);
+        Map<String, String> sources = readAll(resolver, TEMPLATE_LOCATION);
+
+        Map<String, PromptTemplate> parsed = new HashMap<>();
+        sources.forEach((name, source) ->
+                parsed.put(name, PromptTemplate.parse(name, expandFragments(name, source, fragments, 0))));
+        this.templates = Map.copyOf(parsed);
+
+        log.info("프롬프트 템플릿 로드 완료 - 템플릿: {}, 조각: {}", templates.keySet(), fragments.keySet());
+    }
+
+    public String render(String templateName, Map<String, ?> model) {
+        PromptTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("존재하지 않는 프롬프트 템플릿입니다: " + templateName);
+        }
+
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(template.getSizeHint());
+
+        template.render(buffer, model);
+        String result = buffer.toString();
+
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
+        return result;
+    }
+
+    private static String expandFragments(String name, String source, Map<String, String> fragments, int depth) {
+        if (depth > MAX_FRAGMENT_DEPTH) {
+            throw new IllegalStateException("조각 포함 깊이 초과 (순환 참조?) - template: " + name);
+        }
+
+        Matcher matcher = FRAGMENT_TAG.matcher(source);
+        StringBuilder expanded = new StringBuilder(source.length());
+        while (matcher.find()) {
+            String fragmentName = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            String fragment = fragments.get(fragmentName);
+            if (fragment == null) {
+                throw new IllegalStateException("존재하지 않는 프롬프트 조각 - template: " + name + ", fragment: " + fragmentName);
+            }
+            matcher.appendReplacement(expanded, Matcher.quoteReplacement(
+                    expandFragments(name, fragment, fragments, depth + 1)));
+        }
+        matcher.appendTail(expanded);
+        return expanded.toString();
+    }
+
+    private static Map<String, String> readAll(ResourcePatternResolver resolver, String location) {
+        Map<String, String> sources = new HashMap<>();
+        try {
+            for (Resource resource : resolver.getResources(location)) {
+                String filename = resource.getFilename();
+                if (filename == null) {
+                    continue;
+                }
+                String name = filename.substring(0, filename.length() - ".txt".length());
+                sources.put(name, resource.getContentAsString(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("프롬프트 템플릿을 읽을 수 없습니다: " + location, e);
+        }
+        return sources;
+    }
+}
@@ -0,0 +1,91 @@
+package com.finz.repository;
+
+import com.finz.domain.expense.ExpenseCategory;
+import com.finz.domain.expense.ExpenseDailySummary;
+import com.finz.domain.expense.ExpensePattern;
+import com.finz.dto.home.DailyExpenseTotalDto;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ExpenseDailySummaryRepository extends JpaRepository<ExpenseDailySummary, Long> {
+
+    // 집계 증감 (없으면 생성) - 지출 생성(+), 삭제(-), 수정(이전 값 -, 새 값 +)
+    @IndexedBy("uk_summary_user_date_category")
+    @Modifying
+    @Query(value = "INSERT INTO expense_daily_summary (user_id, expense_date, category, total_amount, expense_count) " +
+            "VALUES (:userId, :date, :category, :amountDelta, :countDelta) " +
+            "ON DUPLICATE KEY UPDATE total_amount = total_amount + :amountDelta, " +
+            "expense_count = expense_count + :countDelta",
+            nativeQuery = true)
+    void accumulate(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("category") String category,
+            @Param("amountDelta") long amountDelta,
+            @Param("countDelta") long countDelta
+    );
+
+    // 특정 날짜 이후 일별/카테고리별 집계 행 (홈 대시보드 단일 조회용)
+    @IndexedBy("idx_summary_user_date_cover")
+    List<ExpenseDailySummary> findByUserIdAndExpenseDateGreaterThanEqual(Long userId, LocalDate startDate);
+
+    // 최근 지출 패턴 분석 (카테고리별 합계)
+    @IndexedBy("idx_summary_user_date_cover")
+    @Query("SELECT new com.finz.domain.expense.ExpensePattern(" +
+           "s.category, SUM(s.totalAmount), SUM(s.expenseCount)) " +
+           "FROM ExpenseDailySummary s " +
+           "WHERE s.userId = :userId " +
+           "AND s.expenseDate >= :startDate " +
+           "GROUP BY s.category " +
+           "HAVING SUM(s.expenseCount) > 0 " +
+           "ORDER BY SUM(s.totalAmount) DESC")
+    List<ExpensePattern> findRecentPatternsByUserId(
+        @Param("userId") Long userId,
+        @Param("startDate") LocalDate startDate
+    );
+
+    // 특정 사용자의 특정 날짜 이후 총 지출액 합산
+    @IndexedBy("idx_summary_user_date_cover")
+    @Query("SELECT COALESCE(SUM(s.totalAmount), 0) FROM ExpenseDailySummary s " +
+            "WHERE s.userId = :userId AND s.expenseDate >= :startDate")
+    Integer findTotalAmountByUserIdAndDateAfter(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate
+    );
+
+    // 카테고리별 총액
+    @IndexedBy("idx_summary_user_category_date")
+    @Query("SELECT COALESCE(SUM(s.totalAmount), 0) FROM ExpenseDailySummary s WHERE s.userId = :userId " +
+            "AND s.category = :category AND s.expenseDate BETWEEN :startDate AND :endDate")
+    Integer findTotalAmountByCategoryAndDateRange(
+            @Param("userId") Long userId,
+            @Param("category") ExpenseCategory category,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    @IndexedBy("idx_summary_user_date_cover")
+    @Query("SELECT COALESCE(SUM(s.totalAmount), 0) FROM ExpenseDailySummary s " +
+            "WHERE s.userId = :userId AND s.expenseDate = :date")
+    Integer findTotalAmountByUserIdAndDate(
+            @Param("userId") Long userId,
+            @Param("date") LocalDate date
+    );
+
+    @IndexedBy("idx_summary_user_date_cover")
+    @Query("SELECT s.expenseDate as date, SUM(s.totalAmount) as totalAmount " +
+            "FROM ExpenseDailySummary s " +
+            "WHERE s.userId = :userId AND s.expenseDate BETWEEN :startDate AND :endDate " +
+            "GROUP BY s.expenseDate " +
+            "HAVING SUM(s.expenseCount) > 0")
+    List<DailyExpenseTotalDto> findDailyTotalsByMonth(
+            @Param("userId") Long userId,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
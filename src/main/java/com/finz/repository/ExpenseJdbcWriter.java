@@ -0,0 +1,51 @@
+package com.finz.repository;
+
+import com.finz.domain.expense.ExpenseFeedbackStatus;
+import com.finz.domain.expense.ExpenseImportRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 지출 대량 insert 전용 (JDBC 배치)
+// - Expense 엔티티는 IDENTITY 전략이라 Hibernate insert 배치가 꺼지므로 JPA를 거치지 않고 직접 배치 실행
+// - MySQL 드라이버 rewriteBatchedStatements=true 로 배치가 multi-row INSERT 한 문장으로 전송됨
+// - 호출하는 쪽의 트랜잭션(JpaTransactionManager 커넥션)에 참여
+// - 일괄 등록은 건별 피드백 없이 묶음 요약 1건만 만들므로 feedback_status = SKIPPED (건별 피드백 폴링은 바로 종료)
+@Repository
+@RequiredArgsConstructor
+public class ExpenseJdbcWriter {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO expense (user_id, expense_name, amount, category, expense_tag, memo, payment_method, " +
+            "expense_date, created_at, updated_at, feedback_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(Long userId, List<ExpenseImportRow> rows, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (ps, row) -> {
+            ps.setLong(1, userId);
+            ps.setString(2, row.getExpenseName());
+            ps.setInt(3, row.getAmount());
+            ps.setString(4, row.getCategory().name());
+            ps.setString(5, row.getExpenseTag());
+            if (row.getMemo() != null) {
+                ps.setString(6, row.getMemo());
+            } else {
+                ps.setNull(6, Types.VARCHAR);
+            }
+            ps.setString(7, row.getPaymentMethod().name());
+            ps.setDate(8, Date.valueOf(row.getExpenseDate()));
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+            ps.setString(11, ExpenseFeedbackStatus.SKIPPED.name());
+        });
+    }
+}
@@ -1,12 +1,12 @@
 package com.finz.repository;
 
 import com.finz.domain.expense.Expense;
-import com.finz.domain.expense.ExpenseCategory;
-import com.finz.domain.expense.ExpensePattern;
+import com.finz.domain.expense.ExpenseFeedbackStatus;
+import com.finz.domain.expense.ExpenseTagSummary;
 import com.finz.domain.expense.TagExpenseSummary;
 import com.finz.domain.user.User;
-import com.finz.dto.home.DailyExpenseTotalDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,26 +15,7 @@ import java.util.List;
 
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
     
-    // 최근 지출 패턴 분석 (카테고리별 합계)
-    @Query("SELECT new com.finz.domain.expense.ExpensePattern(" +
-           "e.category, SUM(e.amount), COUNT(e)) " +
-           "FROM Expense e " +
-           "WHERE e.user.id = :userId " +
-           "AND e.expenseDate >= :startDate " +
-           "GROUP BY e.category " +
-           "ORDER BY SUM(e.amount) DESC")
-    List<ExpensePattern> findRecentPatternsByUserId(
-        @Param("userId") Long userId,
-        @Param("startDate") LocalDate startDate
-    );
-
-    // 특정 사용자의 특정 날짜 이후 총 지출액 합산
-    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.user.id = :userId AND e.expenseDate >= :startDate")
-    Integer findTotalAmountByUserIdAndDateAfter(
-            @Param("userId") Long userId,
-            @Param("startDate") LocalDate startDate
-    );
-
+    @IndexedBy("idx_expense_user_tag_date")
     @Query("SELECT COUNT(e.id) as count, COALESCE(SUM(e.amount), 0) as totalAmount " +
             "FROM Expense e " +
             "WHERE e.user.id = :userId AND e.expenseTag = :tag AND e.expenseDate >= :startDate")
@@ -44,18 +25,19 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
             @Param("startDate") LocalDate startDate
     );
 
-    // 카테고리별 총액
-    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.user.id = :userId " +
-            "AND e.category = :category AND e.expenseDate BETWEEN :startDate AND :endDate")
-    Integer findTotalAmountByCategoryAndDateRange(
+    // 특정 날짜 이후 태그별 지출 횟수/합계 (컨텍스트 스냅샷용)
+    @IndexedBy("idx_expense_user_date_tag")
+    @Query("SELECT new com.finz.domain.expense.ExpenseTagSummary(e.expenseTag, COUNT(e), SUM(e.amount)) " +
+            "FROM Expense e " +
+            "WHERE e.user.id = :userId AND e.expenseTag IS NOT NULL AND e.expenseDate >= :startDate " +
+            "GROUP BY e.expenseTag")
+    List<ExpenseTagSummary> findTagSummariesByUserIdAfter(
             @Param("userId") Long userId,
-            @Param("category") ExpenseCategory category,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate
+            @Param("startDate") LocalDate startDate
     );
 
-
     // 특정 기간 태그별 횟수
+    @IndexedBy("idx_expense_user_tag_date")
     @Query("SELECT COUNT(e) FROM Expense e WHERE e.user.id = :userId " +
             "AND e.expenseTag = :tag AND e.expenseDate BETWEEN :startDate AND :endDate")
     Integer findCountByTagAndDateRange(
@@ -65,21 +47,26 @@ public interface ExpenseRepository extends JpaRepository<Expense, Long> {
             @Param("endDate") LocalDate endDate
     );
 
-    @Query("SELECT COALESCE(SUM(e.amount), 0) FROM Expense e WHERE e.user.id = :userId AND e.expenseDate = :date")
-    Integer findTotalAmountByUserIdAndDate(
-            @Param("userId") Long userId,
-            @Param("date") LocalDate date
-    );
-
-    @Query("SELECT e.expenseDate as date, SUM(e.amount) as totalAmount " +
-            "FROM Expense e " +
-            "WHERE e.user.id = :userId AND e.expenseDate BETWEEN :startDate AND :endDate " +
-            "GROUP BY e.expenseDate")
-    List<DailyExpenseTotalDto> findDailyTotalsByMonth(
+    // 특정 기간 태그가 붙은 지출의 날짜 목록 (홈 대시보드에서 주별 횟수 계산용)
+    @IndexedBy("idx_expense_user_tag_date")
+    @Query("SELECT e.expenseDate FROM Expense e WHERE e.user.id = :userId " +
+            "AND e.expenseTag = :tag AND e.expenseDate BETWEEN :startDate AND :endDate")
+    List<LocalDate> findExpenseDatesByTagAndDateRange(
             @Param("userId") Long userId,
+            @Param("tag") String tag,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate
     );
 
+    @IndexedBy("idx_expense_user_date_tag")
     List<Expense> findByUserAndExpenseDate(User user, LocalDate date);
+
+    // 피드백 없이 끝난 지출 기록 표시 (이미 표시된 지출은 그대로)
+    @IndexedBy("PRIMARY")
+    @Modifying
+    @Query("UPDATE Expense e SET e.feedbackStatus = :status WHERE e.id IN :expenseIds AND e.feedbackStatus IS NULL")
+    int markFeedbackStatus(
+            @Param("expenseIds") List<Long> expenseIds,
+            @Param("status") ExpenseFeedbackStatus status
+    );
 }
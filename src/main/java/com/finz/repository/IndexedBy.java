@@ -0,0 +1,18 @@
+package com.finz.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 리포지토리 쿼리가 사용하는 인덱스 이름 (db/migration 에 정의된 인덱스)
+// - 빌드 시 gradle verifyQueryIndexes 가 모든 쿼리 메서드에 선언되어 있는지, 인덱스가 실제로 존재하는지,
+//   인덱스 선두 컬럼이 쿼리 조건 / ORDER BY 컬럼과 맞는지 검사
+// - 기본 키 조회는 "PRIMARY"
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface IndexedBy {
+    String[] value();
+}
@@ -0,0 +1,20 @@
+package com.finz.service;
+
+import com.finz.domain.goal.Goal;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 진행 중인 목표 (UserContextSnapshot 에 담는 불변 값 - Goal 엔티티 대신 프롬프트에 필요한 값만 복사)
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ActiveGoal {
+    private final Long goalId;
+    private final String goalType;
+    private final Integer targetAmount;
+    private final Integer currentAmount;
+
+    public static ActiveGoal from(Goal goal) {
+        return new ActiveGoal(goal.getGoalId(), goal.getGoalType(), goal.getTargetAmount(), goal.getCurrentAmount());
+    }
+}
@@ -0,0 +1,46 @@
+package com.finz.service;
+
+import com.finz.domain.coach.CoachMessage;
+import com.finz.exception.BaseException;
+import com.finz.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 대화 내역 키셋 페이지네이션 커서 (created_at, message_id)
+// - 클라이언트에는 불투명한 문자열(Base64 URL-safe)로 전달
+@Getter
+@RequiredArgsConstructor
+public class CoachHistoryCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long messageId;
+
+    public static CoachHistoryCursor of(CoachMessage message) {
+        return new CoachHistoryCursor(message.getCreatedAt(), message.getMessageId());
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + messageId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CoachHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.lastIndexOf(DELIMITER);
+            return new CoachHistoryCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiter)),
+                    Long.parseLong(raw.substring(delimiter + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BaseException("잘못된 대화 내역 커서입니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
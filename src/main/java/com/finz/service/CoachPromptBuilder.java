@@ -0,0 +1,220 @@
+package com.finz.service;
+
+import com.finz.domain.coach.CoachMessage;
+import com.finz.domain.coach.MessageSender;
+import com.finz.domain.expense.Expense;
+import com.finz.domain.expense.ExpenseBatchImportedEvent;
+import com.finz.domain.expense.ExpensePattern;
+import com.finz.domain.expense.TagExpenseSummary;
+import com.finz.infrastructure.gemini.dto.GeminiMessage;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import com.finz.infrastructure.prompt.PromptTemplateEngine;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 코치 시스템 프롬프트 생성 (DB/외부 호출 없는 순수 CPU 작업 - JMH 벤치마크 대상)
+// - 문구는 resources/prompts 템플릿에, 여기서는 템플릿에 넘길 값(모델)만 계산
+// - 모든 사용자에게 같은 페르소나(*-persona 템플릿)는 시작 시 한 번 렌더링해 재사용 (Gemini 컨텍스트 캐시 키)
+@Component
+public class CoachPromptBuilder {
+
+    private static final int TOP_PATTERN_LIMIT = 5;
+
+    private final PromptTemplateEngine templateEngine;
+
+    private final String goalSettingPersona;
+    private final String expenseConsultPersona;
+    private final String generalChatPersona;
+    private final String expenseFeedbackPersona;
+    private final String expenseImportFeedbackPersona;
+    private final String expenseBurstFeedbackPersona;
+
+    public CoachPromptBuilder(PromptTemplateEngine templateEngine) {
+        this.templateEngine = templateEngine;
+        this.goalSettingPersona = templateEngine.render("goal-setting-persona", Map.of());
+        this.expenseConsultPersona = templateEngine.render("expense-consult-persona", Map.of());
+        this.generalChatPersona = templateEngine.render("general-chat-persona", Map.of());
+        this.expenseFeedbackPersona = templateEngine.render("expense-feedback-persona", Map.of());
+        this.expenseImportFeedbackPersona = templateEngine.render("expense-import-feedback-persona", Map.of());
+        this.expenseBurstFeedbackPersona = templateEngine.render("expense-burst-feedback-persona", Map.of());
+    }
+
+    // 개인화된 목표 설정 시스템 프롬프트 생성
+    public SystemPrompt buildGoalSettingPrompt(UserProfile user, List<ActiveGoal> goals, List<ExpensePattern> expenses) {
+        Map<String, Object> model = userModel(user);
+        model.put("goals", goalModels(goals));
+        putPatterns(model, expenses, 0);
+
+        return SystemPrompt.of(goalSettingPersona, templateEngine.render("goal-setting", model));
+    }
+
+    // 지출 상담 전용 시스템 프롬프트 생성
+    public SystemPrompt buildExpenseConsultPrompt(UserProfile user, List<ExpensePattern> expenses, List<ActiveGoal> goals) {
+        Map<String, Object> model = userModel(user);
+        model.put("goals", goalModels(goals));
+        model.put("hasGoals", !goals.isEmpty());
+
+        // 총 지출액 / 예산 대비 사용률
+        long totalExpense = 0;
+        for (ExpensePattern expense : expenses) {
+            totalExpense += expense.getTotalAmount();
+        }
+        model.put("totalExpense", totalExpense);
+        model.put("budgetRate", user.getMonthlyBudget() > 0 ? totalExpense * 100 / user.getMonthlyBudget() : 0L);
+        model.put("overBudget", totalExpense > user.getMonthlyBudget());
+        putPatterns(model, expenses, totalExpense);
+
+        return SystemPrompt.of(expenseConsultPersona, templateEngine.render("expense-consult", model));
+    }
+
+    // 일반 대화용 시스템 프롬프트
+    public SystemPrompt buildGeneralChatPrompt(UserProfile user, List<ActiveGoal> goals, List<ExpensePattern> expenses) {
+        return SystemPrompt.of(generalChatPersona, templateEngine.render("general-chat", userModel(user)));
+    }
+
+    // DB 메시지를 Gemini API 형식으로 변환
+    public List<GeminiMessage> convertToGeminiFormat(List<CoachMessage> messages) {
+        return messages.stream()
+            .map(msg -> GeminiMessage.builder()
+                .role(msg.getSender() == MessageSender.USER ? "user" : "model")
+                .content(msg.getContent())
+                .build())
+            .collect(Collectors.toList());
+    }
+
+    public SystemPrompt buildExpenseFeedbackPrompt(
+            UserProfile user,
+            Expense expense,
+            Integer totalSpentThisMonth,
+            Integer remainingBudget,
+            TagExpenseSummary tagSummary
+    ) {
+        Map<String, Object> model = userModel(user);
+        model.put("category", expense.getCategory().getDescription());
+        model.put("amount", expense.getAmount());
+        model.put("expenseName", expense.getExpenseName());
+        model.put("tag", expense.getExpenseTag());
+        model.put("totalSpentThisMonth", totalSpentThisMonth);
+        model.put("remainingBudget", remainingBudget);
+
+        // 태그 심층 분석
+        model.put("hasTagSummary", tagSummary != null);
+        if (tagSummary != null) {
+            model.put("tagCount", tagSummary.getCount());
+            model.put("tagTotalAmount", tagSummary.getTotalAmount());
+        }
+        model.put("exampleTagCount", tagSummary != null ? tagSummary.getCount() : 1L);
+
+        return SystemPrompt.of(expenseFeedbackPersona, templateEngine.render("expense-feedback", model));
+    }
+
+    // 지출 일괄 등록 피드백 시스템 프롬프트 생성
+    public SystemPrompt buildExpenseImportFeedbackPrompt(
+            UserProfile user,
+            ExpenseBatchImportedEvent event,
+            Integer totalSpentThisMonth,
+            Integer remainingBudget
+    ) {
+        Map<String, Object> model = userModel(user);
+        model.put("importedCount", event.getImportedCount());
+        model.put("totalAmount", event.getTotalAmount());
+        model.put("startDate", event.getStartDate());
+        model.put("endDate", event.getEndDate());
+        model.put("totalSpentThisMonth", totalSpentThisMonth);
+        model.put("remainingBudget", remainingBudget);
+
+        List<Map<String, Object>> categoryTotals = new ArrayList<>(event.getCategoryTotals().size());
+        event.getCategoryTotals().forEach((category, amount) ->
+                categoryTotals.add(Map.of("category", category.getDescription(), "amount", amount)));
+        model.put("categoryTotals", categoryTotals);
+
+        return SystemPrompt.of(expenseImportFeedbackPersona, templateEngine.render("expense-import-feedback", model));
+    }
+
+    // 연달아 기록된 지출 묶음 피드백 시스템 프롬프트 생성 (tagSummaries: 묶음에 쓰인 태그별 이번 달 요약)
+    public SystemPrompt buildExpenseBurstFeedbackPrompt(
+            UserProfile user,
+            List<Expense> expenses,
+            Integer totalSpentThisMonth,
+            Integer remainingBudget,
+            Map<String, TagExpenseSummary> tagSummaries
+    ) {
+        Map<String, Object> model = userModel(user);
+        model.put("totalSpentThisMonth", totalSpentThisMonth);
+        model.put("remainingBudget", remainingBudget);
+
+        long expenseTotal = 0;
+        List<Map<String, Object>> expenseModels = new ArrayList<>(expenses.size());
+        for (Expense expense : expenses) {
+            Map<String, Object> item = new HashMap<>(8);
+            item.put("category", expense.getCategory().getDescription());
+            item.put("expenseName", expense.getExpenseName());
+            item.put("amount", expense.getAmount());
+            item.put("tag", expense.getExpenseTag());
+            expenseModels.add(item);
+            expenseTotal += expense.getAmount();
+        }
+        model.put("expenses", expenseModels);
+        model.put("expenseCount", expenses.size());
+        model.put("expenseTotal", expenseTotal);
+
+        List<Map<String, Object>> tagModels = new ArrayList<>(tagSummaries.size());
+        tagSummaries.forEach((tag, summary) -> {
+            Map<String, Object> item = new HashMap<>(4);
+            item.put("tag", tag);
+            item.put("count", summary.getCount());
+            item.put("totalAmount", summary.getTotalAmount());
+            tagModels.add(item);
+        });
+        model.put("tagSummaries", tagModels);
+
+        return SystemPrompt.of(expenseBurstFeedbackPersona, templateEngine.render("expense-burst-feedback", model));
+    }
+
+    // 사용자 정보 (user-profile / feedback-user 조각 공통)
+    private static Map<String, Object> userModel(UserProfile user) {
+        Map<String, Object> model = new HashMap<>(32);
+        model.put("nickname", user.getNickname());
+        model.put("ageGroup", user.getAgeGroup().getDescription());
+        model.put("job", user.getJob().getDescription());
+        model.put("monthlyBudget", user.getMonthlyBudget());
+        return model;
+    }
+
+    // 진행 중인 목표 (active-goals 조각)
+    private static List<Map<String, Object>> goalModels(List<ActiveGoal> goals) {
+        List<Map<String, Object>> models = new ArrayList<>(goals.size());
+        for (ActiveGoal goal : goals) {
+            int progress = (int) ((goal.getCurrentAmount() * 100.0) / goal.getTargetAmount());
+            models.add(Map.of(
+                    "goalType", goal.getGoalType(),
+                    "targetAmount", goal.getTargetAmount(),
+                    "progress", progress
+            ));
+        }
+        return models;
+    }
+
+    // 최근 지출 패턴 상위 5개 (+ 가장 많이 쓴 카테고리)
+    private static void putPatterns(Map<String, Object> model, List<ExpensePattern> expenses, long totalExpense) {
+        int limit = Math.min(TOP_PATTERN_LIMIT, expenses.size());
+        List<Map<String, Object>> topPatterns = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            ExpensePattern expense = expenses.get(i);
+            topPatterns.add(Map.of(
+                    "category", expense.getCategory().getDescription(),
+                    "totalAmount", expense.getTotalAmount(),
+                    "count", expense.getCount(),
+                    "percentage", totalExpense > 0 ? expense.getTotalAmount() * 100 / totalExpense : 0L
+            ));
+        }
+        model.put("hasPatterns", !topPatterns.isEmpty());
+        model.put("topPatterns", topPatterns);
+        model.put("topPattern", topPatterns.isEmpty() ? null : topPatterns.get(0));
+    }
+}
@@ -0,0 +1,82 @@
+package com.finz.service;
+
+import com.finz.config.CoachRateLimitProperties;
+import com.finz.domain.coach.MessageType;
+import com.finz.exception.RateLimitExceededException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자 + MessageType 별 토큰 버킷 (한 사용자가 공용 Gemini 쿼터를 독점하지 못하도록)
+// - 버킷 상태는 "다음 토큰이 비는 이론적 시각"(GCRA) long 하나 - 잠금 없이 CAS 로 갱신
+//   (토큰 수 + 마지막 충전 시각을 따로 두면 둘을 함께 바꾸기 위한 잠금이 필요)
+// - 버킷은 사용자/종류별로 따로 있으므로 서로 다른 사용자 요청은 같은 값을 두고 경합하지 않음
+@Slf4j
+@Component
+public class CoachRateLimiter {
+
+    private final CoachRateLimitProperties properties;
+    private final Cache<String, AtomicLong> buckets;
+    private final Map<MessageType, Counter> rejected = new EnumMap<>(MessageType.class);
+
+    public CoachRateLimiter(CoachRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(properties.getIdleExpiry())
+                .build();
+
+        for (MessageType type : MessageType.values()) {
+            rejected.put(type, Counter.builder("finz.coach.rate-limit.rejected")
+                    .description("사용자별 한도 초과로 거절한 코치 요청 수")
+                    .tag("type", type.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    // 토큰 1개 사용, 없으면 RateLimitExceededException (남은 대기 시간 포함)
+    public void acquire(Long userId, MessageType messageType) {
+        long waitNanos = tryAcquire(userId, messageType);
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            log.info("[User: {}] 코치 요청 한도 초과 - type: {}, {}초 후 가능", userId, messageType, retryAfterSeconds);
+            throw new RateLimitExceededException(retryAfterSeconds);
+        }
+    }
+
+    // 토큰 1개 사용 시도 - 성공 0, 실패 시 다음 토큰까지 남은 나노초 (요청을 거절하지 않고 건너뛰는 경로용)
+    public long tryAcquire(Long userId, MessageType messageType) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        if (messageType == null) {
+            messageType = MessageType.FREE_CHAT;
+        }
+
+        CoachRateLimitProperties.Limit limit = properties.limitFor(messageType);
+        long interval = limit.getRefillPeriod().toNanos() / Math.max(1, limit.getCapacity());
+        long tolerance = interval * limit.getCapacity();
+        AtomicLong bucket = buckets.get(userId + ":" + messageType.name(), key -> new AtomicLong(Long.MIN_VALUE));
+
+        long now = System.nanoTime();
+        while (true) {
+            long theoretical = bucket.get();
+            long next = (theoretical == Long.MIN_VALUE || theoretical - now < 0 ? now : theoretical) + interval;
+            long excess = next - now - tolerance;
+            if (excess > 0) {
+                rejected.get(messageType).increment();
+                return excess;
+            }
+            if (bucket.compareAndSet(theoretical, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.finz.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// 같은 사용자의 동일한 코치 요청 중복 실행 방지 (single-flight, 인스턴스 내)
+// - 키: 사용자 + 작업 + 입력 내용의 SHA-256
+// - 진행 중인 요청이 있으면 새로 실행하지 않고 그 결과를 함께 받음 (Gemini 호출 / 메시지 저장 1회)
+// - 완료 후 result-window 동안은 같은 요청(더블 탭, 타임아웃 후 재시도)에 같은 결과를 돌려줌
+//   (진행 중인 future 는 만료되지 않고, 완료 시점부터 result-window 가 적용됨)
+// - 실패(Error 포함)했거나 재사용하면 안 되는 결과(대체 응답)는 바로 제거해 다음 요청이 다시 실행
+@Slf4j
+@Component
+public class CoachRequestDeduplicator {
+
+    private final AsyncCache<String, Object> flights;
+
+    private final Counter executed;
+    private final Counter joined;
+    private final Counter replayed;
+
+    public CoachRequestDeduplicator(
+            @Value("${finz.coach.dedup.result-window:10s}") Duration resultWindow,
+            @Value("${finz.coach.dedup.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+
+        this.flights = Caffeine.newBuilder()
+                .expireAfterWrite(resultWindow)
+                .maximumSize(maxSize)
+                .buildAsync();
+
+        this.executed = counter(meterRegistry, "executed");
+        this.joined = counter(meterRegistry, "joined");
+        this.replayed = counter(meterRegistry, "replayed");
+    }
+
+    // 호출 스레드에서 실행 (먼저 온 요청만 call 실행, 나머지는 완료까지 대기)
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Long userId, String operation, String input, Supplier<T> call, Predicate<T> reusable) {
+        String key = key(userId, operation, input);
+        CompletableFuture<Object> leader = new CompletableFuture<>();
+        CompletableFuture<Object> flight = flights.get(key, (k, executor) -> leader);
+
+        if (flight != leader) {
+            return (T) join(userId, operation, flight);
+        }
+
+        executed.increment();
+        boolean reuse = false;
+        try {
+            T result = call.get();
+            leader.complete(result);
+            reuse = reusable.test(result);
+            return result;
+        } catch (Throwable e) {
+            // Error 포함 - 완료하지 않으면 진행 중인 future 는 만료되지 않아 같은 키의 요청이 영원히 대기
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (!reuse) {
+                flights.asMap().remove(key, leader);
+            }
+        }
+    }
+
+    // 비동기 실행 (call 은 즉시 CompletableFuture 를 반환해야 함 - 캐시 잠금 안에서 호출됨)
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> executeAsync(Long userId, String operation, String input,
+                                                 Supplier<CompletableFuture<T>> call, Predicate<T> reusable) {
+        String key = key(userId, operation, input);
+        AtomicBoolean started = new AtomicBoolean(false);
+        CompletableFuture<Object> flight = flights.get(key, (k, executor) -> {
+            started.set(true);
+            return (CompletableFuture<Object>) call.get();
+        });
+
+        if (!started.get()) {
+            (flight.isDone() ? replayed : joined).increment();
+            log.info("[User: {}] 중복 코치 요청 - 진행 중/최근 결과 공유 - operation: {}", userId, operation);
+            return (CompletableFuture<T>) flight;
+        }
+
+        executed.increment();
+        return ((CompletableFuture<T>) flight).whenComplete((result, e) -> {
+            if (e == null && !reusable.test(result)) {
+                flights.asMap().remove(key, flight);
+            }
+        });
+    }
+
+    private Object join(Long userId, String operation, CompletableFuture<Object> flight) {
+        (flight.isDone() ? replayed : joined).increment();
+        log.info("[User: {}] 중복 코치 요청 - 진행 중/최근 결과 공유 - operation: {}", userId, operation);
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String key(Long userId, String operation, String input) {
+        return userId + ":" + operation + ":" + sha256(input);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("finz.coach.dedup")
+                .description("코치 요청 중복 제거 결과 (executed: 실행, joined: 진행 중 요청 대기, replayed: 최근 결과 재사용)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,94 @@
+package com.finz.service;
+
+import com.finz.domain.user.UserDataChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 결정적인 프롬프트에 대한 LLM 응답 캐시
+// - 키: 사용자 세대(generation) + 요청 내용 전체의 SHA-256
+// - 사용자의 지출/목표가 바뀌면 세대를 새로 발급해 이전 응답을 모두 무효화
+@Slf4j
+@Component
+public class CoachResponseCache {
+
+    private static final AtomicLong GENERATION_SEQUENCE = new AtomicLong();
+
+    private final Cache<String, String> completions;
+
+    // 세대 항목이 만료/축출되어도 새 세대 값이 발급되므로 오래된 응답이 다시 조회되는 일은 없음
+    private final Cache<Long, Long> generations;
+
+    public CoachResponseCache(
+            @Value("${finz.coach.response-cache.ttl:10m}") Duration ttl,
+            @Value("${finz.coach.response-cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+
+        this.completions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .expireAfterAccess(ttl)
+                .maximumSize(maxSize)
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, completions, "coach.response");
+    }
+
+    // 캐시에 있으면 반환, 없으면 loader(Gemini 호출) 실행 후 저장
+    public String get(Long userId, String operation, String requestContent, Supplier<String> loader) {
+        String key = key(userId, operation, requestContent);
+
+        String cached = completions.getIfPresent(key);
+        if (cached != null) {
+            log.info("[User: {}] LLM 응답 캐시 적중 - operation: {}", userId, operation);
+            return cached;
+        }
+
+        String response = loader.get();
+        completions.put(key, response);
+        return response;
+    }
+
+    public void invalidate(Long userId) {
+        generations.put(userId, GENERATION_SEQUENCE.incrementAndGet());
+    }
+
+    // 지출/목표 변경 커밋 후 해당 사용자의 캐시 무효화
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    private String key(Long userId, String operation, String requestContent) {
+        Long generation = generations.get(userId, id -> GENERATION_SEQUENCE.incrementAndGet());
+        return userId + ":" + generation + ":" + sha256(operation + '\u0000' + requestContent);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,27 +1,50 @@
 package com.finz.service;
 
+import com.finz.config.AsyncConfig;
 import com.finz.domain.coach.*;
+import com.finz.domain.expense.ExpenseBatchImportedEvent;
+import com.finz.domain.expense.ExpenseFeedbackStatus;
 import com.finz.domain.expense.ExpensePattern;
 import com.finz.domain.expense.TagExpenseSummary;
+import com.finz.repository.ExpenseDailySummaryRepository;
 import com.finz.repository.ExpenseRepository;
-import com.finz.domain.goal.Goal;
-import com.finz.domain.goal.GoalRepository;
-import com.finz.domain.goal.GoalStatus;
-import com.finz.domain.user.User;
-import com.finz.domain.user.UserRepository;
 import com.finz.dto.coach.*;
 import com.finz.dto.GlobalResponseDto;
+import com.finz.exception.BaseException;
+import com.finz.exception.ErrorCode;
+import com.finz.exception.RateLimitExceededException;
 import com.finz.infrastructure.gemini.GeminiApiClient;
-import com.finz.infrastructure.gemini.dto.GeminiMessage;
+import com.finz.infrastructure.gemini.GeminiPriority;
+import com.finz.infrastructure.gemini.GeminiUnavailableException;
+import com.finz.infrastructure.gemini.ReactiveGeminiClient;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.finz.domain.expense.Expense;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -30,13 +53,39 @@ import java.util.stream.Collectors;
 public class CoachService {
 
     private final CoachMessageRepository messageRepository;
-    private final UserRepository userRepository;
-    private final GoalRepository goalRepository;
     private final ExpenseRepository expenseRepository;
+    private final ExpenseDailySummaryRepository summaryRepository;
+    private final UserContextService userContextService;
     private final GeminiApiClient geminiClient;
+    private final ReactiveGeminiClient reactiveGeminiClient;
+    private final CoachResponseCache responseCache;
+    private final CoachPromptBuilder promptBuilder;
+    private final ConversationHistoryService conversationHistoryService;
+    private final CoachRequestDeduplicator deduplicator;
+    private final CoachRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier(AsyncConfig.COACH_DB_SCHEDULER)
+    private final Scheduler dbScheduler;
+
+    @Qualifier(AsyncConfig.COACH_SSE_SCHEDULER)
+    private final Scheduler sseScheduler;
+
+    @Value("${finz.coach.history.default-size:30}")
+    private int historyDefaultSize;
+
+    @Value("${finz.coach.history.max-size:100}")
+    private int historyMaxSize;
+
+    @Value("${finz.coach.expense-feedback.pending-timeout:5m}")
+    private Duration feedbackPendingTimeout;
+
+    private static final String MESSAGE_OPERATION = "message";
+
+    private static final String FALLBACK_MESSAGE =
+            "지금은 AI 코치에게 요청이 몰려 답변이 어려워요 🙏 잠시 후 다시 말을 걸어주세요!";
 
     // 목표 상담 요청
-    @Transactional
     public GlobalResponseDto<CoachResponseDto> requestGoalConsult(Long userId) {
         log.info("목표 상담 요청 - userId: {}", userId);
         
@@ -51,7 +100,6 @@ public class CoachService {
     }
     
     // 지출 상담 요청
-    @Transactional
     public GlobalResponseDto<CoachResponseDto> requestExpenseConsult(Long userId) {
         log.info("지출 상담 요청 - userId: {}", userId);
         
@@ -70,7 +118,7 @@ public class CoachService {
         log.info("대화 내역 조회 - userId: {}", userId);
 
         // 1. Repository를 통해 엔티티 조회 (시간 오름차순)
-        List<CoachMessage> messages = messageRepository.findByUserIdOrderByCreatedAtAsc(userId);
+        List<CoachMessage> messages = messageRepository.findByUserIdOrderByCreatedAtAscMessageIdAsc(userId);
 
         // 2. 엔티티 리스트를 DTO 리스트로 변환
         return messages.stream()
@@ -78,33 +126,75 @@ public class CoachService {
                 .collect(Collectors.toList());
     }
 
+    // 대화 내역 페이지 조회 (최신 페이지부터, 이전 대화는 cursor 로)
+    @Transactional(readOnly = true)
+    public CoachHistoryPageDto getChatHistoryPage(Long userId, String cursor, Integer size) {
+        log.info("대화 내역 조회 - userId: {}, cursor: {}", userId, cursor);
+
+        int pageSize = size == null ? historyDefaultSize : Math.max(1, Math.min(size, historyMaxSize));
+
+        // 1. 최신순으로 pageSize + 1개 조회 (1개 더 있으면 이전 대화가 남아 있음)
+        Limit limit = Limit.of(pageSize + 1);
+        List<CoachMessage> messages;
+        if (cursor == null || cursor.isBlank()) {
+            messages = messageRepository.findByUserIdOrderByCreatedAtDescMessageIdDesc(userId, limit);
+        } else {
+            CoachHistoryCursor before = CoachHistoryCursor.decode(cursor);
+            messages = messageRepository.findPageBefore(userId, before.getCreatedAt(), before.getMessageId(), limit);
+        }
+
+        boolean hasMore = messages.size() > pageSize;
+        List<CoachMessage> page = new ArrayList<>(hasMore ? messages.subList(0, pageSize) : messages);
+
+        // 2. 다음 커서 = 이번 페이지에서 가장 오래된 메시지
+        String nextCursor = hasMore ? CoachHistoryCursor.of(page.get(page.size() - 1)).encode() : null;
+
+        // 3. 화면 표시용으로 시간 오름차순 변환 후 DTO 변환
+        Collections.reverse(page);
+        return CoachHistoryPageDto.builder()
+                .messages(page.stream()
+                        .map(CoachMessageDto::fromEntity) // DTO의 팩토리 메서드 사용
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
     // 빠른 제안: 목표 설정 대화 시작
-    @Transactional
+    // - 동시에 들어온 같은 요청(더블 탭, 재시도)은 한 번만 실행하고 결과 공유
+    // - 사용자별 한도 토큰은 실제로 실행하는 요청만 사용 (진행 중/최근 결과를 공유받는 요청은 한도에 포함하지 않음)
+    // - Gemini 응답 대기 동안 커넥션을 점유하지 않도록 메서드 단위 트랜잭션을 걸지 않음 (저장은 리포지토리 단위)
     public CoachResponseDto startGoalSettingConversation(Long userId) {
+        return deduplicator.execute(userId, "goal-setting", "", () -> {
+            rateLimiter.acquire(userId, MessageType.GOAL_SETTING);
+            return goalSettingConversation(userId);
+        }, CoachService::isReusable);
+    }
 
-        log.info("목표 설정 대화 시작 - userId: {}", userId);
-
-        // 1. 사용자 정보 조회
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    private CoachResponseDto goalSettingConversation(Long userId) {
 
-        // 2. 기존 목표 조회
-        List<Goal> existingGoals = goalRepository.findByUserIdAndStatus(
-            userId, GoalStatus.ACTIVE
-        );
+        log.info("목표 설정 대화 시작 - userId: {}", userId);
 
-        // 3. 최근 1개월 지출 패턴 분석
-        LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
-        List<ExpensePattern> expenses = expenseRepository
-            .findRecentPatternsByUserId(userId, oneMonthAgo);
+        // 1~3. 사용자 정보 / 기존 목표 / 최근 1개월 지출 패턴 (컨텍스트 스냅샷)
+        UserContextSnapshot context = userContextService.getSnapshot(userId);
 
         // 4. 개인화된 시스템 프롬프트 생성
-        String systemPrompt = buildGoalSettingPrompt(user, existingGoals, expenses);
-
-        log.debug("System Prompt: {}", systemPrompt);
+        SystemPrompt systemPrompt = promptBuilder.buildGoalSettingPrompt(
+            context.getUser(), context.getActiveGoals(), context.getRecentPatterns()
+        );
 
-        // 5. Gemini API 호출
-        String initialMessage = geminiClient.generateInitialMessage(systemPrompt);
+        log.debug("System Prompt: {}", systemPrompt.getContext());
+
+        // 5. Gemini API 호출 (AI 서비스 장애 시 대체 메시지로 즉시 응답, 저장하지 않음)
+        String initialMessage;
+        try {
+            // 사용자 데이터가 그대로면 같은 프롬프트가 만들어지므로 캐시된 응답 재사용
+            initialMessage = responseCache.get(userId, "initial-message", systemPrompt.text(),
+                    () -> geminiClient.generateInitialMessage(userId, systemPrompt));
+        } catch (GeminiUnavailableException e) {
+            log.warn("AI 서비스 사용 불가 - 대체 메시지 응답 - userId: {}", userId);
+            return fallbackResponse(MessageType.GOAL_SETTING);
+        }
 
         // 6. AI 첫 메시지 저장
         CoachMessage aiMessage = CoachMessage.builder()
@@ -124,31 +214,38 @@ public class CoachService {
             .build();
     }
     
-    // 지출 상담 대화 시작
-    @Transactional
+    // 지출 상담 대화 시작 (중복 요청 / 한도 / 트랜잭션 처리는 목표 설정 대화와 동일)
     public CoachResponseDto startExpenseConsultConversation(Long userId) {
+        return deduplicator.execute(userId, "expense-consult", "", () -> {
+            rateLimiter.acquire(userId, MessageType.EXPENSE_CONSULT);
+            return expenseConsultConversation(userId);
+        }, CoachService::isReusable);
+    }
+
+    private CoachResponseDto expenseConsultConversation(Long userId) {
         
         log.info("지출 상담 대화 시작 - userId: {}", userId);
         
-        // 1. 사용자 정보 조회
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        
-        // 2. 최근 1개월 지출 패턴 분석
-        LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
-        List<ExpensePattern> expenses = expenseRepository
-            .findRecentPatternsByUserId(userId, oneMonthAgo);
-        
-        // 3. 현재 목표 조회 (선택)
-        List<Goal> activeGoals = goalRepository.findByUserIdAndStatus(userId, GoalStatus.ACTIVE);
+        // 1~3. 사용자 정보 / 최근 1개월 지출 패턴 / 현재 목표 (컨텍스트 스냅샷)
+        UserContextSnapshot context = userContextService.getSnapshot(userId);
         
         // 4. 개인화된 지출 상담 프롬프트 생성
-        String systemPrompt = buildExpenseConsultPrompt(user, expenses, activeGoals);
+        SystemPrompt systemPrompt = promptBuilder.buildExpenseConsultPrompt(
+            context.getUser(), context.getRecentPatterns(), context.getActiveGoals()
+        );
         
-        log.debug("Expense Consult Prompt: {}", systemPrompt);
+        log.debug("Expense Consult Prompt: {}", systemPrompt.getContext());
         
-        // 5. Gemini API 호출
-        String initialMessage = geminiClient.generateInitialMessage(systemPrompt);
+        // 5. Gemini API 호출 (AI 서비스 장애 시 대체 메시지로 즉시 응답, 저장하지 않음)
+        String initialMessage;
+        try {
+            // 사용자 데이터가 그대로면 같은 프롬프트가 만들어지므로 캐시된 응답 재사용
+            initialMessage = responseCache.get(userId, "initial-message", systemPrompt.text(),
+                    () -> geminiClient.generateInitialMessage(userId, systemPrompt));
+        } catch (GeminiUnavailableException e) {
+            log.warn("AI 서비스 사용 불가 - 대체 메시지 응답 - userId: {}", userId);
+            return fallbackResponse(MessageType.EXPENSE_CONSULT);
+        }
         
         // 6. AI 첫 메시지 저장
         CoachMessage aiMessage = CoachMessage.builder()
@@ -169,293 +266,306 @@ public class CoachService {
     }
 
     // 일반 메시지 응답 생성
-    @Transactional
+    // - 같은 메시지를 연달아 보낸 경우(더블 탭, 응답 지연 후 재전송) 한 번만 저장/응답 생성하고 결과 공유
+    //   (사용자별 한도 토큰도 실제로 실행하는 요청만 사용)
+    // - Gemini 응답 대기 동안 커넥션을 점유하지 않도록 메서드 단위 트랜잭션을 걸지 않음
     public CoachResponseDto generateResponse(Long userId, MessageRequest request) {
+        return deduplicator.execute(userId, MESSAGE_OPERATION, messageInput(request), () -> {
+            rateLimiter.acquire(userId, request.getMessageType());
+            return chatResponse(userId, request);
+        }, CoachService::isReusable);
+    }
+
+    private CoachResponseDto chatResponse(Long userId, MessageRequest request) {
 
         log.info("메시지 응답 생성 - userId: {}, type: {}", userId, request.getMessageType());
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // 1~4. 사용자 메시지 저장, 컨텍스트 수집 및 시스템 프롬프트 생성 (+ 누적 요약 / 토큰 상한 내 최근 대화)
+        ConversationWindow window = prepareChat(userId, request);
+
+        // 5. Gemini API 호출 (AI 서비스 장애 시 대체 메시지로 즉시 응답, 저장하지 않음)
+        String aiResponse;
+        try {
+            aiResponse = geminiClient.chat(userId, GeminiPriority.INTERACTIVE, window.getSystemPrompt(), window.getHistory(), request.getMessage());
+        } catch (GeminiUnavailableException e) {
+            log.warn("AI 서비스 사용 불가 - 대체 메시지 응답 - userId: {}", userId);
+            recordResponse(sample, request.getMessageType(), "sync", "fallback");
+            return fallbackResponse(request.getMessageType());
+        }
 
-        // 1. 사용자 메시지 저장
-        CoachMessage userMsg = CoachMessage.builder()
-            .userId(userId)
-            .sender(MessageSender.USER)
+        // 6. AI 응답 저장
+        saveMessage(userId, MessageSender.AI, request.getMessageType(), aiResponse);
+        recordResponse(sample, request.getMessageType(), "sync", "success");
+        
+        return CoachResponseDto.builder()
+            .message(aiResponse)
             .messageType(request.getMessageType())
-            .content(request.getMessage())
             .build();
+    }
 
-        messageRepository.save(userMsg);
+    // 일반 메시지 응답 생성 - 스트리밍
+    // - 토큰 조각은 coach-sse 스케줄러에서 순서대로 onChunk로 전달하고, 스트림 종료 후 완성된 응답을 저장
+    //   (Gemini 허가/벌크헤드를 쥔 스트림 읽기 스레드가 느린 클라이언트 소켓 쓰기를 기다리지 않도록 - SseChunkRelay)
+    // - 비동기 스트리밍 스레드에서 호출되므로 Gemini 응답 대기 동안 트랜잭션을 잡지 않음
+    public CoachResponseDto streamResponse(Long userId, MessageRequest request, Consumer<String> onChunk) {
+
+        log.info("메시지 스트리밍 응답 생성 - userId: {}, type: {}", userId, request.getMessageType());
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // 1~4. 사용자 메시지 저장, 컨텍스트 수집 및 시스템 프롬프트 생성 (+ 누적 요약 / 토큰 상한 내 최근 대화)
+        ConversationWindow window = prepareChat(userId, request);
+
+        // 5. Gemini 스트리밍 API 호출 (시작 전 AI 서비스 장애 시 대체 메시지를 한 조각으로 전달)
+        AtomicBoolean streamed = new AtomicBoolean(false);
+        String aiResponse;
+        try (SseChunkRelay relay = new SseChunkRelay(sseScheduler, onChunk)) {
+            aiResponse = geminiClient.chatStream(userId, window.getSystemPrompt(), window.getHistory(), request.getMessage(), chunk -> {
+                streamed.set(true);
+                relay.accept(chunk);
+            });
+        } catch (GeminiUnavailableException e) {
+            if (streamed.get()) {
+                throw e;
+            }
+            log.warn("AI 서비스 사용 불가 - 대체 메시지 응답 - userId: {}", userId);
+            onChunk.accept(FALLBACK_MESSAGE);
+            recordResponse(sample, request.getMessageType(), "stream", "fallback");
+            return fallbackResponse(request.getMessageType());
+        }
 
-        // 2. 컨텍스트 수집
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 6. 완성된 AI 응답 저장
+        CoachMessage aiMsg = saveMessage(userId, MessageSender.AI, request.getMessageType(), aiResponse);
+        recordResponse(sample, request.getMessageType(), "stream", "success");
 
-        List<Goal> goals = goalRepository.findByUserIdAndStatus(userId, GoalStatus.ACTIVE);
+        log.info("메시지 스트리밍 응답 완료 - messageId: {}", aiMsg.getMessageId());
 
-        LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
-        List<ExpensePattern> expenses = expenseRepository
-            .findRecentPatternsByUserId(userId, oneMonthAgo);
+        return CoachResponseDto.builder()
+            .message(aiResponse)
+            .messageType(request.getMessageType())
+            .build();
+    }
 
-        // 3. 대화 히스토리 조회
-        List<CoachMessage> history = messageRepository
-            .findTop20ByUserIdOrderByCreatedAtDesc(userId);
-        Collections.reverse(history);
+    // 일반 메시지 응답 생성 - 논블로킹 (WebClient)
+    // - Gemini 응답을 기다리는 동안 어떤 스레드도 점유하지 않음 (서블릿 스레드는 CompletableFuture 반환 즉시 반납)
+    // - DB 작업(메시지 저장, 컨텍스트 조회)은 coach-db 스케줄러에서 실행, 메서드 단위 트랜잭션 없음
+    // - 중복 요청은 동기 경로와 같은 키로 묶임 (한도 초과는 실패한 future 로 반환 - 캐시에 남지 않음)
+    public CompletableFuture<CoachResponseDto> generateResponseAsync(Long userId, MessageRequest request) {
+        return deduplicator.executeAsync(userId, MESSAGE_OPERATION, messageInput(request), () -> {
+            try {
+                rateLimiter.acquire(userId, request.getMessageType());
+            } catch (RateLimitExceededException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+            return chatResponseAsync(userId, request);
+        }, CoachService::isReusable);
+    }
 
-        // 4. 시스템 프롬프트 생성
-        String systemPrompt;
-        if (request.getMessageType() == MessageType.GOAL_SETTING) {
-            systemPrompt = buildGoalSettingPrompt(user, goals, expenses);
-        } else if (request.getMessageType() == MessageType.EXPENSE_CONSULT) {
-            systemPrompt = buildExpenseConsultPrompt(user, expenses, goals);
-        } else {
-            systemPrompt = buildGeneralChatPrompt(user, goals, expenses);
-        }
+    private CompletableFuture<CoachResponseDto> chatResponseAsync(Long userId, MessageRequest request) {
+
+        log.info("메시지 응답 생성 (비동기) - userId: {}, type: {}", userId, request.getMessageType());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        MessageType messageType = request.getMessageType();
+
+        return Mono.fromCallable(() -> prepareChat(userId, request))
+            .subscribeOn(dbScheduler)
+            .flatMap(window -> reactiveGeminiClient.chat(userId, window.getSystemPrompt(), window.getHistory(), request.getMessage()))
+            .publishOn(dbScheduler)
+            .map(aiResponse -> {
+                saveMessage(userId, MessageSender.AI, messageType, aiResponse);
+                recordResponse(sample, messageType, "async", "success");
+                return CoachResponseDto.builder()
+                    .message(aiResponse)
+                    .messageType(messageType)
+                    .build();
+            })
+            .onErrorResume(CoachService::isUnavailable, e -> {
+                log.warn("AI 서비스 사용 불가 - 대체 메시지 응답 - userId: {}", userId);
+                recordResponse(sample, messageType, "async", "fallback");
+                return Mono.just(fallbackResponse(messageType));
+            })
+            .toFuture();
+    }
 
-        // 5. Gemini API 호출
-        List<GeminiMessage> geminiHistory = convertToGeminiFormat(history);
-        String aiResponse = geminiClient.chat(systemPrompt, geminiHistory, request.getMessage());
+    // 일반 메시지 응답 생성 - 논블로킹 스트리밍
+    // - 토큰 조각은 coach-sse 스케줄러에서 순서대로 onChunk 로 전달 (onChunk 는 블로킹 SSE 쓰기라 WebClient 이벤트 루프에서 호출하지 않음)
+    public CompletableFuture<CoachResponseDto> streamResponseAsync(Long userId, MessageRequest request,
+                                                                   Consumer<String> onChunk) {
+
+        log.info("메시지 스트리밍 응답 생성 (비동기) - userId: {}, type: {}", userId, request.getMessageType());
+        Timer.Sample sample = Timer.start(meterRegistry);
+        MessageType messageType = request.getMessageType();
+        AtomicBoolean streamed = new AtomicBoolean(false);
+
+        return Mono.fromCallable(() -> prepareChat(userId, request))
+            .subscribeOn(dbScheduler)
+            .flatMap(window -> reactiveGeminiClient
+                .chatStream(userId, window.getSystemPrompt(), window.getHistory(), request.getMessage())
+                .publishOn(sseScheduler)
+                .doOnNext(chunk -> {
+                    streamed.set(true);
+                    onChunk.accept(chunk);
+                })
+                .collect(Collectors.joining()))
+            .publishOn(dbScheduler)
+            .map(aiResponse -> {
+                CoachMessage aiMsg = saveMessage(userId, MessageSender.AI, messageType, aiResponse);
+                recordResponse(sample, messageType, "stream-async", "success");
+                log.info("메시지 스트리밍 응답 완료 - messageId: {}", aiMsg.getMessageId());
+                return CoachResponseDto.builder()
+                    .message(aiResponse)
+                    .messageType(messageType)
+                    .build();
+            })
+            // 시작 전 AI 서비스 장애 시 대체 메시지를 한 조각으로 전달
+            .onErrorResume(e -> isUnavailable(e) && !streamed.get(), e -> {
+                log.warn("AI 서비스 사용 불가 - 대체 메시지 응답 - userId: {}", userId);
+                onChunk.accept(FALLBACK_MESSAGE);
+                recordResponse(sample, messageType, "stream-async", "fallback");
+                return Mono.just(fallbackResponse(messageType));
+            })
+            .toFuture();
+    }
 
-        // 6. AI 응답 저장
-        CoachMessage aiMsg = CoachMessage.builder()
-            .userId(userId)
-            .sender(MessageSender.AI)
-            .messageType(request.getMessageType())
-            .content(aiResponse)
-            .build();
+    // 중복 제거 키 입력 (메시지 종류 + 내용)
+    private static String messageInput(MessageRequest request) {
+        return request.getMessageType() + "\u0000" + request.getMessage();
+    }
 
-        messageRepository.save(aiMsg);
-        
+    // 대체 응답은 재사용하지 않음 (다음 재시도에서 다시 Gemini 호출)
+    private static boolean isReusable(CoachResponseDto response) {
+        return !FALLBACK_MESSAGE.equals(response.getMessage());
+    }
+
+    // Gemini 사용 불가 또는 coach-db 스케줄러 포화
+    private static boolean isUnavailable(Throwable e) {
+        return e instanceof GeminiUnavailableException || e instanceof RejectedExecutionException;
+    }
+
+    // AI 서비스 장애 시 대체 응답 (대화 내역에는 저장하지 않음)
+    private CoachResponseDto fallbackResponse(MessageType messageType) {
         return CoachResponseDto.builder()
-            .message(aiResponse)
-            .messageType(request.getMessageType())
+            .message(FALLBACK_MESSAGE)
+            .messageType(messageType)
             .build();
     }
 
-    // 개인화된 목표 설정 시스템 프롬프트 생성
-    private String buildGoalSettingPrompt(User user, List<Goal> goals, List<ExpensePattern> expenses) {
-        StringBuilder prompt = new StringBuilder();
-        
-        prompt.append("당신은 Finz의 친근한 AI 재무 코치입니다.\n");
-        prompt.append("사용자가 '목표 설정' 버튼을 눌러서 대화를 시작했습니다.\n\n");
-
-        // 사용자 개인 정보 포함
-        prompt.append("## 사용자 정보\n");
-        prompt.append(String.format("- 이름: %s\n", user.getNickname()));
-        prompt.append(String.format("- 연령대: %s\n", user.getAgeGroup().getDescription()));
-        prompt.append(String.format("- 직업: %s\n", user.getJob().getDescription()));
-        prompt.append(String.format("- 월 목표 예산: %,d원\n\n", user.getMonthlyBudget()));
-
-        // 기존 목표 정보
-        if (!goals.isEmpty()) {
-            prompt.append("## 현재 진행 중인 목표\n");
-            for (Goal goal : goals) {
-                int progress = (int) ((goal.getCurrentAmount() * 100.0) / goal.getTargetAmount());
-                prompt.append(String.format("- %s: %,d원 목표 (현재 %d%% 달성)\n",
-                    goal.getGoalType(), goal.getTargetAmount(), progress));
-            }
-            prompt.append("\n");
-        } else {
-            prompt.append("## 현재 진행 중인 목표\n");
-            prompt.append("- 아직 설정된 목표가 없습니다.\n\n");
-        }
+    // 코치 응답 지연 (finz.coach.response - 태그: type, mode(sync|stream|async|stream-async), outcome(success|fallback))
+    private void recordResponse(Timer.Sample sample, MessageType messageType, String mode, String outcome) {
+        sample.stop(Timer.builder("finz.coach.response")
+            .description("코치 메시지 응답 생성 시간 (컨텍스트 수집 + Gemini + 저장)")
+            .tag("type", messageType.name())
+            .tag("mode", mode)
+            .tag("outcome", outcome)
+            .register(meterRegistry));
+    }
 
-        // 지출 패턴 분석
-        if (!expenses.isEmpty()) {
-            prompt.append("## 최근 1개월 지출 패턴 (상위 5개)\n");
-            int limit = Math.min(5, expenses.size());
-            for (int i = 0; i < limit; i++) {
-                ExpensePattern expense = expenses.get(i);
-                prompt.append(String.format("- %s: %,d원 (%d회 사용)\n",
-                    expense.getCategory().getDescription(),
-                    expense.getTotalAmount(),
-                    expense.getCount()));
-            }
-            prompt.append("\n");
-        }
+    // 사용자 메시지 저장 후 Gemini 에 보낼 시스템 프롬프트 + 대화 창 구성
+    private ConversationWindow prepareChat(Long userId, MessageRequest request) {
+        CoachMessage userMsg = saveMessage(userId, MessageSender.USER, request.getMessageType(), request.getMessage());
+
+        SystemPrompt systemPrompt = buildChatSystemPrompt(userId, request.getMessageType());
+        return conversationHistoryService.buildWindow(
+                userId, systemPrompt, request.getMessage(), userMsg.getMessageId());
+    }
 
-        // AI의 역할 및 톤
-        prompt.append("## 당신의 역할과 말투\n");
-        prompt.append("1. 친근하고 격려하는 존댓말 사용\n");
-        prompt.append("2. 이모지를 적절히 활용 (🎯, 💰, 😊, 🔥, 💪 등)\n");
-        prompt.append("3. 사용자의 연령대와 직업을 고려한 맞춤형 조언\n");
-        prompt.append("4. 지출 패턴을 분석해 구체적인 목표 제안\n");
-        prompt.append("5. 목표는 현실적이고 달성 가능한 수준으로\n\n");
-
-        // 대화 진행 가이드
-        prompt.append("## 대화 진행 방법\n");
-        prompt.append("1. 먼저 친근하게 인사하며 목표 설정 시작\n");
-        prompt.append("2. 사용자의 지출 패턴을 언급하며 목표 후보 제시\n");
-        prompt.append("3. 사용자가 원하는 목표 유형 파악\n");
-        prompt.append("4. 구체적인 금액과 기간 질문\n");
-        prompt.append("5. 실행 가능한 방법 함께 고민\n");
-        prompt.append("6. 최종적으로 명확한 목표 제안\n\n");
-
-        // 개인화된 첫 메시지 예시
-        prompt.append("## 첫 메시지 작성 가이드\n");
-        prompt.append(String.format("- %s님의 이름을 부르며 친근하게 시작하세요\n", user.getNickname()));
-
-        if (!expenses.isEmpty()) {
-            ExpensePattern topExpense = expenses.get(0);
-            prompt.append(String.format("- 최근 '%s' 지출이 %,d원으로 가장 많다는 점을 자연스럽게 언급하세요\n",
-                topExpense.getCategory().getDescription(), topExpense.getTotalAmount()));
+    // 대화용 시스템 프롬프트 생성 (사용자 / 활성 목표 / 최근 1개월 지출 패턴)
+    private SystemPrompt buildChatSystemPrompt(Long userId, MessageType messageType) {
+        UserContextSnapshot context = userContextService.getSnapshot(userId);
+        UserProfile user = context.getUser();
+        List<ActiveGoal> goals = context.getActiveGoals();
+        List<ExpensePattern> expenses = context.getRecentPatterns();
+
+        if (messageType == MessageType.GOAL_SETTING) {
+            return promptBuilder.buildGoalSettingPrompt(user, goals, expenses);
+        } else if (messageType == MessageType.EXPENSE_CONSULT) {
+            return promptBuilder.buildExpenseConsultPrompt(user, expenses, goals);
         }
+        return promptBuilder.buildGeneralChatPrompt(user, goals, expenses);
+    }
+
+    private CoachMessage saveMessage(Long userId, MessageSender sender, MessageType messageType, String content) {
+        CoachMessage message = CoachMessage.builder()
+            .userId(userId)
+            .sender(sender)
+            .messageType(messageType)
+            .content(content)
+            .build();
 
-        return prompt.toString();
+        return messageRepository.save(message);
     }
-    
-    // 지출 상담 전용 시스템 프롬프트 생성
-    private String buildExpenseConsultPrompt(User user, List<ExpensePattern> expenses, List<Goal> goals) {
-        StringBuilder prompt = new StringBuilder();
-        
-        prompt.append("당신은 Finz의 친근한 AI 재무 코치입니다.\n");
-        prompt.append("사용자가 '지출 상담' 버튼을 눌러서 대화를 시작했습니다.\n\n");
-        
-        // 사용자 개인 정보
-        prompt.append("## 사용자 정보\n");
-        prompt.append(String.format("- 이름: %s\n", user.getNickname()));
-        prompt.append(String.format("- 연령대: %s\n", user.getAgeGroup().getDescription()));
-        prompt.append(String.format("- 직업: %s\n", user.getJob().getDescription()));
-        prompt.append(String.format("- 월 목표 예산: %,d원\n\n", user.getMonthlyBudget()));
-        
-        // 지출 패턴 분석 (핵심!)
-        if (!expenses.isEmpty()) {
-            prompt.append("## 최근 1개월 지출 패턴 (중요!)\n");
-            
-            // 총 지출액 계산
-            long totalExpense = expenses.stream()
-                .mapToLong(ExpensePattern::getTotalAmount)
-                .sum();
-            
-            prompt.append(String.format("- 총 지출액: %,d원\n", totalExpense));
-            prompt.append(String.format("- 예산 대비: %d%%\n\n", (totalExpense * 100 / user.getMonthlyBudget())));
-            
-            // 카테고리별 상위 5개
-            prompt.append("### 카테고리별 지출 (상위 5개)\n");
-            int limit = Math.min(5, expenses.size());
-            for (int i = 0; i < limit; i++) {
-                ExpensePattern expense = expenses.get(i);
-                long percentage = (expense.getTotalAmount() * 100) / totalExpense;
-                prompt.append(String.format("%d. %s: %,d원 (%d%%, %d회)\n",
-                    i + 1,
-                    expense.getCategory().getDescription(),
-                    expense.getTotalAmount(),
-                    percentage,
-                    expense.getCount()));
-            }
-            prompt.append("\n");
-        } else {
-            prompt.append("## 최근 1개월 지출 패턴\n");
-            prompt.append("- 아직 지출 내역이 없습니다.\n\n");
+
+    // 지출 기록 피드백 조회 (비동기 생성 완료 전이면 empty)
+    // - 연달아 기록된 지출 묶음의 피드백은 마지막 지출에만 연결되므로, 없으면 기록 메시지의 feedbackExpenseId 로 묶음 피드백 조회
+    // - 피드백 없이 끝났으면(실패/생략, 또는 pending-timeout 이 지나도록 결과 없음) EXPENSE_FEEDBACK_UNAVAILABLE - 클라이언트 폴링 종료
+    @Transactional(readOnly = true)
+    public Optional<CoachMessageDto> getExpenseFeedback(Long expenseId) {
+        Optional<CoachMessage> feedback = messageRepository.findFirstByExpenseIdAndSender(expenseId, MessageSender.AI);
+        if (feedback.isEmpty()) {
+            // 연속 기록 묶음의 앞쪽 지출 - 기록 메시지에 저장된 묶음의 피드백 지출 ID 로 조회
+            feedback = messageRepository.findFirstByExpenseIdAndSender(expenseId, MessageSender.USER)
+                    .map(CoachMessage::getFeedbackExpenseId)
+                    .filter(feedbackExpenseId -> !feedbackExpenseId.equals(expenseId))
+                    .flatMap(feedbackExpenseId -> messageRepository.findFirstByExpenseIdAndSender(feedbackExpenseId, MessageSender.AI));
         }
-        
-        // 활성 목표 (있다면)
-        if (!goals.isEmpty()) {
-            prompt.append("## 현재 진행 중인 목표\n");
-            for (Goal goal : goals) {
-                int progress = (int) ((goal.getCurrentAmount() * 100.0) / goal.getTargetAmount());
-                prompt.append(String.format("- %s: %,d원 목표 (현재 %d%% 달성)\n",
-                    goal.getGoalType(), goal.getTargetAmount(), progress));
-            }
-            prompt.append("\n");
+        if (feedback.isPresent()) {
+            return feedback.map(CoachMessageDto::fromEntity);
         }
-        
-        // AI의 역할
-        prompt.append("## 당신의 역할과 말투\n");
-        prompt.append("1. 친근하고 격려하는 존댓말 사용\n");
-        prompt.append("2. 이모지를 적절히 활용 (💰, 📊, 💡, 🎯, 👍 등)\n");
-        prompt.append("3. 지출 패턴을 분석해 구체적인 절약 방법 제안\n");
-        prompt.append("4. 비난하지 말고, 개선점을 긍정적으로 제시\n");
-        prompt.append("5. 실천 가능한 작은 변화 제안\n\n");
-        
-        // 대화 진행 가이드
-        prompt.append("## 대화 진행 방법\n");
-        prompt.append("1. 친근하게 인사하며 지출 패턴 언급\n");
-        prompt.append("2. 가장 많이 지출한 카테고리 지적\n");
-        prompt.append("3. 예산 대비 사용률 피드백\n");
-        prompt.append("4. 구체적인 절약 방법 제안\n");
-        prompt.append("5. 사용자의 의견 물어보기\n\n");
-        
-        // 첫 메시지 작성 가이드
-        prompt.append("## 첫 메시지 작성 가이드\n");
-        prompt.append(String.format("- %s님의 이름을 부르며 시작하세요\n", user.getNickname()));
-        
-        if (!expenses.isEmpty()) {
-            ExpensePattern topExpense = expenses.get(0);
-            prompt.append(String.format("- 최근 '%s'에 가장 많이 지출했다는 점을 자연스럽게 언급하세요\n",
-                topExpense.getCategory().getDescription()));
-            
-            // 예산 초과 여부
-            long totalExpense = expenses.stream()
-                .mapToLong(ExpensePattern::getTotalAmount)
-                .sum();
-            if (totalExpense > user.getMonthlyBudget()) {
-                prompt.append("- 예산을 초과했다는 점을 부드럽게 지적하고 절약 방법을 제안하세요\n");
-            } else {
-                prompt.append("- 예산 안에서 잘 관리하고 있다고 칭찬하되, 더 절약할 수 있는 팁을 제공하세요\n");
-            }
+
+        Expense expense = expenseRepository.findById(expenseId)
+                .orElseThrow(() -> new BaseException(ErrorCode.NOT_FOUND));
+        // 재시작으로 잃어버린 묶음처럼 상태를 남기지 못한 경우도 pending-timeout 이 지나면 종료
+        if (expense.getFeedbackStatus() != null
+                || expense.getCreatedAt().isBefore(LocalDateTime.now().minus(feedbackPendingTimeout))) {
+            throw new BaseException(ErrorCode.EXPENSE_FEEDBACK_UNAVAILABLE);
         }
-        
-        return prompt.toString();
+        return Optional.empty();
     }
 
-    // 일반 대화용 시스템 프롬프트
-    private String buildGeneralChatPrompt(User user, List<Goal> goals, List<ExpensePattern> expenses) {
-        StringBuilder prompt = new StringBuilder();
-        
-        prompt.append("당신은 Finz의 친근한 AI 재무 코치입니다.\n\n");
-        
-        prompt.append("## 사용자 정보\n");
-        prompt.append(String.format("- 이름: %s\n", user.getNickname()));
-        prompt.append(String.format("- 연령대: %s\n", user.getAgeGroup().getDescription()));
-        prompt.append(String.format("- 직업: %s\n\n", user.getJob().getDescription()));
-
-        prompt.append("## 역할\n");
-        prompt.append("친근하고 격려하는 톤으로 사용자의 재무 관련 질문에 답변하세요.\n");
-        prompt.append("이모지를 적절히 사용하고, 구체적이고 실행 가능한 조언을 제공하세요.\n");
-
-        return prompt.toString();
+    // 피드백 없이 끝난 지출 기록의 상태 저장 (ExpenseFeedbackBatcher 에서 실패/생략 시 호출)
+    @Transactional
+    public void markExpenseFeedback(List<Long> expenseIds, ExpenseFeedbackStatus status) {
+        expenseRepository.markFeedbackStatus(expenseIds, status);
     }
 
-    // DB 메시지를 Gemini API 형식으로 변환
-    private List<GeminiMessage> convertToGeminiFormat(List<CoachMessage> messages) {
-        return messages.stream()
-            .map(msg -> GeminiMessage.builder()
-                .role(msg.getSender() == MessageSender.USER ? "user" : "model")
-                .content(msg.getContent())
-                .build())
-            .collect(Collectors.toList());
-    }
+    // 지출 기록 피드백 생성 (ExpenseFeedbackListener 워커 스레드에서 호출)
+    // - Gemini 호출 동안 커넥션을 점유하지 않도록 메서드 단위 트랜잭션을 걸지 않음
+    public void processNewExpenseRecord(Long userId, Long expenseId) {
 
-    @Transactional
-    public void processNewExpenseRecord(Long userId, Expense expense) {
+        log.info("[User: {}] 신규 지출 기록 처리 시작 - ExpenseId: {}", userId, expenseId);
 
-        log.info("[User: {}] 신규 지출 기록 처리 시작 - ExpenseId: {}", userId, expense.getId());
+        Expense expense = expenseRepository.findById(expenseId).orElse(null);
+        if (expense == null) {
+            log.info("[User: {}] 피드백 생성 전 지출이 삭제됨 - ExpenseId: {}", userId, expenseId);
+            return;
+        }
 
         // 1. 지출 내역을 "USER" 메시지로 변환하여 DB 저장
-        String userContent = String.format(
-                "[지출 기록 📝] %s | %s | %,d원 (태그: #%s)",
-                expense.getCategory().getDescription(),
-                expense.getExpenseName(),
-                expense.getAmount(),
-                expense.getExpenseTag() != null ? expense.getExpenseTag() : "없음"
-        );
+        String userContent = expenseRecordContent(expense);
 
         CoachMessage userMsg = CoachMessage.builder()
                 .userId(userId)
                 .sender(MessageSender.USER)
                 .messageType(MessageType.EXPENSE_RECORD)
                 .content(userContent)
+                .expenseId(expenseId)
                 .build();
         messageRepository.save(userMsg);
 
-        // 2. AI 피드백 생성을 위한 컨텍스트(사용자) 수집
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 2. AI 피드백 생성을 위한 컨텍스트(사용자) 수집 - 지출 커밋 직후 무효화된 스냅샷을 새로 로드
+        UserContextSnapshot context = userContextService.getSnapshot(userId);
+        UserProfile user = context.getUser();
 
         // --- (컨텍스트 수집 고도화) ---
         // 3. "이번 달"의 시작일 계산
         LocalDate startOfMonth = expense.getExpenseDate().withDayOfMonth(1);
+        // 지출일이 이번 달이 아니면(과거/미래 달 기록) 스냅샷을 쓸 수 없으므로 직접 조회
+        boolean useSnapshot = context.isCurrentMonth(expense.getExpenseDate());
 
         // 4. "이번 달"의 총 지출액 및 남은 예산 계산
-        Integer totalSpentThisMonth = expenseRepository.findTotalAmountByUserIdAndDateAfter(userId, startOfMonth);
+        Integer totalSpentThisMonth = useSnapshot
+                ? context.getMonthToDateTotal()
+                : summaryRepository.findTotalAmountByUserIdAndDateAfter(userId, startOfMonth);
         Integer remainingBudget = user.getMonthlyBudget() - totalSpentThisMonth;
 
         // 5. (핵심) 태그 기반 심층 분석
@@ -464,17 +574,20 @@ public class CoachService {
 
         if (currentTag != null && !currentTag.isEmpty()) {
             // 이번 달에 이 태그를 몇 번 썼는지, 총 얼마 썼는지 조회
-            tagSummary = expenseRepository.findTagSummaryByUserIdAndTagAfter(
-                    userId,
-                    currentTag,
-                    startOfMonth
-            );
+            tagSummary = useSnapshot ? context.getTagSummaries().get(currentTag) : null;
+            if (tagSummary == null) {
+                tagSummary = expenseRepository.findTagSummaryByUserIdAndTagAfter(
+                        userId,
+                        currentTag,
+                        startOfMonth
+                );
+            }
             log.info("[User: {}] 태그 '#{}' 분석: {}회 / {}원", userId, currentTag, tagSummary.getCount(), tagSummary.getTotalAmount());
         }
         // --- (고도화 끝) ---
 
         // 6. 지출 피드백 전용 시스템 프롬프트 생성 (모든 정보 전달)
-        String systemPrompt = buildExpenseFeedbackPrompt(
+        SystemPrompt systemPrompt = promptBuilder.buildExpenseFeedbackPrompt(
                 user,
                 expense,
                 totalSpentThisMonth,
@@ -484,6 +597,8 @@ public class CoachService {
 
         // 7. Gemini API 호출
         String aiResponse = geminiClient.chat(
+                userId,
+                GeminiPriority.FEEDBACK,
                 systemPrompt,
                 Collections.emptyList(),
                 userContent // (chat 메서드 형식을 맞추기 위해 전달)
@@ -495,69 +610,139 @@ public class CoachService {
                 .sender(MessageSender.AI)
                 .messageType(MessageType.EXPENSE_RECORD)
                 .content(aiResponse)
+                .expenseId(expenseId)
                 .build();
         messageRepository.save(aiMsg);
 
         log.info("[User: {}] 지출 기록 피드백 생성 완료 - MessageId: {}", userId, aiMsg.getMessageId());
     }
 
+    // 연달아 기록된 지출 묶음에 대한 AI 피드백 1건 (ExpenseFeedbackBatcher 가 사용자별로 모아 호출)
+    // - 지출 기록 메시지는 건별로 저장 (대화 내역은 단건과 같음)
+    // - 컨텍스트(스냅샷 / 이번 달 총액 / 태그 요약) 조회와 Gemini 호출은 묶음 전체에 대해 한 번
+    // - 1건이면 단건 피드백과 동일
+    public void processNewExpenseRecords(Long userId, List<Long> expenseIds) {
 
-    private String buildExpenseFeedbackPrompt(
-            User user,
-            Expense expense,
-            Integer totalSpentThisMonth,
-            Integer remainingBudget,
-            TagExpenseSummary tagSummary // <-- 파라미터 추가
-    ) {
-        StringBuilder prompt = new StringBuilder();
-
-        prompt.append("당신은 FiNZ의 긍정적이고 격려하는 AI 재무 코치입니다.\n");
-        prompt.append("사용자가 방금 앱에 지출 내역을 기록했으며, 당신은 이 지출에 대해 **즉각적이고 짧은 피드백**을 제공해야 합니다.\n\n");
-
-        prompt.append("## 1. 사용자 정보\n");
-        prompt.append(String.format("- 이름: %s\n", user.getNickname()));
-        prompt.append(String.format("- 월 목표 예산: %,d원\n\n", user.getMonthlyBudget()));
-
-        prompt.append("## 2. 방금 기록된 지출 (분석 대상)\n");
-        prompt.append(String.format("- 카테고리: %s\n", expense.getCategory().getDescription()));
-        prompt.append(String.format("- 금액: %,d원\n", expense.getAmount()));
-        prompt.append(String.format("- 내용: %s\n", expense.getExpenseName()));
-        if (expense.getExpenseTag() != null && !expense.getExpenseTag().isEmpty()) {
-            prompt.append(String.format("- 태그: #%s\n", expense.getExpenseTag()));
+        if (expenseIds.size() == 1) {
+            processNewExpenseRecord(userId, expenseIds.get(0));
+            return;
         }
-        prompt.append("\n");
-
-        prompt.append("## 3. 현재 재무 상태 (중요 맥락)\n");
-        prompt.append(String.format("- 이번 달 총 지출액: %,d원\n", totalSpentThisMonth));
-        prompt.append(String.format("- 남은 예산: %,d원\n\n", remainingBudget));
-
-        // --- (핵심 수정) ---
-        prompt.append("## 4. 태그 심층 분석 (Contextual Insight)\n");
-        if (tagSummary != null) {
-            prompt.append(String.format("- 사용자는 '#%s' 태그를 이번 달에 %d회 사용했습니다.\n",
-                    expense.getExpenseTag(), tagSummary.getCount()));
-            prompt.append(String.format("- 이 태그로만 총 %,d원을 지출했습니다.\n\n",
-                    tagSummary.getTotalAmount()));
-        } else {
-            prompt.append("- 이 지출에는 태그가 없습니다.\n\n");
+
+        log.info("[User: {}] 연속 지출 기록 처리 시작 - ExpenseIds: {}", userId, expenseIds);
+
+        List<Expense> expenses = new ArrayList<>(expenseRepository.findAllById(expenseIds));
+        if (expenses.size() < expenseIds.size()) {
+            log.info("[User: {}] 피드백 생성 전 지출이 삭제됨 - {}건", userId, expenseIds.size() - expenses.size());
+        }
+        if (expenses.isEmpty()) {
+            return;
+        }
+        if (expenses.size() == 1) {
+            processNewExpenseRecord(userId, expenses.get(0).getId());
+            return;
+        }
+        expenses.sort(Comparator.comparing(Expense::getId));
+
+        // 1. 지출 내역을 건별 "USER" 메시지로 저장 - 묶음 피드백이 연결될 마지막 지출을 함께 기록
+        Long feedbackExpenseId = expenses.get(expenses.size() - 1).getId();
+        List<CoachMessage> records = new ArrayList<>(expenses.size());
+        for (Expense expense : expenses) {
+            records.add(CoachMessage.builder()
+                    .userId(userId)
+                    .sender(MessageSender.USER)
+                    .messageType(MessageType.EXPENSE_RECORD)
+                    .content(expenseRecordContent(expense))
+                    .expenseId(expense.getId())
+                    .feedbackExpenseId(feedbackExpenseId)
+                    .build());
         }
-        // --- (수정 끝) ---
+        messageRepository.saveAll(records);
+
+        // 2. 컨텍스트 수집 - 마지막 지출의 달 기준 (이번 달이 아니면 스냅샷 대신 직접 조회)
+        UserContextSnapshot context = userContextService.getSnapshot(userId);
+        UserProfile user = context.getUser();
+        LocalDate expenseDate = expenses.get(expenses.size() - 1).getExpenseDate();
+        LocalDate startOfMonth = expenseDate.withDayOfMonth(1);
+        boolean useSnapshot = context.isCurrentMonth(expenseDate);
+
+        Integer totalSpentThisMonth = useSnapshot
+                ? context.getMonthToDateTotal()
+                : summaryRepository.findTotalAmountByUserIdAndDateAfter(userId, startOfMonth);
+        Integer remainingBudget = user.getMonthlyBudget() - totalSpentThisMonth;
+
+        // 3. 묶음에 쓰인 태그별 이번 달 요약 (태그당 한 번)
+        Map<String, TagExpenseSummary> tagSummaries = new LinkedHashMap<>();
+        for (Expense expense : expenses) {
+            String tag = expense.getExpenseTag();
+            if (tag == null || tag.isEmpty() || tagSummaries.containsKey(tag)) {
+                continue;
+            }
+            TagExpenseSummary tagSummary = useSnapshot ? context.getTagSummaries().get(tag) : null;
+            if (tagSummary == null) {
+                tagSummary = expenseRepository.findTagSummaryByUserIdAndTagAfter(userId, tag, startOfMonth);
+            }
+            tagSummaries.put(tag, tagSummary);
+        }
+
+        // 4. 묶음 피드백 전용 시스템 프롬프트 생성 후 Gemini 호출
+        SystemPrompt systemPrompt = promptBuilder.buildExpenseBurstFeedbackPrompt(
+                user, expenses, totalSpentThisMonth, remainingBudget, tagSummaries);
+        String userContent = records.stream()
+                .map(CoachMessage::getContent)
+                .collect(Collectors.joining("\n"));
+        String aiResponse = geminiClient.chat(userId, GeminiPriority.FEEDBACK, systemPrompt, Collections.emptyList(), userContent);
+
+        // 5. AI 응답 DB 저장 (마지막 지출에 연결)
+        CoachMessage aiMsg = CoachMessage.builder()
+                .userId(userId)
+                .sender(MessageSender.AI)
+                .messageType(MessageType.EXPENSE_RECORD)
+                .content(aiResponse)
+                .expenseId(feedbackExpenseId)
+                .build();
+        messageRepository.save(aiMsg);
+
+        log.info("[User: {}] 연속 지출 기록 피드백 생성 완료 - {}건, MessageId: {}", userId, expenses.size(), aiMsg.getMessageId());
+    }
+
+    private static String expenseRecordContent(Expense expense) {
+        return String.format(
+                "[지출 기록 📝] %s | %s | %,d원 (태그: #%s)",
+                expense.getCategory().getDescription(),
+                expense.getExpenseName(),
+                expense.getAmount(),
+                expense.getExpenseTag() != null ? expense.getExpenseTag() : "없음"
+        );
+    }
+
+    // 지출 일괄 등록에 대한 AI 피드백 (묶음 전체에 대해 1건)
+    public void processExpenseImport(ExpenseBatchImportedEvent event) {
+
+        Long userId = event.getUserId();
+        log.info("[User: {}] 지출 일괄 등록 처리 시작 - {}건", userId, event.getImportedCount());
+
+        // 1. 일괄 등록 요약을 "USER" 메시지로 저장
+        String userContent = String.format(
+                "[지출 일괄 등록 📥] %d건 | 총 %,d원 (%s ~ %s)",
+                event.getImportedCount(),
+                event.getTotalAmount(),
+                event.getStartDate(),
+                event.getEndDate()
+        );
+        saveMessage(userId, MessageSender.USER, MessageType.EXPENSE_RECORD, userContent);
 
-        prompt.append("## 5. 당신의 임무 (매우 중요)\n");
-        prompt.append("당신은 **두 부분**으로 구성된 **매우 짧은** 피드백을 생성해야 합니다.\n");
-        prompt.append("1. **(코멘트)**: '방금 기록된 지출(2번)'에 대해 1~2문장으로 긍정적/중립적 코멘트를 하세요.\n");
-        prompt.append("2. **(브리핑)**: '현재 재무 상태(3번)'와 **특히 '태그 분석(4번)'**을 결합하여 **남은 예산**과 **태그 사용 현황**을 간결하게 브리핑하세요.\n\n");
+        // 2. 컨텍스트 수집 - 커밋 직후 무효화된 스냅샷을 새로 로드
+        UserContextSnapshot context = userContextService.getSnapshot(userId);
+        UserProfile user = context.getUser();
+        Integer remainingBudget = user.getMonthlyBudget() - context.getMonthToDateTotal();
 
-        prompt.append("## 6. 말투 및 제약사항\n");
-        prompt.append("- **절대 비난 금지.** (나쁜 예: '또 돈을 쓰셨네요.')\n");
-        prompt.append("- 긍정적/격려하는 톤, 친근한 존댓말, 이모지 1~2개 사용.\n");
-        prompt.append("- **반드시 한두 문장으로 매우 짧게** 요약하세요.\n");
-        prompt.append(String.format("- UI 예시 (태그 O): '기분 전환 간식이군요! 🧁 이번 달 '#스트레스' 태그로 %s번째 지출이네요. 남은 예산은 %,d원입니다! 🔥'\n",
-                (tagSummary != null ? tagSummary.getCount() : 1), remainingBudget)); // 예시도 동적으로
-        prompt.append(String.format("- UI 예시 (태그 X): '기록 완료! 꼼꼼하시네요 👍. 남은 예산은 %,d원입니다!'\n\n", remainingBudget));
+        // 3. 일괄 등록 피드백 전용 시스템 프롬프트 생성 후 Gemini 호출
+        SystemPrompt systemPrompt = promptBuilder.buildExpenseImportFeedbackPrompt(user, event, context.getMonthToDateTotal(), remainingBudget);
+        String aiResponse = geminiClient.chat(userId, GeminiPriority.FEEDBACK, systemPrompt, Collections.emptyList(), userContent);
 
-        prompt.append("위 모든 정보를 바탕으로, 사용자의 방금 지출(2번)에 대한 '코멘트'와 '브리핑'을 포함한 피드백을 작성하세요:");
+        // 4. AI 응답 DB 저장
+        CoachMessage aiMsg = saveMessage(userId, MessageSender.AI, MessageType.EXPENSE_RECORD, aiResponse);
 
-        return prompt.toString();
+        log.info("[User: {}] 지출 일괄 등록 피드백 생성 완료 - MessageId: {}", userId, aiMsg.getMessageId());
     }
 }
@@ -0,0 +1,157 @@
+package com.finz.service;
+
+import com.finz.config.AsyncConfig;
+import com.finz.domain.coach.CoachConversationSummary;
+import com.finz.domain.coach.CoachConversationSummaryRepository;
+import com.finz.domain.coach.CoachMessage;
+import com.finz.domain.coach.CoachMessageRepository;
+import com.finz.domain.coach.MessageSender;
+import com.finz.infrastructure.gemini.GeminiApiClient;
+import com.finz.infrastructure.gemini.GeminiPriority;
+import com.finz.infrastructure.gemini.GeminiUnavailableException;
+import com.finz.infrastructure.gemini.TokenEstimator;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import com.finz.infrastructure.prompt.PromptTemplateEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 오래된 대화를 사용자별 누적 요약으로 접는 백그라운드 작업
+// - 최근 keep-recent-tokens 만큼의 대화는 원문으로 남기고, 그 이전 대화 + 기존 요약을 Gemini 로 새 요약 생성
+// - 같은 사용자에 대한 요약은 인스턴스 내에서 한 번에 하나만 실행 (다른 인스턴스와의 경합은 @Version 으로 방지)
+@Slf4j
+@Service
+public class ConversationCompactor {
+
+    private final CoachMessageRepository messageRepository;
+    private final CoachConversationSummaryRepository conversationSummaryRepository;
+    private final GeminiApiClient geminiClient;
+    private final PromptTemplateEngine templateEngine;
+    private final TaskExecutor executor;
+    private final int keepRecentTokens;
+    private final int maxFoldMessages;
+    private final String persona;
+
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ConversationCompactor(
+            CoachMessageRepository messageRepository,
+            CoachConversationSummaryRepository conversationSummaryRepository,
+            GeminiApiClient geminiClient,
+            PromptTemplateEngine templateEngine,
+            @Qualifier(AsyncConfig.COACH_COMPACTION_EXECUTOR) TaskExecutor executor,
+            @Value("${finz.coach.conversation.keep-recent-tokens:1000}") int keepRecentTokens,
+            @Value("${finz.coach.conversation.max-fold-messages:200}") int maxFoldMessages,
+            @Value("${finz.coach.conversation.summary-max-chars:800}") int summaryMaxChars) {
+
+        this.messageRepository = messageRepository;
+        this.conversationSummaryRepository = conversationSummaryRepository;
+        this.geminiClient = geminiClient;
+        this.templateEngine = templateEngine;
+        this.executor = executor;
+        this.keepRecentTokens = keepRecentTokens;
+        this.maxFoldMessages = maxFoldMessages;
+        this.persona = templateEngine.render("conversation-summary-persona", Map.of("maxChars", summaryMaxChars));
+    }
+
+    // 요약 요청 (이미 진행 중이거나 큐가 가득 차면 건너뜀 - 다음 대화 요청에서 다시 시도)
+    public void requestCompaction(Long userId) {
+        if (!inFlight.add(userId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    compact(userId);
+                } finally {
+                    inFlight.remove(userId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(userId);
+            log.warn("[User: {}] 대화 요약 큐 포화 - 이번 요약을 건너뜁니다.", userId);
+        }
+    }
+
+    void compact(Long userId) {
+        try {
+            // 1. 기존 요약 이후의 대화를 시간순으로 조회
+            CoachConversationSummary summary = conversationSummaryRepository.findByUserId(userId).orElse(null);
+            long summarizedUntil = summary == null ? 0L : summary.getLastMessageId();
+            List<CoachMessage> pending = messageRepository.findByUserIdAndMessageIdGreaterThanOrderByCreatedAtAscMessageIdAsc(
+                    userId, summarizedUntil, Limit.of(maxFoldMessages));
+
+            // 2. 최근 대화는 원문으로 남김 (조회 한도를 채웠으면 더 최근 대화가 남아 있으므로 전부 접음)
+            int foldCount = pending.size();
+            if (pending.size() < maxFoldMessages) {
+                int keptTokens = 0;
+                while (foldCount > 0) {
+                    int tokens = TokenEstimator.estimateMessage(pending.get(foldCount - 1).getContent());
+                    if (keptTokens + tokens > keepRecentTokens) {
+                        break;
+                    }
+                    keptTokens += tokens;
+                    foldCount--;
+                }
+            }
+            if (foldCount == 0) {
+                return;
+            }
+            List<CoachMessage> folding = pending.subList(0, foldCount);
+
+            // 3. 기존 요약 + 접을 대화로 새 요약 생성
+            Map<String, Object> model = new HashMap<>();
+            model.put("previousSummary", summary == null ? null : summary.getContent());
+            SystemPrompt prompt = SystemPrompt.of(persona, templateEngine.render("conversation-summary", model));
+
+            String content = geminiClient.chat(userId, GeminiPriority.BATCH, prompt, Collections.emptyList(), transcript(folding));
+            if (content == null || content.isBlank()) {
+                log.warn("[User: {}] 빈 대화 요약 응답 - 저장하지 않음", userId);
+                return;
+            }
+            content = content.trim();
+
+            // 4. 저장 (동시에 다른 요약이 먼저 저장됐으면 버전 충돌로 실패 - 다음 요청에서 다시 접음)
+            Long lastMessageId = folding.get(folding.size() - 1).getMessageId();
+            int tokenEstimate = TokenEstimator.estimate(content);
+            if (summary == null) {
+                summary = CoachConversationSummary.of(userId, content, lastMessageId, tokenEstimate);
+            } else {
+                summary.fold(content, lastMessageId, tokenEstimate);
+            }
+            conversationSummaryRepository.save(summary);
+
+            log.info("[User: {}] 대화 요약 완료 - {}건 접음 (~messageId {}), 요약 추정 토큰: {}",
+                    userId, foldCount, lastMessageId, tokenEstimate);
+        } catch (GeminiUnavailableException e) {
+            log.warn("[User: {}] AI 서비스 사용 불가 - 대화 요약을 건너뜁니다.", userId);
+        } catch (ObjectOptimisticLockingFailureException | DataIntegrityViolationException e) {
+            log.info("[User: {}] 다른 대화 요약이 먼저 저장됨 - 이번 결과는 버립니다.", userId);
+        } catch (RuntimeException e) {
+            log.error("[User: {}] 대화 요약 실패", userId, e);
+        }
+    }
+
+    private static String transcript(List<CoachMessage> messages) {
+        StringBuilder out = new StringBuilder();
+        for (CoachMessage message : messages) {
+            out.append(message.getSender() == MessageSender.USER ? "사용자: " : "코치: ")
+                    .append(message.getContent())
+                    .append('\n');
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.finz.service;
+
+import com.finz.domain.coach.CoachConversationSummary;
+import com.finz.domain.coach.CoachConversationSummaryRepository;
+import com.finz.domain.coach.CoachMessage;
+import com.finz.domain.coach.CoachMessageRepository;
+import com.finz.infrastructure.gemini.TokenEstimator;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import com.finz.infrastructure.prompt.PromptTemplateEngine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// Gemini 대화 요청 컨텍스트 구성
+// - 시스템 프롬프트 + 누적 대화 요약 + 요약 이후 최근 대화를 프롬프트 토큰 상한 안에서 최신순으로 채움
+// - 요약되지 않은 대화가 임계치를 넘으면 백그라운드 요약(ConversationCompactor) 요청
+@Slf4j
+@Service
+public class ConversationHistoryService {
+
+    private final CoachMessageRepository messageRepository;
+    private final CoachConversationSummaryRepository conversationSummaryRepository;
+    private final ConversationCompactor compactor;
+    private final CoachPromptBuilder promptBuilder;
+    private final PromptTemplateEngine templateEngine;
+    private final int promptTokenCeiling;
+    private final int compactionThresholdTokens;
+    private final int maxRecentMessages;
+
+    public ConversationHistoryService(
+            CoachMessageRepository messageRepository,
+            CoachConversationSummaryRepository conversationSummaryRepository,
+            ConversationCompactor compactor,
+            CoachPromptBuilder promptBuilder,
+            PromptTemplateEngine templateEngine,
+            @Value("${finz.coach.conversation.prompt-token-ceiling:6000}") int promptTokenCeiling,
+            @Value("${finz.coach.conversation.compaction-threshold-tokens:3000}") int compactionThresholdTokens,
+            @Value("${finz.coach.conversation.max-recent-messages:40}") int maxRecentMessages) {
+
+        this.messageRepository = messageRepository;
+        this.conversationSummaryRepository = conversationSummaryRepository;
+        this.compactor = compactor;
+        this.promptBuilder = promptBuilder;
+        this.templateEngine = templateEngine;
+        this.promptTokenCeiling = promptTokenCeiling;
+        this.compactionThresholdTokens = compactionThresholdTokens;
+        this.maxRecentMessages = maxRecentMessages;
+    }
+
+    // currentMessageId: 방금 저장한 사용자 메시지 (userMessage 로 따로 전달되므로 히스토리에서 제외)
+    public ConversationWindow buildWindow(Long userId, SystemPrompt systemPrompt, String userMessage, Long currentMessageId) {
+
+        // 1. 누적 요약이 있으면 사용자별 컨텍스트 뒤에 덧붙임 (페르소나는 그대로 - 컨텍스트 캐시 유지)
+        CoachConversationSummary summary = conversationSummaryRepository.findByUserId(userId).orElse(null);
+        SystemPrompt prompt = summary == null
+                ? systemPrompt
+                : systemPrompt.withContext(templateEngine.render("conversation-context", Map.of(
+                        "context", systemPrompt.getContext(),
+                        "summary", summary.getContent())));
+        long summarizedUntil = summary == null ? 0L : summary.getLastMessageId();
+
+        // 2. 요약 이후 대화를 최신순으로 조회
+        List<CoachMessage> recent = messageRepository.findByUserIdAndMessageIdGreaterThanOrderByCreatedAtDescMessageIdDesc(
+                userId, summarizedUntil, Limit.of(maxRecentMessages));
+
+        // 3. 남은 예산 안에서 최신 메시지부터 채움 (예산을 넘는 메시지부터는 더 오래된 것도 제외해 연속성 유지)
+        int fixedTokens = TokenEstimator.estimate(prompt.text()) + TokenEstimator.estimateMessage(userMessage);
+        int budget = promptTokenCeiling - fixedTokens;
+        if (budget < 0) {
+            log.warn("[User: {}] 시스템 프롬프트만으로 토큰 상한 초과 - 추정: {}, 상한: {}", userId, fixedTokens, promptTokenCeiling);
+        }
+
+        List<CoachMessage> included = new ArrayList<>();
+        int historyTokens = 0;
+        int unsummarizedTokens = 0;
+        boolean full = budget <= 0;
+        for (CoachMessage message : recent) {
+            if (message.getMessageId().equals(currentMessageId)) {
+                continue;
+            }
+            int tokens = TokenEstimator.estimateMessage(message.getContent());
+            unsummarizedTokens += tokens;
+            if (!full && historyTokens + tokens <= budget) {
+                included.add(message);
+                historyTokens += tokens;
+            } else {
+                full = true;
+            }
+        }
+
+        // 4. 요약되지 않은 대화가 임계치를 넘으면 오래된 대화를 요약으로 접음 (이번 요청은 기다리지 않음)
+        if (unsummarizedTokens > compactionThresholdTokens || recent.size() >= maxRecentMessages) {
+            compactor.requestCompaction(userId);
+        }
+
+        log.debug("[User: {}] 대화 컨텍스트 - 요약: {}, 히스토리: {}/{}건, 추정 토큰: {}",
+                userId, summary != null, included.size(), recent.size(), fixedTokens + historyTokens);
+
+        Collections.reverse(included);
+        return new ConversationWindow(prompt, promptBuilder.convertToGeminiFormat(included), fixedTokens + historyTokens);
+    }
+}
@@ -0,0 +1,18 @@
+package com.finz.service;
+
+import com.finz.infrastructure.gemini.dto.GeminiMessage;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// Gemini 대화 요청에 실을 컨텍스트 (프롬프트 토큰 상한 안으로 잘라낸 결과)
+@Getter
+@RequiredArgsConstructor
+public class ConversationWindow {
+
+    private final SystemPrompt systemPrompt;    // 페르소나 + 사용자 컨텍스트 (+ 누적 대화 요약)
+    private final List<GeminiMessage> history;  // 요약 이후 최근 대화 (시간 오름차순)
+    private final int estimatedTokens;          // 시스템 프롬프트 + 히스토리 + 사용자 메시지 추정 토큰 수
+}
@@ -0,0 +1,167 @@
+package com.finz.service;
+
+import com.finz.config.AsyncConfig;
+import com.finz.domain.coach.MessageType;
+import com.finz.domain.expense.ExpenseFeedbackStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// 연달아 기록된 지출을 사용자별로 모아 피드백 1건으로 생성 (디바운스)
+// - 마지막 기록 후 window 동안 다음 기록이 없으면 모인 지출 전체에 대해 피드백 생성
+// - 계속 기록 중이어도 첫 기록 후 max-delay 가 지나거나 max-size 건이 모이면 바로 생성
+// - 한 건만 모이면 단건 피드백과 같음 (window 만큼 늦게 생성될 뿐)
+// - 타이머 스레드는 예약만 하고, 피드백 생성은 지출 피드백 워커 풀에서 실행
+// - 한도 초과/워커 포화/생성 실패로 피드백 없이 끝나면 지출에 종료 상태(SKIPPED/FAILED)를 남겨 폴링이 끝나도록 함
+@Slf4j
+@Component
+public class ExpenseFeedbackBatcher {
+
+    private final CoachService coachService;
+    private final CoachRateLimiter rateLimiter;
+    private final TaskExecutor feedbackExecutor;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final long maxDelayNanos;
+    private final int maxSize;
+
+    private final Map<Long, Batch> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer;
+    private final DistributionSummary batchSize;
+
+    public ExpenseFeedbackBatcher(
+            CoachService coachService,
+            CoachRateLimiter rateLimiter,
+            @Qualifier(AsyncConfig.EXPENSE_FEEDBACK_EXECUTOR) TaskExecutor feedbackExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${finz.coach.expense-feedback.batch.enabled:true}") boolean enabled,
+            @Value("${finz.coach.expense-feedback.batch.window:3s}") Duration window,
+            @Value("${finz.coach.expense-feedback.batch.max-delay:15s}") Duration maxDelay,
+            @Value("${finz.coach.expense-feedback.batch.max-size:10}") int maxSize) {
+
+        this.coachService = coachService;
+        this.rateLimiter = rateLimiter;
+        this.feedbackExecutor = feedbackExecutor;
+        this.enabled = enabled;
+        this.windowNanos = window.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.maxSize = maxSize;
+
+        this.timer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "expense-feedback-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = DistributionSummary.builder("finz.expense.feedback.batch.size")
+                .description("피드백 1건으로 묶인 지출 기록 수")
+                .register(meterRegistry);
+    }
+
+    // 지출 기록 추가 (커밋 이후 호출) - 같은 사용자의 대기 중인 묶음이 있으면 합치고 타이머를 다시 맞춤
+    public void add(Long userId, Long expenseId) {
+        if (!enabled) {
+            submit(userId, List.of(expenseId));
+            return;
+        }
+
+        pending.compute(userId, (id, batch) -> {
+            long now = System.nanoTime();
+            if (batch == null) {
+                batch = new Batch(now);
+            } else {
+                batch.flush.cancel(false);
+            }
+            batch.expenseIds.add(expenseId);
+
+            long delay = batch.expenseIds.size() >= maxSize
+                    ? 0
+                    : Math.min(windowNanos, batch.startedAt + maxDelayNanos - now);
+            Batch scheduled = batch;
+            batch.flush = timer.schedule(() -> flush(userId, scheduled), Math.max(0, delay), TimeUnit.NANOSECONDS);
+            return batch;
+        });
+    }
+
+    private void flush(Long userId, Batch batch) {
+        // 이미 다른 타이머가 꺼낸 묶음이면 무시 (remove 이후에는 묶음에 더 추가되지 않음)
+        if (!pending.remove(userId, batch)) {
+            return;
+        }
+        submit(userId, batch.expenseIds);
+    }
+
+    // 워커 풀에 피드백 생성 제출 - 포화로 거절되면 피드백 없이 끝난 것으로 표시
+    private void submit(Long userId, List<Long> expenseIds) {
+        try {
+            feedbackExecutor.execute(() -> generate(userId, expenseIds));
+        } catch (TaskRejectedException e) {
+            log.warn("[User: {}] 지출 피드백 워커 포화 - 피드백 생략 - ExpenseIds: {}", userId, expenseIds);
+            markFeedback(userId, expenseIds, ExpenseFeedbackStatus.SKIPPED);
+        }
+    }
+
+    private void generate(Long userId, List<Long> expenseIds) {
+        // 사용자별 한도(EXPENSE_RECORD)는 Gemini 호출 단위(묶음)로 차감
+        if (rateLimiter.tryAcquire(userId, MessageType.EXPENSE_RECORD) > 0) {
+            log.info("[User: {}] 지출 피드백 한도 초과 - 피드백 생략 - ExpenseIds: {}", userId, expenseIds);
+            markFeedback(userId, expenseIds, ExpenseFeedbackStatus.SKIPPED);
+            return;
+        }
+
+        batchSize.record(expenseIds.size());
+        try {
+            coachService.processNewExpenseRecords(userId, expenseIds);
+        } catch (Exception e) {
+            log.error("[User: {}] 지출 피드백 생성 실패 - ExpenseIds: {}", userId, expenseIds, e);
+            markFeedback(userId, expenseIds, ExpenseFeedbackStatus.FAILED);
+        }
+    }
+
+    // 피드백 폴링이 202 로 끝나지 않도록 종료 상태 저장 (저장 실패 시에는 pending-timeout 으로 종료)
+    private void markFeedback(Long userId, List<Long> expenseIds, ExpenseFeedbackStatus status) {
+        try {
+            coachService.markExpenseFeedback(expenseIds, status);
+        } catch (Exception e) {
+            log.error("[User: {}] 지출 피드백 상태 저장 실패 ({}) - ExpenseIds: {}", userId, status, expenseIds, e);
+        }
+    }
+
+    // 종료 시 대기 중인 묶음은 바로 피드백 생성 (워커 풀은 남은 작업을 마치고 종료)
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+        for (Long userId : List.copyOf(pending.keySet())) {
+            Batch batch = pending.remove(userId);
+            if (batch != null) {
+                submit(userId, batch.expenseIds);
+            }
+        }
+    }
+
+    private static final class Batch {
+        private final long startedAt;
+        private final List<Long> expenseIds = new ArrayList<>();
+        private ScheduledFuture<?> flush;
+
+        private Batch(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+}
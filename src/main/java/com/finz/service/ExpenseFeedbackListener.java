@@ -0,0 +1,59 @@
+package com.finz.service;
+
+import com.finz.config.AsyncConfig;
+import com.finz.domain.coach.MessageType;
+import com.finz.domain.expense.ExpenseBatchImportedEvent;
+import com.finz.domain.expense.ExpenseRecordedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpenseFeedbackListener {
+
+    private final CoachService coachService;
+
+    private final CoachRateLimiter rateLimiter;
+
+    private final ExpenseFeedbackBatcher feedbackBatcher;
+
+    @Qualifier(AsyncConfig.EXPENSE_FEEDBACK_EXECUTOR)
+    private final TaskExecutor feedbackExecutor;
+
+    // 지출 트랜잭션 커밋 이후 사용자별 묶음에 추가 (연달아 기록하면 모아서 피드백 1건, 백그라운드 워커에서 생성)
+    // - 사용자별 한도(EXPENSE_RECORD)는 묶음 단위로 차감, 넘으면 피드백 없이 건너뜀 (지출 등록 자체는 이미 커밋됨)
+    @TransactionalEventListener
+    public void onExpenseRecorded(ExpenseRecordedEvent event) {
+        feedbackBatcher.add(event.getUserId(), event.getExpenseId());
+    }
+
+    // 일괄 등록은 묶음 전체에 대해 피드백 1건만 생성 (지출 피드백 워커 풀에서 실행)
+    // - 사용자별 한도(EXPENSE_RECORD)를 넘거나 워커 풀이 포화면 피드백 없이 건너뜀
+    // - 건별 피드백 폴링은 등록 시 SKIPPED 로 저장되어 바로 종료됨 (ExpenseJdbcWriter)
+    @TransactionalEventListener
+    public void onExpenseBatchImported(ExpenseBatchImportedEvent event) {
+        try {
+            feedbackExecutor.execute(() -> generateImportFeedback(event));
+        } catch (TaskRejectedException e) {
+            log.warn("[User: {}] 지출 피드백 워커 포화 - 일괄 등록 피드백 생략 - {}건", event.getUserId(), event.getImportedCount());
+        }
+    }
+
+    private void generateImportFeedback(ExpenseBatchImportedEvent event) {
+        if (rateLimiter.tryAcquire(event.getUserId(), MessageType.EXPENSE_RECORD) > 0) {
+            log.info("[User: {}] 지출 피드백 한도 초과 - 일괄 등록 피드백 생략 - {}건", event.getUserId(), event.getImportedCount());
+            return;
+        }
+        try {
+            coachService.processExpenseImport(event);
+        } catch (Exception e) {
+            log.error("[User: {}] 일괄 등록 피드백 생성 실패 - {}건", event.getUserId(), event.getImportedCount(), e);
+        }
+    }
+}
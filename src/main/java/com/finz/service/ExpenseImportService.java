@@ -0,0 +1,162 @@
+package com.finz.service;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.finz.domain.expense.ExpenseCategory;
+import com.finz.domain.expense.ExpenseImportRow;
+import com.finz.domain.expense.PaymentMethod;
+import com.finz.dto.expense.ExpenseImportErrorDto;
+import com.finz.dto.expense.ExpenseImportResponseDto;
+import com.finz.dto.expense.ExpenseRequestDto;
+import com.finz.exception.BaseException;
+import com.finz.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+// 지출 일괄 등록 (JSON 배열 / CSV)
+// - 요청 본문을 한 행씩 스트리밍으로 읽으며 검증 (전체 문서를 트리/리스트로 올리지 않음)
+// - 검증을 통과한 행만 한 트랜잭션에서 JDBC 배치로 저장, 거절된 행은 사유와 함께 응답
+@Slf4j
+@Service
+public class ExpenseImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ExpenseService expenseService;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+    private final int maxRows;
+
+    public ExpenseImportService(
+            ExpenseService expenseService,
+            ObjectMapper objectMapper,
+            @Value("${finz.expense.import.max-rows:5000}") int maxRows) {
+
+        this.expenseService = expenseService;
+        this.objectMapper = objectMapper;
+        this.maxRows = maxRows;
+        this.csvMapper = CsvMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    // JSON 배열: [{"expense_name": ..., "amount": ..., ...}, ...]
+    public ExpenseImportResponseDto importJson(Long userId, InputStream body) {
+        try (MappingIterator<ExpenseRequestDto> rows = objectMapper.readerFor(ExpenseRequestDto.class).readValues(body)) {
+            return importRows(userId, rows);
+        } catch (IOException e) {
+            throw new BaseException("JSON 형식이 올바르지 않습니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    // CSV: 헤더 행 필수 (expense_name,amount,category,expense_tag,memo,payment_method,expense_date)
+    public ExpenseImportResponseDto importCsv(Long userId, InputStream file) {
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try (MappingIterator<ExpenseRequestDto> rows = csvMapper.readerFor(ExpenseRequestDto.class).with(schema).readValues(file)) {
+            return importRows(userId, rows);
+        } catch (IOException e) {
+            throw new BaseException("CSV 형식이 올바르지 않습니다.", ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    private ExpenseImportResponseDto importRows(Long userId, MappingIterator<ExpenseRequestDto> rows) throws IOException {
+        List<ExpenseImportRow> accepted = new ArrayList<>();
+        List<ExpenseImportErrorDto> errors = new ArrayList<>();
+        int rejectedCount = 0;
+        int rowNumber = 0;
+
+        while (true) {
+            ExpenseRequestDto dto;
+            try {
+                if (!rows.hasNextValue()) {
+                    break;
+                }
+                rowNumber++;
+                // 형식 오류 행도 건수에 포함 (잘못된 행만 무한히 보내 한도를 우회하지 못하도록 읽기 전에 검사)
+                if (rowNumber > maxRows) {
+                    throw new BaseException("한 번에 최대 " + maxRows + "건까지 등록할 수 있습니다.", ErrorCode.INVALID_INPUT_VALUE);
+                }
+                dto = rows.nextValue();
+            } catch (JsonParseException e) {
+                // 문법 오류는 이후 행을 신뢰할 수 없으므로 전체 요청 거절
+                throw e;
+            } catch (JsonMappingException e) {
+                // 타입 불일치(날짜/금액 형식 등)는 해당 행만 거절하고 다음 행으로 진행
+                rejectedCount++;
+                addError(errors, rowNumber, "형식 오류: " + e.getOriginalMessage());
+                continue;
+            }
+
+            try {
+                accepted.add(validate(dto));
+            } catch (IllegalArgumentException e) {
+                rejectedCount++;
+                addError(errors, rowNumber, e.getMessage());
+            }
+        }
+
+        int importedCount = accepted.isEmpty() ? 0 : expenseService.importExpenses(userId, accepted);
+
+        log.info("[User: {}] 지출 일괄 등록 - 등록: {}건, 거절: {}건", userId, importedCount, rejectedCount);
+        return new ExpenseImportResponseDto(importedCount, rejectedCount, errors);
+    }
+
+    // 엔티티 컬럼 제약과 동일한 기준으로 검증
+    private ExpenseImportRow validate(ExpenseRequestDto dto) {
+        String expenseName = trimToNull(dto.getExpense_name());
+        if (expenseName == null || expenseName.length() > 20) {
+            throw new IllegalArgumentException("지출명은 1~20자여야 합니다.");
+        }
+        if (dto.getAmount() == null || dto.getAmount() <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+        }
+        String expenseTag = trimToNull(dto.getExpense_tag());
+        if (expenseTag == null || expenseTag.length() > 20) {
+            throw new IllegalArgumentException("태그는 1~20자여야 합니다.");
+        }
+        String memo = trimToNull(dto.getMemo());
+        if (memo != null && memo.length() > 50) {
+            throw new IllegalArgumentException("메모는 50자 이하여야 합니다.");
+        }
+        if (dto.getExpense_date() == null) {
+            throw new IllegalArgumentException("지출일은 필수입니다.");
+        }
+
+        return new ExpenseImportRow(
+                expenseName,
+                dto.getAmount(),
+                ExpenseCategory.fromDescription(trimToNull(dto.getCategory())),
+                expenseTag,
+                memo,
+                PaymentMethod.fromDescription(trimToNull(dto.getPayment_method())),
+                dto.getExpense_date()
+        );
+    }
+
+    private static void addError(List<ExpenseImportErrorDto> errors, int rowNumber, String reason) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new ExpenseImportErrorDto(rowNumber, reason));
+        }
+    }
+
+    private static String trimToNull(String value) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+}
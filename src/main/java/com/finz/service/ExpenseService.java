@@ -1,26 +1,45 @@
 package com.finz.service;
 
 import com.finz.domain.expense.Expense;
+import com.finz.domain.expense.ExpenseBatchImportedEvent;
 import com.finz.domain.expense.ExpenseCategory;
-import com.finz.dto.coach.CoachResponseDto;
+import com.finz.domain.expense.ExpenseImportRow;
+import com.finz.domain.expense.ExpenseRecordedEvent;
+import com.finz.repository.ExpenseDailySummaryRepository;
+import com.finz.repository.ExpenseJdbcWriter;
 import com.finz.repository.ExpenseRepository;
 import com.finz.domain.expense.PaymentMethod;
 import com.finz.dto.expense.CreateExpenseResponseDto;
 import com.finz.dto.expense.ExpenseDetailResponseDto;
 import com.finz.dto.expense.ExpenseRequestDto;
 import com.finz.domain.user.User;
+import com.finz.domain.user.UserDataChangedEvent;
 import com.finz.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ExpenseService {
     private final ExpenseRepository expenseRepository;
+    private final ExpenseDailySummaryRepository summaryRepository;
     private final UserRepository userRepository;
-    private final CoachService coachService;
+    private final ExpenseJdbcWriter expenseJdbcWriter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${finz.expense.import.batch-size:500}")
+    private int importBatchSize;
 
     @Transactional
     public CreateExpenseResponseDto createExpense(ExpenseRequestDto requestDto) {
@@ -43,15 +62,59 @@ public class ExpenseService {
                 .build();
 
         Expense savedExpense = expenseRepository.save(expense);
+        accumulateSummary(user.getId(), savedExpense.getExpenseDate(), category, savedExpense.getAmount(), 1);
 
-        coachService.processNewExpenseRecord(
-                user.getId(),
-                savedExpense
-        );
+        // AI 피드백은 커밋 이후 백그라운드에서 생성 (Gemini 호출 동안 트랜잭션/커넥션을 잡지 않음)
+        eventPublisher.publishEvent(new ExpenseRecordedEvent(user.getId(), savedExpense.getId()));
+        eventPublisher.publishEvent(new UserDataChangedEvent(user.getId()));
 
         return new CreateExpenseResponseDto(savedExpense.getId());
     }
 
+    // 지출 일괄 등록 (검증된 행만 전달받음)
+    // - 지출은 JDBC 배치 insert, 집계는 (날짜, 카테고리) 단위로 합산 후 한 번씩만 갱신
+    // - AI 피드백은 행마다가 아니라 묶음 전체에 대해 커밋 후 1건만 생성
+    @Transactional
+    public int importExpenses(Long userId, List<ExpenseImportRow> rows) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id=" + userId);
+        }
+
+        expenseJdbcWriter.batchInsert(userId, rows, importBatchSize);
+
+        // (날짜, 카테고리) -> {금액 합계, 건수}
+        Map<LocalDate, Map<ExpenseCategory, long[]>> dailyTotals = new HashMap<>();
+        Map<ExpenseCategory, Long> categoryTotals = new EnumMap<>(ExpenseCategory.class);
+        long totalAmount = 0;
+        LocalDate startDate = null;
+        LocalDate endDate = null;
+
+        for (ExpenseImportRow row : rows) {
+            long[] total = dailyTotals.computeIfAbsent(row.getExpenseDate(), date -> new EnumMap<>(ExpenseCategory.class))
+                    .computeIfAbsent(row.getCategory(), category -> new long[2]);
+            total[0] += row.getAmount();
+            total[1]++;
+            categoryTotals.merge(row.getCategory(), (long) row.getAmount(), Long::sum);
+            totalAmount += row.getAmount();
+            startDate = startDate == null || row.getExpenseDate().isBefore(startDate) ? row.getExpenseDate() : startDate;
+            endDate = endDate == null || row.getExpenseDate().isAfter(endDate) ? row.getExpenseDate() : endDate;
+        }
+
+        dailyTotals.forEach((date, totals) -> totals.forEach((category, total) ->
+                accumulateSummary(userId, date, category, total[0], total[1])));
+
+        Map<ExpenseCategory, Long> sortedCategoryTotals = new LinkedHashMap<>();
+        categoryTotals.entrySet().stream()
+                .sorted(Map.Entry.<ExpenseCategory, Long>comparingByValue().reversed())
+                .forEach(entry -> sortedCategoryTotals.put(entry.getKey(), entry.getValue()));
+
+        eventPublisher.publishEvent(new ExpenseBatchImportedEvent(
+                userId, rows.size(), totalAmount, startDate, endDate, sortedCategoryTotals));
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+
+        return rows.size();
+    }
+
     // 지출 내역 아이디로 지출 내역 조회하기
     @Transactional(readOnly = true)
     public ExpenseDetailResponseDto getExpenseDetail(Long expenseId) {
@@ -69,6 +132,11 @@ public class ExpenseService {
         ExpenseCategory category = ExpenseCategory.fromDescription(requestDto.getCategory());
         PaymentMethod paymentMethod = PaymentMethod.fromDescription(requestDto.getPayment_method());
 
+        // 집계 갱신: 이전 (날짜, 카테고리)에서 빼고 새 (날짜, 카테고리)에 더함
+        Long userId = expense.getUser().getId();
+        accumulateSummary(userId, expense.getExpenseDate(), expense.getCategory(), -expense.getAmount(), -1);
+        accumulateSummary(userId, requestDto.getExpense_date(), category, requestDto.getAmount(), 1);
+
         expense.update(
                 requestDto.getExpense_name(),
                 requestDto.getAmount(),
@@ -79,6 +147,8 @@ public class ExpenseService {
                 requestDto.getExpense_date()
         );
 
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
+
         // 이 부분은 이미 aiFeedback 없이 expenseId만 반환하고 있었네요.
         return new CreateExpenseResponseDto(expense.getId());
     }
@@ -89,5 +159,13 @@ public class ExpenseService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 지출 내역을 찾을 수 없습니다. id=" + expenseId));
 
         expenseRepository.delete(expense);
+        accumulateSummary(expense.getUser().getId(), expense.getExpenseDate(), expense.getCategory(), -expense.getAmount(), -1);
+
+        eventPublisher.publishEvent(new UserDataChangedEvent(expense.getUser().getId()));
+    }
+
+    // 일별/카테고리별 집계 테이블 증감 (지출 변경과 같은 트랜잭션)
+    private void accumulateSummary(Long userId, LocalDate date, ExpenseCategory category, long amountDelta, long countDelta) {
+        summaryRepository.accumulate(userId, date, category.name(), amountDelta, countDelta);
     }
 }
@@ -7,10 +7,12 @@ import com.finz.domain.coach.MessageType;
 import com.finz.domain.goal.Goal;
 import com.finz.domain.goal.GoalRepository;
 import com.finz.domain.goal.GoalStatus;
+import com.finz.domain.user.UserDataChangedEvent;
 import com.finz.dto.goal.GoalCreateRequest;
 import com.finz.dto.goal.GoalResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class GoalService {
     
     private final GoalRepository goalRepository;
     private final CoachMessageRepository messageRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     // 목표 생성
     @Transactional
@@ -43,6 +46,7 @@ public class GoalService {
             .build();
         
         Goal savedGoal = goalRepository.save(goal);
+        eventPublisher.publishEvent(new UserDataChangedEvent(userId));
         
         // 2. 확인 메시지 저장
         String confirmMsg = String.format(
@@ -2,9 +2,11 @@ package com.finz.service;
 
 import com.finz.domain.expense.Expense;
 import com.finz.domain.expense.ExpenseCategory;
+import com.finz.domain.expense.ExpenseDailySummary;
 import com.finz.domain.user.User;
 import com.finz.domain.user.UserRepository;
 import com.finz.dto.home.*;
+import com.finz.repository.ExpenseDailySummaryRepository;
 import com.finz.repository.ExpenseRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +28,11 @@ public class HomeService {
 
     private final UserRepository userRepository;
     private final ExpenseRepository expenseRepository;
+    private final ExpenseDailySummaryRepository summaryRepository;
+
+    // 하이라이트 대상 (MVP 하드코딩)
+    private static final String HIGHLIGHT_CATEGORY = "음식";
+    private static final String HIGHLIGHT_TAG = "충동구매";
 
     public HomeSummaryResponseDto getHomeSummary(Long userId) {
 
@@ -37,24 +44,17 @@ public class HomeService {
 
         // 이번 달의 총 지출액 조회
         LocalDate startOfMonth = LocalDate.now().withDayOfMonth(1);
-        Integer totalExpense = expenseRepository.findTotalAmountByUserIdAndDateAfter(
+        Integer totalExpense = summaryRepository.findTotalAmountByUserIdAndDateAfter(
                 userId,
                 startOfMonth
         );
 
-        // 남은 예산 계산
-        Integer remainingBudget = monthlyBudget - totalExpense;
-
-        // 진행률(퍼센트) 계산
-        Double progressRate = 0.0;
-        if (monthlyBudget != null && monthlyBudget > 0) {
-            progressRate = (double) totalExpense / monthlyBudget;
-        }
+        HomeSummaryResponseDto summary = buildSummary(monthlyBudget, totalExpense);
 
         log.info("[User: {}] 홈 요약 조회: 예산(%), 총지출(%), 남은금액(%), 진행률({})",
-                userId, monthlyBudget, totalExpense, remainingBudget, progressRate);
+                userId, monthlyBudget, totalExpense, summary.getRemainingBudget(), summary.getProgressRate());
 
-        return new HomeSummaryResponseDto(totalExpense, remainingBudget, progressRate);
+        return summary;
     }
 
     public HomeDetailsResponseDto getHomeDetails(Long userId, LocalDate date) {
@@ -80,6 +80,85 @@ public class HomeService {
         return new HomeDetailsResponseDto(incomeDtos, expenseDtos);
     }
 
+    /**
+     * 홈 대시보드 조회 (요약 + 하이라이트 + 이번 달 달력)
+     * - 2주 하이라이트 구간과 이번 달 구간을 한 번에 읽어 메모리에서 한 번의 순회로 계산
+     * - 쿼리 3회: 사용자 / 일별 집계(구간 시작일 이후 전체) / 하이라이트 태그 지출일
+     */
+    public HomeDashboardResponseDto getHomeDashboard(Long userId) {
+
+        LocalDate today = LocalDate.now();
+        YearMonth thisMonth = YearMonth.from(today);
+        LocalDate startOfMonth = thisMonth.atDay(1);
+        LocalDate startOfThisWeek = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate endOfThisWeek = today.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+        LocalDate startOfLastWeek = startOfThisWeek.minusWeeks(1);
+        LocalDate endOfLastWeek = endOfThisWeek.minusWeeks(1);
+
+        // 1. 사용자 (1회)
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Integer monthlyBudget = user.getMonthlyBudget();
+
+        // 2. 일별 집계 - 이번 달 합계가 기존처럼 "월초 이후 전체"이므로 상한 없이 조회
+        LocalDate windowStart = startOfLastWeek.isBefore(startOfMonth) ? startOfLastWeek : startOfMonth;
+        List<ExpenseDailySummary> rows = summaryRepository.findByUserIdAndExpenseDateGreaterThanEqual(userId, windowStart);
+
+        ExpenseCategory highlightCategory = ExpenseCategory.fromDescription(HIGHLIGHT_CATEGORY);
+        int monthTotal = 0;
+        int spentToday = 0;
+        int thisWeekCategoryAmount = 0;
+        int lastWeekCategoryAmount = 0;
+        Map<LocalDate, Integer> monthDailyTotals = new HashMap<>();
+
+        for (ExpenseDailySummary row : rows) {
+            LocalDate date = row.getExpenseDate();
+            int amount = Math.toIntExact(row.getTotalAmount());
+
+            if (!date.isBefore(startOfMonth)) {
+                monthTotal += amount;
+                if (YearMonth.from(date).equals(thisMonth) && row.getExpenseCount() > 0) {
+                    monthDailyTotals.merge(date, amount, Integer::sum);
+                }
+            }
+            if (date.equals(today)) {
+                spentToday += amount;
+            }
+            if (row.getCategory() == highlightCategory) {
+                if (isBetween(date, startOfThisWeek, endOfThisWeek)) {
+                    thisWeekCategoryAmount += amount;
+                } else if (isBetween(date, startOfLastWeek, endOfLastWeek)) {
+                    lastWeekCategoryAmount += amount;
+                }
+            }
+        }
+
+        // 3. 하이라이트 태그 지출일 (2주 구간)
+        int thisWeekTagCount = 0;
+        int lastWeekTagCount = 0;
+        for (LocalDate date : expenseRepository.findExpenseDatesByTagAndDateRange(userId, HIGHLIGHT_TAG, startOfLastWeek, endOfThisWeek)) {
+            if (isBetween(date, startOfThisWeek, endOfThisWeek)) {
+                thisWeekTagCount++;
+            } else {
+                lastWeekTagCount++;
+            }
+        }
+
+        HomeHighlightResponseDto highlight = new HomeHighlightResponseDto(
+                buildCategoryHighlight(HIGHLIGHT_CATEGORY, thisWeekCategoryAmount, lastWeekCategoryAmount),
+                buildTagHighlight(HIGHLIGHT_TAG, thisWeekTagCount, lastWeekTagCount),
+                buildRecommendedSpend(monthlyBudget, today.lengthOfMonth(), spentToday)
+        );
+
+        log.info("[User: {}] 홈 대시보드 조회 - 집계 {}행", userId, rows.size());
+
+        return new HomeDashboardResponseDto(
+                buildSummary(monthlyBudget, monthTotal),
+                highlight,
+                buildCalendar(thisMonth, monthlyBudget, monthDailyTotals)
+        );
+    }
+
     /**
      * 홈 화면 하이라이트 조회
      */
@@ -96,8 +175,8 @@ public class HomeService {
 
         // 2. 항목별 계산 (MVP 하드코딩)
         // (수정) "식비" -> "음식"
-        HighlightItemDto categoryItem = calculateCategoryHighlight(userId, "음식", startOfThisWeek, endOfThisWeek, startOfLastWeek, endOfLastWeek);
-        HighlightItemDto tagItem = calculateTagHighlight(userId, "충동구매", startOfThisWeek, endOfThisWeek, startOfLastWeek, endOfLastWeek);
+        HighlightItemDto categoryItem = calculateCategoryHighlight(userId, HIGHLIGHT_CATEGORY, startOfThisWeek, endOfThisWeek, startOfLastWeek, endOfLastWeek);
+        HighlightItemDto tagItem = calculateTagHighlight(userId, HIGHLIGHT_TAG, startOfThisWeek, endOfThisWeek, startOfLastWeek, endOfLastWeek);
         HighlightItemDto recommendItem = calculateRecommendedSpend(userId, today);
 
         return new HomeHighlightResponseDto(categoryItem, tagItem, recommendItem);
@@ -110,7 +189,12 @@ public class HomeService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
-        Integer monthlyBudget = user.getMonthlyBudget();
+        Integer spentToday = summaryRepository.findTotalAmountByUserIdAndDate(userId, today);
+
+        return buildRecommendedSpend(user.getMonthlyBudget(), today.lengthOfMonth(), spentToday);
+    }
+
+    private HighlightItemDto buildRecommendedSpend(Integer monthlyBudget, int daysInMonth, int spentToday) {
         if (monthlyBudget == null || monthlyBudget == 0) {
             return HighlightItemDto.builder()
                     .title("오늘 권장 지출")
@@ -118,11 +202,8 @@ public class HomeService {
                     .build();
         }
 
-        int daysInMonth = today.lengthOfMonth();
         Integer dailyPace = monthlyBudget / daysInMonth; // 일일 페이스
 
-        Integer spentToday = expenseRepository.findTotalAmountByUserIdAndDate(userId, today);
-
         Integer remainingTodaySpend = dailyPace - spentToday;
 
         if (remainingTodaySpend < 0) {
@@ -148,13 +229,17 @@ public class HomeService {
         // (수정) "음식" 문자열을 -> ExpenseCategory.FOOD_SERVICE (예시) Enum으로 변환
         ExpenseCategory category = ExpenseCategory.fromDescription(categoryName);
 
-        Integer thisWeekAmount = expenseRepository.findTotalAmountByCategoryAndDateRange(
+        Integer thisWeekAmount = summaryRepository.findTotalAmountByCategoryAndDateRange(
                 userId, category, thisWeekStart, thisWeekEnd
         );
-        Integer lastWeekAmount = expenseRepository.findTotalAmountByCategoryAndDateRange(
+        Integer lastWeekAmount = summaryRepository.findTotalAmountByCategoryAndDateRange(
                 userId, category, lastWeekStart, lastWeekEnd
         );
 
+        return buildCategoryHighlight(categoryName, thisWeekAmount, lastWeekAmount);
+    }
+
+    private HighlightItemDto buildCategoryHighlight(String categoryName, int thisWeekAmount, int lastWeekAmount) {
         String valueText;
 
         if (lastWeekAmount == 0 && thisWeekAmount > 0) {
@@ -189,6 +274,10 @@ public class HomeService {
                 userId, tagName, lastWeekStart, lastWeekEnd
         );
 
+        return buildTagHighlight(tagName, thisWeekCount, lastWeekCount);
+    }
+
+    private HighlightItemDto buildTagHighlight(String tagName, int thisWeekCount, int lastWeekCount) {
         int diff = thisWeekCount - lastWeekCount;
         String valueText;
 
@@ -219,25 +308,30 @@ public class HomeService {
 
         Integer monthlyBudget = user.getMonthlyBudget();
 
-        // 2. "일일 권장 지출액 (페이스)" 계산
+        // 2. DB에서 "이번 달 지출 합계" 목록을 1번의 쿼리로 가져옴
         YearMonth yearMonth = YearMonth.of(year, month);
-        int daysInMonth = yearMonth.lengthOfMonth(); // 해당 월의 총 일수
-
-        Integer dailyPace = 0; // 예산 미설정 시 '일일 예산'은 0
-        if (monthlyBudget != null && monthlyBudget > 0) {
-            dailyPace = monthlyBudget / daysInMonth;
-        }
-
-        // 3. DB에서 "이번 달 지출 합계" 목록을 1번의 쿼리로 가져옴
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<DailyExpenseTotalDto> dailyTotals = expenseRepository.findDailyTotalsByMonth(userId, startDate, endDate);
+        List<DailyExpenseTotalDto> dailyTotals = summaryRepository.findDailyTotalsByMonth(userId, startDate, endDate);
 
-        // 4. (성능 최적화) 빠른 조회를 위해 List -> Map으로 변환
+        // 3. (성능 최적화) 빠른 조회를 위해 List -> Map으로 변환
         Map<LocalDate, Integer> expenseMap = dailyTotals.stream()
                 .collect(Collectors.toMap(DailyExpenseTotalDto::getDate, DailyExpenseTotalDto::getTotalAmount));
 
+        return buildCalendar(yearMonth, monthlyBudget, expenseMap);
+    }
+
+    static CalendarResponseDto buildCalendar(YearMonth yearMonth, Integer monthlyBudget, Map<LocalDate, Integer> expenseMap) {
+
+        // 4. "일일 권장 지출액 (페이스)" 계산
+        int daysInMonth = yearMonth.lengthOfMonth(); // 해당 월의 총 일수
+
+        Integer dailyPace = 0; // 예산 미설정 시 '일일 예산'은 0
+        if (monthlyBudget != null && monthlyBudget > 0) {
+            dailyPace = monthlyBudget / daysInMonth;
+        }
+
         // 5. 1일부터 말일까지 루프 돌면서 상태(status) 계산
         List<CalendarDayDto> calendarDays = new ArrayList<>();
 
@@ -264,4 +358,22 @@ public class HomeService {
         // 6. DTO로 감싸서 반환
         return new CalendarResponseDto(calendarDays);
     }
-}
\ No newline at end of file
+
+    private HomeSummaryResponseDto buildSummary(Integer monthlyBudget, Integer totalExpense) {
+
+        // 남은 예산 계산
+        Integer remainingBudget = monthlyBudget - totalExpense;
+
+        // 진행률(퍼센트) 계산
+        Double progressRate = 0.0;
+        if (monthlyBudget != null && monthlyBudget > 0) {
+            progressRate = (double) totalExpense / monthlyBudget;
+        }
+
+        return new HomeSummaryResponseDto(totalExpense, remainingBudget, progressRate);
+    }
+
+    private static boolean isBetween(LocalDate date, LocalDate start, LocalDate end) {
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+}
@@ -0,0 +1,79 @@
+package com.finz.service;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+// 블로킹 스트리밍 응답의 토큰 조각을 coach-sse 스케줄러에서 순서대로 전달
+// - Gemini 스트림을 읽는 스레드는 공정 분배 허가/벌크헤드/서킷 브레이커 안에 있으므로 느린 클라이언트 소켓 쓰기를 하지 않음
+//   (Gemini 응답이 끝나면 허가를 반납하고, 남은 조각은 close() 에서 전달이 끝날 때까지 기다림)
+// - 한 worker 에 순서대로 예약하므로 조각 순서 유지
+// - 대기 작업이 가득 차 예약이 거절되면 이후 조각은 모아 두었다가 close() 에서 한 번에 전달
+@Slf4j
+class SseChunkRelay implements Consumer<String>, AutoCloseable {
+
+    private final Consumer<String> onChunk;
+    private final Scheduler.Worker worker;
+    private final StringBuilder overflow = new StringBuilder();
+
+    SseChunkRelay(Scheduler scheduler, Consumer<String> onChunk) {
+        this.onChunk = onChunk;
+        this.worker = scheduler.createWorker();
+    }
+
+    // Gemini 스트림 읽는 스레드에서만 호출
+    @Override
+    public void accept(String chunk) {
+        if (overflow.isEmpty()) {
+            try {
+                worker.schedule(() -> deliver(chunk));
+                return;
+            } catch (RejectedExecutionException e) {
+                log.warn("스트리밍 조각 전달 큐 포화 - 남은 조각은 스트림 종료 후 한 번에 전달");
+            }
+        }
+        overflow.append(chunk);
+    }
+
+    // 예약된 조각 전달이 끝날 때까지 대기 (스트림을 읽던 스레드에서 호출 - 이후 done/에러 이벤트가 조각 뒤에 오도록)
+    @Override
+    public void close() {
+        CompletableFuture<Void> drained = new CompletableFuture<>();
+        try {
+            // 큐가 가득 차 있으면 자리가 날 때까지 재시도 (먼저 예약한 조각보다 앞서 끝내지 않도록)
+            while (!drained.isDone()) {
+                try {
+                    worker.schedule(() -> drained.complete(null));
+                    drained.join();
+                } catch (RejectedExecutionException e) {
+                    sleep();
+                }
+            }
+        } finally {
+            worker.dispose();
+        }
+        if (!overflow.isEmpty()) {
+            deliver(overflow.toString());
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("스트리밍 조각 전달 대기 중 인터럽트", e);
+        }
+    }
+
+    private void deliver(String chunk) {
+        try {
+            onChunk.accept(chunk);
+        } catch (RuntimeException e) {
+            log.warn("스트리밍 조각 전달 실패", e);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.finz.service;
+
+import com.finz.domain.expense.ExpensePattern;
+import com.finz.domain.expense.ExpenseTagSummary;
+import com.finz.domain.expense.TagExpenseSummary;
+import com.finz.domain.goal.GoalRepository;
+import com.finz.domain.goal.GoalStatus;
+import com.finz.domain.user.User;
+import com.finz.domain.user.UserDataChangedEvent;
+import com.finz.domain.user.UserRepository;
+import com.finz.repository.ExpenseDailySummaryRepository;
+import com.finz.repository.ExpenseRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 사용자별 재무 컨텍스트 스냅샷 캐시
+// - 코치 메시지마다 반복되던 사용자/목표/지출 패턴 조회를 한 번의 로드로 대체
+// - 지출/목표 변경 커밋 직후 무효화 (지출 피드백 워커보다 먼저 실행되도록 최우선 순서)
+// - 조회할 때마다 사용자 데이터 버전(UserDataVersionService)과 비교해 스냅샷 이후 바뀌었으면 다시 로드
+//   (무효화 전에 시작된 로드가 이전 데이터를 늦게 채워 넣거나, 다른 인스턴스에서 바뀐 경우)
+// - 로드(DB 조회)는 캐시 내부 잠금 밖에서 실행 - Cache.get(key, loader) 는 ConcurrentHashMap 버킷의 synchronized 안에서
+//   로더를 돌려 가상 스레드가 캐리어 스레드에 고정(pinning)되므로, 빈 future 만 등록하고 조회는 등록한 요청이 수행
+@Slf4j
+@Service
+public class UserContextService {
+
+    private final UserRepository userRepository;
+    private final GoalRepository goalRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseDailySummaryRepository summaryRepository;
+    private final UserDataVersionService dataVersionService;
+
+    private final AsyncCache<Long, UserContextSnapshot> snapshots;
+
+    public UserContextService(
+            UserRepository userRepository,
+            GoalRepository goalRepository,
+            ExpenseRepository expenseRepository,
+            ExpenseDailySummaryRepository summaryRepository,
+            UserDataVersionService dataVersionService,
+            @Value("${finz.coach.context-cache.ttl:10m}") Duration ttl,
+            @Value("${finz.coach.context-cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry) {
+
+        this.userRepository = userRepository;
+        this.goalRepository = goalRepository;
+        this.expenseRepository = expenseRepository;
+        this.summaryRepository = summaryRepository;
+        this.dataVersionService = dataVersionService;
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "coach.context");
+    }
+
+    public UserContextSnapshot getSnapshot(Long userId) {
+        long currentVersion = dataVersionService.currentVersion(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        UserContextSnapshot snapshot = getOrLoad(userId);
+
+        // 날짜가 바뀌면 "최근 1개월"/"이번 달" 기준이 달라지므로 다시 로드
+        // 스냅샷보다 최신 버전이 커밋됐으면 캐시된 값이 이전 데이터이므로 다시 로드
+        if (!snapshot.getBaseDate().equals(LocalDate.now()) || snapshot.getDataVersion() < currentVersion) {
+            invalidate(userId);
+            snapshot = getOrLoad(userId);
+        }
+        return snapshot;
+    }
+
+    public void invalidate(Long userId) {
+        snapshots.synchronous().invalidate(userId);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        invalidate(event.getUserId());
+    }
+
+    // 같은 사용자를 동시에 요청하면 한 번만 로드 (나머지는 같은 future 를 기다림, 실패한 future 는 캐시에서 자동 제거)
+    private UserContextSnapshot getOrLoad(Long userId) {
+        CompletableFuture<UserContextSnapshot> loading = new CompletableFuture<>();
+        CompletableFuture<UserContextSnapshot> future = snapshots.get(userId, (key, executor) -> loading);
+
+        if (future == loading) {
+            try {
+                loading.complete(load(userId));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private UserContextSnapshot load(Long userId) {
+        log.debug("[User: {}] 컨텍스트 스냅샷 로드", userId);
+
+        LocalDate today = LocalDate.now();
+        LocalDate oneMonthAgo = today.minusMonths(1);
+        LocalDate startOfMonth = today.withDayOfMonth(1);
+
+        // 버전은 집계보다 먼저 읽음 (사이에 커밋되면 데이터가 버전보다 새로울 뿐, 오래된 데이터가 새 버전으로 남지 않음)
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        List<ActiveGoal> activeGoals = goalRepository.findByUserIdAndStatus(userId, GoalStatus.ACTIVE).stream()
+                .map(ActiveGoal::from)
+                .toList();
+
+        List<ExpensePattern> recentPatterns = summaryRepository.findRecentPatternsByUserId(userId, oneMonthAgo);
+
+        Integer monthToDateTotal = summaryRepository.findTotalAmountByUserIdAndDateAfter(userId, startOfMonth);
+
+        Map<String, TagExpenseSummary> tagSummaries = expenseRepository
+                .findTagSummariesByUserIdAfter(userId, startOfMonth).stream()
+                .collect(Collectors.toUnmodifiableMap(ExpenseTagSummary::getTag, Function.identity()));
+
+        return UserContextSnapshot.builder()
+                .baseDate(today)
+                .dataVersion(user.getDataVersion())
+                .user(UserProfile.from(user))
+                .activeGoals(activeGoals)
+                .recentPatterns(List.copyOf(recentPatterns))
+                .monthStart(startOfMonth)
+                .monthToDateTotal(monthToDateTotal)
+                .tagSummaries(tagSummaries)
+                .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.finz.service;
+
+import com.finz.domain.expense.ExpensePattern;
+import com.finz.domain.expense.TagExpenseSummary;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+// 코치 프롬프트 생성에 필요한 사용자 재무 컨텍스트 스냅샷 (읽기 전용, baseDate 기준)
+// - 캐시에 담겨 여러 요청이 공유하므로 엔티티 없이 불변 값만 보관
+@Getter
+@Builder
+public class UserContextSnapshot {
+    private final LocalDate baseDate;                        // 스냅샷 기준일 (날짜가 바뀌면 다시 로드)
+    private final long dataVersion;                          // 로드 시작 시점의 사용자 데이터 버전 (user.data_version)
+    private final UserProfile user;                          // 사용자 프로필
+    private final List<ActiveGoal> activeGoals;              // 진행 중인 목표
+    private final List<ExpensePattern> recentPatterns;       // 최근 1개월 카테고리별 지출 패턴 (금액 내림차순)
+    private final LocalDate monthStart;                      // 이번 달 시작일
+    private final Integer monthToDateTotal;                  // 이번 달 총 지출액
+    private final Map<String, TagExpenseSummary> tagSummaries; // 이번 달 태그별 지출 요약
+
+    public boolean isCurrentMonth(LocalDate date) {
+        return monthStart.equals(date.withDayOfMonth(1));
+    }
+}
@@ -0,0 +1,35 @@
+package com.finz.service;
+
+import com.finz.domain.user.UserDataChangedEvent;
+import com.finz.domain.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+// 사용자 데이터 버전 (user.data_version) - 홈 화면 조건부 조회(ETag)의 기준
+// - 지출/목표 쓰기 트랜잭션이 UserDataChangedEvent 를 발행하면 커밋 직전 같은 트랜잭션에서 1 증가
+//   (데이터와 버전이 함께 커밋/롤백되므로 버전이 같으면 데이터도 같음, 인스턴스가 여러 대여도 DB 기준으로 일치)
+// - 예산 등 사용자 정보를 바꾸는 쓰기 경로도 UserDataChangedEvent 를 발행해야 함
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDataVersionService {
+
+    private final UserRepository userRepository;
+
+    // 현재 버전 (PK 로 한 컬럼만 조회, 없는 사용자면 empty)
+    @Transactional(readOnly = true)
+    public Optional<Long> currentVersion(Long userId) {
+        return userRepository.findDataVersionById(userId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserDataChanged(UserDataChangedEvent event) {
+        userRepository.incrementDataVersion(event.getUserId());
+    }
+}
@@ -0,0 +1,24 @@
+package com.finz.service;
+
+import com.finz.domain.user.AgeGroup;
+import com.finz.domain.user.Job;
+import com.finz.domain.user.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 코치 프롬프트에 쓰는 사용자 프로필 (UserContextSnapshot 에 담는 불변 값)
+// - 스냅샷은 여러 요청/스레드가 영속성 컨텍스트 밖에서 공유하므로 User 엔티티 대신 필요한 값만 복사
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserProfile {
+    private final Long userId;
+    private final String nickname;
+    private final AgeGroup ageGroup;
+    private final Job job;
+    private final Integer monthlyBudget;
+
+    public static UserProfile from(User user) {
+        return new UserProfile(user.getId(), user.getNickname(), user.getAgeGroup(), user.getJob(), user.getMonthlyBudget());
+    }
+}
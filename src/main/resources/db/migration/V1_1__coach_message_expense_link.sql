@@ -0,0 +1,4 @@
+-- 지출 기록 피드백(EXPENSE_RECORD) 메시지가 가리키는 지출 (GET /api/coach/expense-feedback/{expenseId})
+ALTER TABLE coach_message
+    ADD COLUMN expense_id BIGINT NULL AFTER content,
+    ADD INDEX idx_expense (expense_id);
@@ -0,0 +1,12 @@
+-- 사용자별 일/카테고리 지출 집계 (지출 등록/수정/삭제와 같은 트랜잭션에서 갱신)
+-- 기존 지출 이관은 V3
+CREATE TABLE expense_daily_summary (
+    summary_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT       NOT NULL,
+    expense_date   DATE         NOT NULL,
+    category       ENUM ('FOOD','CAFE','SHOPPING','TRANSPORTATION','LIVING','CULTURE','ETC') NOT NULL,
+    total_amount   BIGINT       NOT NULL,
+    expense_count  BIGINT       NOT NULL,
+    PRIMARY KEY (summary_id),
+    CONSTRAINT uk_summary_user_date_category UNIQUE (user_id, expense_date, category)
+) ENGINE = InnoDB;
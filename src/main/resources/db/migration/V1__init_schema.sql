@@ -0,0 +1,55 @@
+-- 초기 스키마 (Flyway 도입 이전 ddl-auto: update 로 생성되던 테이블 그대로)
+-- 기존 DB는 baseline-version: 1 로 이 스크립트를 건너뛰고 V1_1 부터 적용, 빈 DB만 이 스크립트로 생성
+
+CREATE TABLE `user` (
+    user_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    nickname       VARCHAR(16)  NOT NULL,
+    age_group      ENUM ('TEENS','TWENTIES','THIRTIES','FORTIES') NOT NULL,
+    job            ENUM ('STUDENT','OFFICE_WORKER','FREELANCER','ETC') NOT NULL,
+    monthly_budget INT          NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE expense (
+    expense_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT       NOT NULL,
+    expense_name   VARCHAR(20)  NOT NULL,
+    amount         INT          NOT NULL,
+    category       ENUM ('FOOD','CAFE','SHOPPING','TRANSPORTATION','LIVING','CULTURE','ETC') NOT NULL,
+    expense_tag    VARCHAR(20)  NOT NULL,
+    memo           VARCHAR(50),
+    payment_method ENUM ('CARD','CASH','BANK_TRANSFER') NOT NULL,
+    expense_date   DATE         NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (expense_id),
+    CONSTRAINT fk_expense_user FOREIGN KEY (user_id) REFERENCES `user` (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE goal (
+    goal_id        BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT       NOT NULL,
+    goal_type      VARCHAR(50)  NOT NULL,
+    target_amount  INT          NOT NULL,
+    current_amount INT          NOT NULL,
+    start_date     DATE         NOT NULL,
+    end_date       DATE         NOT NULL,
+    method         VARCHAR(100),
+    status         ENUM ('ACTIVE','COMPLETED','DELETED') NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    updated_at     DATETIME(6),
+    PRIMARY KEY (goal_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE coach_message (
+    message_id     BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT       NOT NULL,
+    sender         ENUM ('USER','AI') NOT NULL,
+    message_type   ENUM ('GOAL_SETTING','EXPENSE_CONSULT','FREE_CHAT','EXPENSE_RECORD') NOT NULL,
+    content        TEXT         NOT NULL,
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (message_id),
+    INDEX idx_user_created (user_id, created_at)
+) ENGINE = InnoDB;
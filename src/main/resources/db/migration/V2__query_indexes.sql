@@ -0,0 +1,17 @@
+-- 리포지토리 쿼리별 복합(커버링) 인덱스
+-- 각 리포지토리 메서드의 @IndexedBy 와 이름이 일치해야 함 (gradle verifyQueryIndexes)
+
+-- expense: 태그 기준 조회 (findTagSummaryByUserIdAndTagAfter, findCountByTagAndDateRange, findExpenseDatesByTagAndDateRange)
+CREATE INDEX idx_expense_user_tag_date ON expense (user_id, expense_tag, expense_date, amount);
+
+-- expense: 날짜 기준 조회 (findByUserAndExpenseDate, findTagSummariesByUserIdAfter)
+CREATE INDEX idx_expense_user_date_tag ON expense (user_id, expense_date, expense_tag, amount);
+
+-- expense_daily_summary: 사용자 + 기간 집계 (패턴 / 월 합계 / 일 합계 / 달력 / 대시보드)
+CREATE INDEX idx_summary_user_date_cover ON expense_daily_summary (user_id, expense_date, category, total_amount, expense_count);
+
+-- expense_daily_summary: 사용자 + 카테고리 + 기간 (findTotalAmountByCategoryAndDateRange)
+CREATE INDEX idx_summary_user_category_date ON expense_daily_summary (user_id, category, expense_date, total_amount);
+
+-- goal: 사용자별 상태 조회 (findByUserIdAndStatus)
+CREATE INDEX idx_goal_user_status ON goal (user_id, status);
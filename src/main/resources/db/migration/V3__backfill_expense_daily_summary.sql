@@ -0,0 +1,6 @@
+-- 집계 테이블 도입 이전의 지출 데이터 이관 (집계 테이블이 비어 있을 때만)
+INSERT INTO expense_daily_summary (user_id, expense_date, category, total_amount, expense_count)
+SELECT e.user_id, e.expense_date, e.category, SUM(e.amount), COUNT(*)
+FROM expense e
+WHERE NOT EXISTS (SELECT 1 FROM expense_daily_summary)
+GROUP BY e.user_id, e.expense_date, e.category;
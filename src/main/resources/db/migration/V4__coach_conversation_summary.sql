@@ -0,0 +1,13 @@
+-- 사용자별 누적 대화 요약 (오래된 대화를 접어 넣은 결과)
+-- last_message_id 이하의 메시지는 요약에 반영되어 Gemini 요청에 원문으로 보내지 않음
+CREATE TABLE IF NOT EXISTS coach_conversation_summary (
+    summary_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    content         TEXT         NOT NULL,
+    last_message_id BIGINT       NOT NULL,
+    token_estimate  INT          NOT NULL,
+    version         BIGINT       NOT NULL,
+    updated_at      DATETIME(6)  NOT NULL,
+    PRIMARY KEY (summary_id),
+    CONSTRAINT uk_conversation_summary_user UNIQUE (user_id)
+) ENGINE = InnoDB;
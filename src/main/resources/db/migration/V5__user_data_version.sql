@@ -0,0 +1,4 @@
+-- 사용자 데이터 버전 (지출/목표/예산이 바뀔 때마다 같은 트랜잭션에서 1 증가)
+-- 홈 화면 API 의 ETag 계산에 사용 - 버전이 같으면 집계 쿼리 없이 304
+ALTER TABLE `user`
+    ADD COLUMN data_version BIGINT NOT NULL DEFAULT 0;
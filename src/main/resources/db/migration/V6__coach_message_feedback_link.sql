@@ -0,0 +1,4 @@
+-- 지출 기록 메시지의 AI 피드백이 연결된 지출 (연속 기록 묶음은 묶음의 마지막 지출)
+-- 묶음 앞쪽 지출의 피드백 폴링이 시각 추정 없이 같은 묶음의 피드백만 찾도록 사용
+ALTER TABLE coach_message
+    ADD COLUMN feedback_expense_id BIGINT NULL AFTER expense_id;
@@ -0,0 +1,4 @@
+-- 지출 기록 AI 피드백이 만들어지지 않고 끝난 상태 (FAILED / SKIPPED, null 이면 생성 대기 중 또는 생성됨)
+-- GET /api/coach/expense-feedback/{expenseId} 가 202 대신 종료 응답을 돌려주도록 사용
+ALTER TABLE expense
+    ADD COLUMN feedback_status ENUM ('FAILED','SKIPPED') NULL;
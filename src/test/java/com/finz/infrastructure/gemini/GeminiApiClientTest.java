@@ -0,0 +1,109 @@
+package com.finz.infrastructure.gemini;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.finz.config.GeminiFairShareProperties;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.ExpectedCount.times;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.jsonPath;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class GeminiApiClientTest {
+
+    private static final String API_URL = "https://gemini.test/v1beta/models/stub:generateContent";
+    private static final String CACHED_CONTENTS_URL = "https://gemini.test/v1beta/cachedContents";
+    private static final SystemPrompt PROMPT = SystemPrompt.of("너는 사용자의 소비 습관을 돕는 AI 코치야.", "사용자 이름: 김핀즈");
+    private static final String REPLY = "이번 달 식비를 조금 줄여볼까요?";
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GeminiApiClient client = client();
+
+    @Test
+    @DisplayName("캐시 핸들이 만료되어 404 가 오면 핸들을 버리고 systemInstruction 으로 다시 보낸다")
+    void resendsWithSystemInstructionOnCachedContentMiss() {
+        server.expect(once(), requestTo(startsWith(CACHED_CONTENTS_URL)))
+                .andExpect(method(HttpMethod.POST))
+                .andExpect(jsonPath("$.systemInstruction.parts[0].text").value(PROMPT.getPersona()))
+                .andRespond(withSuccess("{\"name\":\"cachedContents/abc\",\"expireTime\":\"" + Instant.now().plus(Duration.ofHours(1)) + "\"}",
+                        MediaType.APPLICATION_JSON));
+        server.expect(once(), requestTo(startsWith(API_URL)))
+                .andExpect(jsonPath("$.cachedContent").value("cachedContents/abc"))
+                .andExpect(jsonPath("$.systemInstruction").doesNotExist())
+                .andExpect(jsonPath("$.contents[0].parts[0].text").value(PROMPT.getContext()))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":{\"code\":404,\"message\":\"CachedContent not found\",\"status\":\"NOT_FOUND\"}}"));
+        server.expect(once(), requestTo(startsWith(API_URL)))
+                .andExpect(jsonPath("$.cachedContent").doesNotExist())
+                .andExpect(jsonPath("$.systemInstruction.parts[0].text").value(PROMPT.text()))
+                .andRespond(withSuccess(reply(), MediaType.APPLICATION_JSON));
+
+        String response = client.chat(1L, GeminiPriority.INTERACTIVE, PROMPT, List.of(), "이번 달 지출 어때?");
+
+        assertThat(response).isEqualTo(REPLY);
+        server.verify();
+        assertThat(meterRegistry.get("gemini.context.cache").tag("result", "evict").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("페르소나가 모델 최소 캐시 크기보다 작다고 거절되면 캐시 생성을 다시 시도하지 않는다")
+    void stopsCreatingCacheBelowModelMinimum() {
+        server.expect(once(), requestTo(startsWith(CACHED_CONTENTS_URL)))
+                .andRespond(withStatus(HttpStatus.BAD_REQUEST)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":{\"code\":400,\"message\":\"Cached content is too small. total_token_count=30, "
+                                + "min_total_token_count=1024\",\"status\":\"INVALID_ARGUMENT\"}}"));
+        server.expect(times(2), requestTo(startsWith(API_URL)))
+                .andExpect(jsonPath("$.cachedContent").doesNotExist())
+                .andExpect(jsonPath("$.systemInstruction.parts[0].text").value(PROMPT.text()))
+                .andRespond(withSuccess(reply(), MediaType.APPLICATION_JSON));
+
+        client.chat(1L, GeminiPriority.INTERACTIVE, PROMPT, List.of(), "첫 번째 질문");
+        client.chat(1L, GeminiPriority.INTERACTIVE, PROMPT, List.of(), "두 번째 질문");
+
+        server.verify();
+    }
+
+    private GeminiApiClient client() {
+        GeminiContextCache contextCache = new GeminiContextCache(restTemplate, meterRegistry, "test-key", API_URL,
+                true, Duration.ofHours(1), Duration.ofMinutes(5), Duration.ofMinutes(30), 0);
+        GeminiFairScheduler fairScheduler = new GeminiFairScheduler(meterRegistry, new GeminiFairShareProperties(), 4);
+
+        GeminiApiClient client = new GeminiApiClient(restTemplate, new ObjectMapper(), CircuitBreaker.ofDefaults("gemini"),
+                Bulkhead.ofDefaults("gemini"), contextCache, new GeminiMetrics(meterRegistry), fairScheduler);
+        ReflectionTestUtils.setField(client, "apiKey", "test-key");
+        ReflectionTestUtils.setField(client, "apiUrl", API_URL);
+        ReflectionTestUtils.setField(client, "maxAttempts", 3);
+        ReflectionTestUtils.setField(client, "initialBackoff", Duration.ofMillis(10));
+        ReflectionTestUtils.setField(client, "maxBackoff", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(client, "maxTotalWait", Duration.ofSeconds(1));
+        return client;
+    }
+
+    private static String reply() {
+        return "{\"candidates\":[{\"content\":{\"role\":\"model\",\"parts\":[{\"text\":\"" + REPLY + "\"}]}}]}";
+    }
+}
@@ -0,0 +1,155 @@
+package com.finz.infrastructure.gemini;
+
+import com.finz.config.GeminiFairShareProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiFairSchedulerTest {
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("같은 사용자의 백그라운드 허가는 대화 요청의 사용자별 한도에 포함되지 않는다")
+    void backgroundPermitsDoNotCountAgainstInteractiveCap() {
+        GeminiFairScheduler scheduler = scheduler(10, 1, lanes());
+
+        GeminiFairScheduler.Permit feedback = scheduler.acquire(1L, GeminiPriority.FEEDBACK);
+        GeminiFairScheduler.Permit batch = scheduler.acquire(1L, GeminiPriority.BATCH);
+
+        CompletableFuture<GeminiFairScheduler.Permit> interactive = acquireAsync(scheduler, 1L, GeminiPriority.INTERACTIVE);
+        assertThat(interactive).isDone();
+
+        interactive.join().release();
+        feedback.release();
+        batch.release();
+    }
+
+    @Test
+    @DisplayName("같은 우선순위 안에서는 사용자별 한도를 넘으면 다른 사용자가 먼저 허가를 받는다")
+    void perUserCapWithinLane() {
+        GeminiFairScheduler scheduler = scheduler(10, 2, lanes());
+
+        GeminiFairScheduler.Permit first = scheduler.acquire(1L, GeminiPriority.INTERACTIVE);
+        GeminiFairScheduler.Permit second = scheduler.acquire(1L, GeminiPriority.INTERACTIVE);
+        CompletableFuture<GeminiFairScheduler.Permit> third = acquireAsync(scheduler, 1L, GeminiPriority.INTERACTIVE);
+        CompletableFuture<GeminiFairScheduler.Permit> otherUser = acquireAsync(scheduler, 2L, GeminiPriority.INTERACTIVE);
+
+        assertThat(third).isNotDone();
+        assertThat(otherUser).isDone();
+
+        first.release();
+        assertThat(third).isDone();
+
+        second.release();
+        third.join().release();
+        otherUser.join().release();
+    }
+
+    @Test
+    @DisplayName("우선순위는 max-share 를 넘는 허가를 쥘 수 없다")
+    void laneMaxShare() {
+        GeminiFairScheduler scheduler = scheduler(4, 10, lanes());
+
+        // batch max-share 0.25 -> 허가 4개 중 1개
+        GeminiFairScheduler.Permit batch = scheduler.acquire(1L, GeminiPriority.BATCH);
+        CompletableFuture<GeminiFairScheduler.Permit> secondBatch = acquireAsync(scheduler, 2L, GeminiPriority.BATCH);
+        CompletableFuture<GeminiFairScheduler.Permit> interactive = acquireAsync(scheduler, 3L, GeminiPriority.INTERACTIVE);
+
+        assertThat(secondBatch).isNotDone();
+        assertThat(interactive).isDone();
+
+        batch.release();
+        assertThat(secondBatch).isDone();
+
+        secondBatch.join().release();
+        interactive.join().release();
+    }
+
+    @Test
+    @DisplayName("허가가 반납되면 우선순위 weight 비율대로 배분된다")
+    void weightedRoundRobinBetweenLanes() {
+        GeminiFairScheduler scheduler = scheduler(1, 10, lanes());
+        GeminiFairScheduler.Permit current = scheduler.acquire(0L, GeminiPriority.INTERACTIVE);
+
+        Map<CompletableFuture<GeminiFairScheduler.Permit>, GeminiPriority> pending = new LinkedHashMap<>();
+        for (long userId = 1; userId <= 6; userId++) {
+            pending.put(acquireAsync(scheduler, userId, GeminiPriority.INTERACTIVE), GeminiPriority.INTERACTIVE);
+            pending.put(acquireAsync(scheduler, 100 + userId, GeminiPriority.CONSULT), GeminiPriority.CONSULT);
+        }
+
+        // 허가 1개를 넘겨 받는 순서 - interactive(weight 2) : consult(weight 1)
+        List<GeminiPriority> order = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            current.release();
+            CompletableFuture<GeminiFairScheduler.Permit> granted = pending.keySet().stream()
+                    .filter(CompletableFuture::isDone)
+                    .findFirst()
+                    .orElseThrow();
+            order.add(pending.remove(granted));
+            current = granted.join();
+        }
+        current.release();
+
+        assertThat(order).containsExactly(
+                GeminiPriority.INTERACTIVE, GeminiPriority.CONSULT, GeminiPriority.INTERACTIVE,
+                GeminiPriority.INTERACTIVE, GeminiPriority.CONSULT, GeminiPriority.INTERACTIVE);
+    }
+
+    @Test
+    @DisplayName("aging-after 넘게 기다린 하위 우선순위는 weight 와 무관하게 먼저 배분된다")
+    void agingPromotesStarvedLane() throws InterruptedException {
+        GeminiFairShareProperties.Lane aging = new GeminiFairShareProperties.Lane(1, 1.0, MAX_WAIT, Duration.ofMillis(20));
+        GeminiFairShareProperties properties = properties(1, lanes());
+        properties.getPriorities().put(GeminiPriority.BATCH, aging);
+        GeminiFairScheduler scheduler = new GeminiFairScheduler(new SimpleMeterRegistry(), properties, 1);
+
+        GeminiFairScheduler.Permit holder = scheduler.acquire(0L, GeminiPriority.INTERACTIVE);
+        CompletableFuture<GeminiFairScheduler.Permit> batch = acquireAsync(scheduler, 1L, GeminiPriority.BATCH);
+        Thread.sleep(50);
+        CompletableFuture<GeminiFairScheduler.Permit> interactive = acquireAsync(scheduler, 2L, GeminiPriority.INTERACTIVE);
+
+        holder.release();
+
+        assertThat(batch).isDone();
+        assertThat(interactive).isNotDone();
+
+        batch.join().release();
+        interactive.join().release();
+    }
+
+    private static CompletableFuture<GeminiFairScheduler.Permit> acquireAsync(GeminiFairScheduler scheduler,
+                                                                              Long userId, GeminiPriority priority) {
+        return scheduler.acquireAsync(userId, priority).toFuture();
+    }
+
+    private static GeminiFairScheduler scheduler(int permits, int perUserLimit, Map<GeminiPriority, GeminiFairShareProperties.Lane> lanes) {
+        return new GeminiFairScheduler(new SimpleMeterRegistry(), properties(perUserLimit, lanes), permits);
+    }
+
+    private static GeminiFairShareProperties properties(int perUserLimit, Map<GeminiPriority, GeminiFairShareProperties.Lane> lanes) {
+        GeminiFairShareProperties properties = new GeminiFairShareProperties();
+        properties.setPerUserMaxConcurrent(perUserLimit);
+        properties.getPriorities().putAll(lanes);
+        return properties;
+    }
+
+    private static Map<GeminiPriority, GeminiFairShareProperties.Lane> lanes() {
+        Map<GeminiPriority, GeminiFairShareProperties.Lane> lanes = new EnumMap<>(GeminiPriority.class);
+        lanes.put(GeminiPriority.INTERACTIVE, new GeminiFairShareProperties.Lane(2, 1.0, MAX_WAIT, Duration.ZERO));
+        lanes.put(GeminiPriority.CONSULT, new GeminiFairShareProperties.Lane(1, 1.0, MAX_WAIT, Duration.ZERO));
+        lanes.put(GeminiPriority.FEEDBACK, new GeminiFairShareProperties.Lane(1, 0.5, MAX_WAIT, Duration.ZERO));
+        lanes.put(GeminiPriority.BATCH, new GeminiFairShareProperties.Lane(1, 0.25, MAX_WAIT, Duration.ZERO));
+        return lanes;
+    }
+}
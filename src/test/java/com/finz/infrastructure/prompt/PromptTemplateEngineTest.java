@@ -0,0 +1,83 @@
+package com.finz.infrastructure.prompt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PromptTemplateEngineTest {
+
+    @Test
+    @DisplayName("classpath 의 템플릿과 조각은 모두 시작 시 파싱된다")
+    void parsesBundledTemplates() {
+        PromptTemplateEngine engine = new PromptTemplateEngine();
+
+        assertThat(engine.render("conversation-context", Map.of("context", "사용자 정보", "summary", "이전 대화 요약")))
+                .contains("사용자 정보", "이전 대화 요약");
+    }
+
+    @Test
+    @DisplayName("조각 태그만 있는 줄은 조각 내용으로 바뀌고, 조각 안의 조각도 펼쳐진다")
+    void expandsNestedFragments() throws IOException {
+        PromptTemplateEngine engine = new PromptTemplateEngine(resolver(
+                Map.of("profile", "이름: {{nickname}}\n{{>budget}}", "budget", "예산: {{budget:n}}원\n"),
+                Map.of("chat", "[사용자]\n{{>profile}}\n끝 ({{> budget}})")));
+
+        assertThat(engine.render("chat", Map.of("nickname", "김핀즈", "budget", 500_000)))
+                .isEqualTo("[사용자]\n이름: 김핀즈\n예산: 500,000원\n끝 (예산: 500,000원\n)");
+    }
+
+    @Test
+    @DisplayName("서로를 포함하는 조각은 깊이 제한으로 시작 시점에 실패한다")
+    void rejectsCyclicFragments() throws IOException {
+        ResourcePatternResolver resolver = resolver(
+                Map.of("a", "{{>b}}", "b", "{{>a}}"),
+                Map.of("chat", "{{>a}}"));
+
+        assertThatThrownBy(() -> new PromptTemplateEngine(resolver)).hasMessageContaining("조각 포함 깊이 초과");
+    }
+
+    @Test
+    @DisplayName("없는 조각을 포함하면 시작 시점에 실패한다")
+    void rejectsMissingFragment() throws IOException {
+        ResourcePatternResolver resolver = resolver(Map.of(), Map.of("chat", "{{>missing}}"));
+
+        assertThatThrownBy(() -> new PromptTemplateEngine(resolver)).hasMessageContaining("fragment: missing");
+    }
+
+    @Test
+    @DisplayName("없는 템플릿을 렌더링하면 IllegalArgumentException")
+    void rejectsUnknownTemplate() throws IOException {
+        PromptTemplateEngine engine = new PromptTemplateEngine(resolver(Map.of(), Map.of("chat", "안녕")));
+
+        assertThatThrownBy(() -> engine.render("unknown", Map.of())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ResourcePatternResolver resolver(Map<String, String> fragments, Map<String, String> templates) throws IOException {
+        ResourcePatternResolver resolver = mock(ResourcePatternResolver.class);
+        when(resolver.getResources("classpath:prompts/fragments/*.txt")).thenReturn(resources(fragments));
+        when(resolver.getResources("classpath:prompts/*.txt")).thenReturn(resources(templates));
+        return resolver;
+    }
+
+    private static Resource[] resources(Map<String, String> sources) {
+        return sources.entrySet().stream()
+                .map(source -> new ByteArrayResource(source.getValue().getBytes(StandardCharsets.UTF_8)) {
+                    @Override
+                    public String getFilename() {
+                        return source.getKey() + ".txt";
+                    }
+                })
+                .toArray(Resource[]::new);
+    }
+}
@@ -0,0 +1,84 @@
+package com.finz.infrastructure.prompt;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PromptTemplateTest {
+
+    @Test
+    @DisplayName("값과 천 단위 구분 숫자를 출력한다")
+    void rendersVariables() {
+        PromptTemplate template = PromptTemplate.parse("t", "{{nickname}}님, 예산 {{budget:n}}원 / {{budget}}");
+
+        assertThat(render(template, Map.of("nickname", "김핀즈", "budget", 1_234_567)))
+                .isEqualTo("김핀즈님, 예산 1,234,567원 / 1234567");
+    }
+
+    @Test
+    @DisplayName("목록 섹션은 항목마다 반복하고 @index 와 바깥 스코프 값을 쓸 수 있다")
+    void repeatsListSection() {
+        PromptTemplate template = PromptTemplate.parse("t", """
+                {{#goals}}
+                {{@index}}. {{goalType}} ({{nickname}})
+                {{/goals}}
+                끝""");
+
+        String rendered = render(template, Map.of(
+                "nickname", "김핀즈",
+                "goals", List.of(Map.of("goalType", "여행"), Map.of("goalType", "비상금"))));
+
+        assertThat(rendered).isEqualTo("1. 여행 (김핀즈)\n2. 비상금 (김핀즈)\n끝");
+    }
+
+    @Test
+    @DisplayName("반전 섹션은 값이 없거나 빈 목록일 때만 출력하고, 섹션 태그만 있는 줄은 남기지 않는다")
+    void rendersInvertedSection() {
+        PromptTemplate template = PromptTemplate.parse("t", """
+                목표:
+                {{^goals}}
+                없음
+                {{/goals}}
+                {{#goals}}
+                - {{goalType}}
+                {{/goals}}
+                """);
+
+        assertThat(render(template, Map.of("goals", List.of()))).isEqualTo("목표:\n없음\n");
+        assertThat(render(template, Map.of("goals", List.of(Map.of("goalType", "여행"))))).isEqualTo("목표:\n- 여행\n");
+    }
+
+    @Test
+    @DisplayName("null 이나 false 값의 섹션은 건너뛰고, 값이 있으면 한 번 출력한다")
+    void rendersConditionalSection() {
+        PromptTemplate template = PromptTemplate.parse("t", "{{#summary}}요약: {{summary}}{{/summary}}");
+        Map<String, Object> empty = new HashMap<>();
+        empty.put("summary", null);
+
+        assertThat(render(template, empty)).isEmpty();
+        assertThat(render(template, Map.of("summary", false))).isEmpty();
+        assertThat(render(template, Map.of("summary", "식비가 많아요"))).isEqualTo("요약: 식비가 많아요");
+    }
+
+    @Test
+    @DisplayName("짝이 맞지 않거나 닫히지 않은 섹션/태그는 파싱 시점에 실패한다")
+    void rejectsMalformedTemplates() {
+        assertThatThrownBy(() -> PromptTemplate.parse("t", "{{#a}}{{/b}}")).hasMessageContaining("섹션 짝이 맞지 않음");
+        assertThatThrownBy(() -> PromptTemplate.parse("t", "{{#a}}내용")).hasMessageContaining("닫히지 않은 섹션");
+        assertThatThrownBy(() -> PromptTemplate.parse("t", "{{name")).hasMessageContaining("닫히지 않은 태그");
+        assertThatThrownBy(() -> PromptTemplate.parse("t", "{{ }}")).hasMessageContaining("빈 태그");
+        assertThatThrownBy(() -> PromptTemplate.parse("t", "{{>user-profile}}")).hasMessageContaining("펼쳐지지 않은 조각");
+    }
+
+    private static String render(PromptTemplate template, Map<String, ?> model) {
+        StringBuilder out = new StringBuilder();
+        template.render(out, model);
+        return out.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package com.finz.service;
+
+import com.finz.exception.BaseException;
+import com.finz.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoachHistoryCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 (created_at, message_id) 가 나온다")
+    void roundTrip() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 1, 12, 30, 15, 123_456_000);
+
+        CoachHistoryCursor decoded = CoachHistoryCursor.decode(new CoachHistoryCursor(createdAt, 42L).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getMessageId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("초 단위가 0 인 시각도 그대로 복원된다")
+    void roundTripWithoutSeconds() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+        CoachHistoryCursor decoded = CoachHistoryCursor.decode(new CoachHistoryCursor(createdAt, 7L).encode());
+
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+    }
+
+    @Test
+    @DisplayName("커서는 쿼리 파라미터에 그대로 넣을 수 있는 URL-safe 문자열이다")
+    void encodesUrlSafe() {
+        String cursor = new CoachHistoryCursor(LocalDateTime.of(2026, 10, 1, 23, 59, 59, 999_999_000), Long.MAX_VALUE).encode();
+
+        assertThat(cursor).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not+base64/", "bm8tZGVsaW1pdGVy", "MjAyNi0xMC0wMVQxMjowMF9hYmM"})
+    @DisplayName("형식이 잘못된 커서는 INVALID_INPUT_VALUE 로 거절된다")
+    void rejectsMalformedCursor(String cursor) {
+        assertThatThrownBy(() -> CoachHistoryCursor.decode(cursor))
+                .isInstanceOfSatisfying(BaseException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_INPUT_VALUE));
+    }
+
+    @Test
+    @DisplayName("시각 부분이 잘못된 커서도 거절된다")
+    void rejectsMalformedTimestamp() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("yesterday_10".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> CoachHistoryCursor.decode(cursor)).isInstanceOf(BaseException.class);
+    }
+}
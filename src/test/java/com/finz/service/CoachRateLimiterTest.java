@@ -0,0 +1,123 @@
+package com.finz.service;
+
+import com.finz.config.CoachRateLimitProperties;
+import com.finz.domain.coach.MessageType;
+import com.finz.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoachRateLimiterTest {
+
+    private final CoachRateLimitProperties properties = new CoachRateLimitProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("capacity 만큼 연속 요청을 허용하고 그 다음은 다음 토큰까지 남은 시간을 돌려준다")
+    void allowsBurstUpToCapacity() {
+        CoachRateLimiter limiter = limiter(new CoachRateLimitProperties.Limit(3, Duration.ofMinutes(1)));
+
+        assertThat(limiter.tryAcquire(1L, MessageType.FREE_CHAT)).isZero();
+        assertThat(limiter.tryAcquire(1L, MessageType.FREE_CHAT)).isZero();
+        assertThat(limiter.tryAcquire(1L, MessageType.FREE_CHAT)).isZero();
+
+        long waitNanos = limiter.tryAcquire(1L, MessageType.FREE_CHAT);
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(20).toNanos());
+        assertThat(meterRegistry.get("finz.coach.rate-limit.rejected").tag("type", "FREE_CHAT").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("돌려준 대기 시간이 지나면 토큰이 하나 다시 찬다")
+    void refillsAfterReturnedWait() throws InterruptedException {
+        CoachRateLimiter limiter = limiter(new CoachRateLimitProperties.Limit(2, Duration.ofMillis(200)));
+        limiter.tryAcquire(1L, MessageType.FREE_CHAT);
+        limiter.tryAcquire(1L, MessageType.FREE_CHAT);
+
+        long waitNanos = limiter.tryAcquire(1L, MessageType.FREE_CHAT);
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(Duration.ofMillis(100).toNanos());
+
+        TimeUnit.NANOSECONDS.sleep(waitNanos + Duration.ofMillis(5).toNanos());
+
+        assertThat(limiter.tryAcquire(1L, MessageType.FREE_CHAT)).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷은 사용자와 MessageType 별로 따로 있다")
+    void separatesBucketsPerUserAndType() {
+        CoachRateLimiter limiter = limiter(new CoachRateLimitProperties.Limit(1, Duration.ofMinutes(1)));
+
+        assertThat(limiter.tryAcquire(1L, MessageType.FREE_CHAT)).isZero();
+        assertThat(limiter.tryAcquire(1L, MessageType.FREE_CHAT)).isPositive();
+        assertThat(limiter.tryAcquire(2L, MessageType.FREE_CHAT)).isZero();
+        assertThat(limiter.tryAcquire(1L, MessageType.GOAL_SETTING)).isZero();
+    }
+
+    @Test
+    @DisplayName("한도를 넘으면 acquire 는 올림한 Retry-After 초를 담아 RateLimitExceededException 을 던진다")
+    void acquireThrowsWithRetryAfter() {
+        CoachRateLimiter limiter = limiter(new CoachRateLimitProperties.Limit(1, Duration.ofSeconds(10)));
+        limiter.acquire(1L, MessageType.EXPENSE_CONSULT);
+
+        assertThatThrownBy(() -> limiter.acquire(1L, MessageType.EXPENSE_CONSULT))
+                .isInstanceOfSatisfying(RateLimitExceededException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isBetween(9L, 10L));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 항상 허용한다")
+    void allowsEverythingWhenDisabled() {
+        CoachRateLimiter limiter = limiter(new CoachRateLimitProperties.Limit(1, Duration.ofMinutes(1)));
+        properties.setEnabled(false);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(1L, MessageType.FREE_CHAT)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 버킷을 동시에 써도 capacity 개만 허용된다")
+    void grantsExactlyCapacityUnderContention() throws Exception {
+        int capacity = 50;
+        CoachRateLimiter limiter = limiter(new CoachRateLimitProperties.Limit(capacity, Duration.ofHours(1)));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < capacity * 4; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return limiter.tryAcquire(1L, MessageType.FREE_CHAT) == 0;
+                }));
+            }
+            start.countDown();
+
+            int granted = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(5, TimeUnit.SECONDS)) {
+                    granted++;
+                }
+            }
+            assertThat(granted).isEqualTo(capacity);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CoachRateLimiter limiter(CoachRateLimitProperties.Limit limit) {
+        properties.setDefaults(limit);
+        return new CoachRateLimiter(properties, meterRegistry);
+    }
+}
@@ -0,0 +1,104 @@
+package com.finz.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CoachRequestDeduplicatorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoachRequestDeduplicator deduplicator =
+            new CoachRequestDeduplicator(Duration.ofSeconds(10), 100, meterRegistry);
+
+    @Test
+    @DisplayName("진행 중인 같은 요청은 한 번만 실행하고 결과를 공유한다")
+    void joinsInFlightRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+                deduplicator.execute(1L, "chat", "안녕", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(finish);
+                    return "응답";
+                }, result -> true));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+                deduplicator.execute(1L, "chat", "안녕", () -> {
+                    calls.incrementAndGet();
+                    return "다른 응답";
+                }, result -> true));
+        awaitJoined();
+        finish.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("응답");
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("응답");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("먼저 온 요청이 Error 로 끝나도 대기 중인 요청이 풀리고 다음 요청은 다시 실행된다")
+    void leaderErrorReleasesFollowers() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+                deduplicator.execute(1L, "chat", "안녕", () -> {
+                    started.countDown();
+                    await(finish);
+                    throw new AssertionError("leader failed");
+                }, result -> true));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+                deduplicator.execute(1L, "chat", "안녕", () -> "다른 응답", result -> true));
+        awaitJoined();
+        finish.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(AssertionError.class);
+
+        assertThat(deduplicator.execute(1L, "chat", "안녕", () -> "재시도 응답", result -> true))
+                .isEqualTo("재시도 응답");
+    }
+
+    @Test
+    @DisplayName("재사용하면 안 되는 결과는 바로 제거되어 같은 요청이 다시 실행된다")
+    void nonReusableResultIsNotReplayed() {
+        AtomicInteger calls = new AtomicInteger();
+
+        deduplicator.execute(1L, "chat", "안녕", () -> "대체 응답 " + calls.incrementAndGet(), result -> false);
+        String second = deduplicator.execute(1L, "chat", "안녕", () -> "대체 응답 " + calls.incrementAndGet(), result -> false);
+
+        assertThat(second).isEqualTo("대체 응답 2");
+    }
+
+    // 뒤에 온 요청이 진행 중인 요청에 합류할 때까지 대기
+    private void awaitJoined() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("finz.coach.dedup").tag("result", "joined").counter().count() < 1) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
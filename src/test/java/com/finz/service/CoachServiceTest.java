@@ -0,0 +1,104 @@
+package com.finz.service;
+
+import com.finz.config.CoachRateLimitProperties;
+import com.finz.domain.coach.CoachMessageRepository;
+import com.finz.domain.coach.MessageType;
+import com.finz.dto.coach.CoachResponseDto;
+import com.finz.dto.coach.MessageRequest;
+import com.finz.exception.RateLimitExceededException;
+import com.finz.infrastructure.gemini.GeminiApiClient;
+import com.finz.infrastructure.gemini.ReactiveGeminiClient;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import com.finz.repository.ExpenseDailySummaryRepository;
+import com.finz.repository.ExpenseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CoachServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CoachMessageRepository messageRepository = mock(CoachMessageRepository.class);
+    private final UserContextService userContextService = mock(UserContextService.class);
+    private final ReactiveGeminiClient reactiveGeminiClient = mock(ReactiveGeminiClient.class);
+    private final CoachResponseCache responseCache = mock(CoachResponseCache.class);
+    private final CoachPromptBuilder promptBuilder = mock(CoachPromptBuilder.class);
+    private final CoachRateLimitProperties rateLimitProperties = new CoachRateLimitProperties();
+
+    @Test
+    @DisplayName("최근 결과를 공유받는 중복 요청은 사용자별 한도 토큰을 쓰지 않는다")
+    void replayedRequestDoesNotConsumeQuota() {
+        rateLimitProperties.setDefaults(new CoachRateLimitProperties.Limit(1, Duration.ofMinutes(1)));
+        CoachService coachService = coachService();
+        when(userContextService.getSnapshot(1L)).thenReturn(snapshot());
+        when(promptBuilder.buildGoalSettingPrompt(any(), anyList(), anyList())).thenReturn(SystemPrompt.of("페르소나", "컨텍스트"));
+        when(responseCache.get(eq(1L), eq("initial-message"), anyString(), any())).thenReturn("목표를 정해볼까요?");
+
+        CoachResponseDto first = coachService.startGoalSettingConversation(1L);
+        CoachResponseDto second = coachService.startGoalSettingConversation(1L);
+
+        assertThat(second.getMessage()).isEqualTo(first.getMessage());
+        verify(responseCache, times(1)).get(eq(1L), eq("initial-message"), anyString(), any());
+        assertThat(meterRegistry.get("finz.coach.rate-limit.rejected").tag("type", "GOAL_SETTING").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("실제로 실행하는 요청이 한도를 넘으면 실행하지 않고 RateLimitExceededException 으로 실패한다")
+    void leaderOverQuotaFailsWithoutRunning() {
+        rateLimitProperties.setDefaults(new CoachRateLimitProperties.Limit(0, Duration.ofMinutes(1)));
+        CoachService coachService = coachService();
+
+        CompletableFuture<CoachResponseDto> response = coachService.generateResponseAsync(1L, message("이번 달 어때?"));
+
+        assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(RateLimitExceededException.class);
+        assertThatThrownBy(() -> coachService.startGoalSettingConversation(1L)).isInstanceOf(RateLimitExceededException.class);
+        verify(messageRepository, never()).save(any());
+        verify(userContextService, never()).getSnapshot(anyLong());
+    }
+
+    private CoachService coachService() {
+        return new CoachService(messageRepository, mock(ExpenseRepository.class), mock(ExpenseDailySummaryRepository.class),
+                userContextService, mock(GeminiApiClient.class), reactiveGeminiClient, responseCache, promptBuilder,
+                mock(ConversationHistoryService.class),
+                new CoachRequestDeduplicator(Duration.ofSeconds(10), 100, meterRegistry),
+                new CoachRateLimiter(rateLimitProperties, meterRegistry),
+                meterRegistry, Schedulers.immediate(), Schedulers.immediate());
+    }
+
+    private static UserContextSnapshot snapshot() {
+        return UserContextSnapshot.builder()
+                .baseDate(LocalDate.now())
+                .activeGoals(List.of())
+                .recentPatterns(List.of())
+                .monthStart(LocalDate.now().withDayOfMonth(1))
+                .monthToDateTotal(0)
+                .tagSummaries(Map.of())
+                .build();
+    }
+
+    private static MessageRequest message(String content) {
+        return new MessageRequest(content, MessageType.FREE_CHAT);
+    }
+}
@@ -0,0 +1,151 @@
+package com.finz.service;
+
+import com.finz.domain.coach.CoachConversationSummary;
+import com.finz.domain.coach.CoachConversationSummaryRepository;
+import com.finz.domain.coach.CoachMessage;
+import com.finz.domain.coach.CoachMessageRepository;
+import com.finz.domain.coach.MessageSender;
+import com.finz.infrastructure.gemini.GeminiApiClient;
+import com.finz.infrastructure.gemini.GeminiPriority;
+import com.finz.infrastructure.gemini.TokenEstimator;
+import com.finz.infrastructure.prompt.PromptTemplateEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConversationCompactorTest {
+
+    private static final String TEN_CHARS = "가나다라마바사아자차";   // 추정 10토큰 + 오버헤드 4
+    private static final int MESSAGE_TOKENS = TokenEstimator.estimateMessage(TEN_CHARS);
+
+    private final CoachMessageRepository messageRepository = mock(CoachMessageRepository.class);
+    private final CoachConversationSummaryRepository summaryRepository = mock(CoachConversationSummaryRepository.class);
+    private final GeminiApiClient geminiClient = mock(GeminiApiClient.class);
+    private final List<Runnable> queued = new ArrayList<>();
+
+    @Test
+    @DisplayName("같은 사용자의 요약이 진행 중이면 다시 요청해도 한 번만 실행되고, 끝나면 다시 요청할 수 있다")
+    void runsOneCompactionPerUserAtATime() {
+        ConversationCompactor compactor = compactor(queued::add, MESSAGE_TOKENS, 200);
+
+        compactor.requestCompaction(1L);
+        compactor.requestCompaction(1L);
+        compactor.requestCompaction(2L);
+        assertThat(queued).hasSize(2);
+
+        queued.remove(0).run();
+        compactor.requestCompaction(1L);
+        assertThat(queued).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차 거절되면 진행 중 표시를 지워 다음 요청에서 다시 시도한다")
+    void releasesUserWhenQueueRejects() {
+        List<Runnable> accepted = new ArrayList<>();
+        boolean[] reject = {true};
+        ConversationCompactor compactor = compactor(task -> {
+            if (reject[0]) {
+                throw new TaskRejectedException("full");
+            }
+            accepted.add(task);
+        }, MESSAGE_TOKENS, 200);
+
+        compactor.requestCompaction(1L);
+        reject[0] = false;
+        compactor.requestCompaction(1L);
+
+        assertThat(accepted).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("최근 keep-recent-tokens 만큼은 원문으로 남기고 그 이전 대화만 요약으로 접는다")
+    void foldsOlderMessagesAndKeepsRecentOnes() {
+        ConversationCompactor compactor = compactor(queued::add, MESSAGE_TOKENS * 2, 200);
+        givenPending(message(11L), message(12L), message(13L), message(14L));
+        when(geminiClient.chat(eq(1L), eq(GeminiPriority.BATCH), any(), anyList(), any())).thenReturn(" 식비 줄이기로 함 ");
+
+        compactor.compact(1L);
+
+        ArgumentCaptor<CoachConversationSummary> saved = ArgumentCaptor.forClass(CoachConversationSummary.class);
+        verify(summaryRepository).save(saved.capture());
+        assertThat(saved.getValue().getLastMessageId()).isEqualTo(12L);
+        assertThat(saved.getValue().getContent()).isEqualTo("식비 줄이기로 함");
+    }
+
+    @Test
+    @DisplayName("조회 한도를 채웠으면 더 최근 대화가 남아 있으므로 조회한 대화를 모두 접는다")
+    void foldsEverythingWhenFoldLimitIsReached() {
+        ConversationCompactor compactor = compactor(queued::add, MESSAGE_TOKENS * 2, 3);
+        givenPending(message(11L), message(12L), message(13L));
+        when(geminiClient.chat(eq(1L), eq(GeminiPriority.BATCH), any(), anyList(), any())).thenReturn("요약");
+
+        compactor.compact(1L);
+
+        ArgumentCaptor<CoachConversationSummary> saved = ArgumentCaptor.forClass(CoachConversationSummary.class);
+        verify(summaryRepository).save(saved.capture());
+        assertThat(saved.getValue().getLastMessageId()).isEqualTo(13L);
+    }
+
+    @Test
+    @DisplayName("접을 대화가 없으면 Gemini 를 호출하지 않는다")
+    void skipsWhenEverythingFitsInKeptTokens() {
+        ConversationCompactor compactor = compactor(queued::add, MESSAGE_TOKENS * 2, 200);
+        givenPending(message(11L), message(12L));
+
+        compactor.compact(1L);
+
+        verify(geminiClient, never()).chat(anyLong(), any(), any(), anyList(), any());
+        verify(summaryRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("다른 요약이 먼저 저장되어 버전이 충돌하면 결과를 버리고 예외를 전파하지 않는다")
+    void discardsResultOnVersionConflict() {
+        ConversationCompactor compactor = compactor(queued::add, 0, 200);
+        when(summaryRepository.findByUserId(1L))
+                .thenReturn(Optional.of(CoachConversationSummary.of(1L, "이전 요약", 10L, 5)));
+        givenPending(message(11L));
+        when(geminiClient.chat(eq(1L), eq(GeminiPriority.BATCH), any(), anyList(), any())).thenReturn("새 요약");
+        when(summaryRepository.save(any()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(CoachConversationSummary.class, 1L));
+
+        assertThatCode(() -> compactor.compact(1L)).doesNotThrowAnyException();
+        verify(messageRepository).findByUserIdAndMessageIdGreaterThanOrderByCreatedAtAscMessageIdAsc(
+                eq(1L), eq(10L), any(Limit.class));
+    }
+
+    private ConversationCompactor compactor(TaskExecutor executor, int keepRecentTokens, int maxFoldMessages) {
+        return new ConversationCompactor(messageRepository, summaryRepository, geminiClient, new PromptTemplateEngine(),
+                executor, keepRecentTokens, maxFoldMessages, 800);
+    }
+
+    // 시간 오름차순 (repository 정렬 순서 그대로)
+    private void givenPending(CoachMessage... messages) {
+        when(messageRepository.findByUserIdAndMessageIdGreaterThanOrderByCreatedAtAscMessageIdAsc(eq(1L), anyLong(), any(Limit.class)))
+                .thenReturn(List.of(messages));
+    }
+
+    private static CoachMessage message(Long messageId) {
+        return CoachMessage.builder().messageId(messageId).userId(1L)
+                .sender(messageId % 2 == 0 ? MessageSender.AI : MessageSender.USER).content(TEN_CHARS).build();
+    }
+}
@@ -0,0 +1,131 @@
+package com.finz.service;
+
+import com.finz.domain.coach.CoachConversationSummary;
+import com.finz.domain.coach.CoachConversationSummaryRepository;
+import com.finz.domain.coach.CoachMessage;
+import com.finz.domain.coach.CoachMessageRepository;
+import com.finz.domain.coach.MessageSender;
+import com.finz.infrastructure.gemini.TokenEstimator;
+import com.finz.infrastructure.gemini.dto.GeminiMessage;
+import com.finz.infrastructure.gemini.dto.SystemPrompt;
+import com.finz.infrastructure.prompt.PromptTemplateEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConversationHistoryServiceTest {
+
+    private static final SystemPrompt PROMPT = SystemPrompt.of("너는 소비 코치야.", "사용자 이름: 김핀즈");
+    private static final String USER_MESSAGE = "이번 달 식비 어때?";
+    private static final String TEN_CHARS = "가나다라마바사아자차";   // 추정 10토큰 + 오버헤드 4
+    private static final int MESSAGE_TOKENS = TokenEstimator.estimateMessage(TEN_CHARS);
+
+    private static final PromptTemplateEngine TEMPLATE_ENGINE = new PromptTemplateEngine();
+
+    private final CoachMessageRepository messageRepository = mock(CoachMessageRepository.class);
+    private final CoachConversationSummaryRepository summaryRepository = mock(CoachConversationSummaryRepository.class);
+    private final ConversationCompactor compactor = mock(ConversationCompactor.class);
+
+    @Test
+    @DisplayName("토큰 상한 안에서 최신 메시지부터 채우고, 넘치는 메시지부터는 더 오래된 것도 제외한다")
+    void fillsNewestMessagesUnderTokenCeiling() {
+        int fixedTokens = TokenEstimator.estimate(PROMPT.text()) + TokenEstimator.estimateMessage(USER_MESSAGE);
+        ConversationHistoryService service = service(fixedTokens + MESSAGE_TOKENS * 2, 10_000, 40);
+        givenRecent(
+                message(5L, MessageSender.USER, USER_MESSAGE),
+                message(4L, MessageSender.AI, TEN_CHARS),
+                message(3L, MessageSender.USER, TEN_CHARS),
+                message(2L, MessageSender.AI, TEN_CHARS + TEN_CHARS),
+                message(1L, MessageSender.USER, "네"));
+
+        ConversationWindow window = service.buildWindow(1L, PROMPT, USER_MESSAGE, 5L);
+
+        // 방금 저장한 메시지(5)는 제외, 3/4 만 시간 오름차순으로 포함 (2 가 넘치므로 더 짧은 1 도 제외)
+        assertThat(window.getHistory()).extracting(GeminiMessage::getRole).containsExactly("user", "model");
+        assertThat(window.getHistory()).extracting(GeminiMessage::getContent).containsExactly(TEN_CHARS, TEN_CHARS);
+        assertThat(window.getEstimatedTokens()).isEqualTo(fixedTokens + MESSAGE_TOKENS * 2);
+        assertThat(window.getSystemPrompt()).isSameAs(PROMPT);
+    }
+
+    @Test
+    @DisplayName("누적 요약이 있으면 컨텍스트 뒤에 덧붙이고 요약 이후 메시지만 조회한다")
+    void appendsSummaryAndReadsAfterIt() {
+        ConversationHistoryService service = service(6000, 10_000, 40);
+        when(summaryRepository.findByUserId(1L))
+                .thenReturn(Optional.of(CoachConversationSummary.of(1L, "식비 줄이기로 함", 30L, 10)));
+        givenRecent(message(31L, MessageSender.AI, TEN_CHARS));
+
+        ConversationWindow window = service.buildWindow(1L, PROMPT, USER_MESSAGE, 32L);
+
+        assertThat(window.getSystemPrompt().getPersona()).isEqualTo(PROMPT.getPersona());
+        assertThat(window.getSystemPrompt().getContext()).startsWith(PROMPT.getContext()).contains("식비 줄이기로 함");
+        verify(messageRepository).findByUserIdAndMessageIdGreaterThanOrderByCreatedAtDescMessageIdDesc(
+                eq(1L), eq(30L), eq(Limit.of(40)));
+        assertThat(window.getHistory()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("요약되지 않은 대화가 임계치를 넘으면 창에 다 들어가지 않아도 요약을 요청한다")
+    void requestsCompactionAboveThreshold() {
+        ConversationHistoryService service = service(6000, MESSAGE_TOKENS * 2, 40);
+        givenRecent(
+                message(3L, MessageSender.AI, TEN_CHARS),
+                message(2L, MessageSender.USER, TEN_CHARS),
+                message(1L, MessageSender.AI, TEN_CHARS));
+
+        service.buildWindow(1L, PROMPT, USER_MESSAGE, 4L);
+
+        verify(compactor).requestCompaction(1L);
+    }
+
+    @Test
+    @DisplayName("임계치 이하이고 조회 한도도 채우지 않았으면 요약을 요청하지 않는다")
+    void skipsCompactionBelowThreshold() {
+        ConversationHistoryService service = service(6000, MESSAGE_TOKENS * 2, 40);
+        givenRecent(message(2L, MessageSender.USER, TEN_CHARS), message(1L, MessageSender.AI, TEN_CHARS));
+
+        service.buildWindow(1L, PROMPT, USER_MESSAGE, 3L);
+
+        verify(compactor, never()).requestCompaction(anyLong());
+    }
+
+    @Test
+    @DisplayName("조회 한도만큼 메시지가 쌓이면 토큰이 적어도 요약을 요청한다")
+    void requestsCompactionWhenRecentLimitIsReached() {
+        ConversationHistoryService service = service(6000, 10_000, 2);
+        givenRecent(message(2L, MessageSender.USER, "네"), message(1L, MessageSender.AI, "응"));
+
+        service.buildWindow(1L, PROMPT, USER_MESSAGE, 3L);
+
+        verify(compactor).requestCompaction(1L);
+    }
+
+    private ConversationHistoryService service(int promptTokenCeiling, int compactionThresholdTokens, int maxRecentMessages) {
+        return new ConversationHistoryService(messageRepository, summaryRepository, compactor,
+                new CoachPromptBuilder(TEMPLATE_ENGINE), TEMPLATE_ENGINE,
+                promptTokenCeiling, compactionThresholdTokens, maxRecentMessages);
+    }
+
+    // 최신순 (repository 정렬 순서 그대로)
+    private void givenRecent(CoachMessage... messages) {
+        when(messageRepository.findByUserIdAndMessageIdGreaterThanOrderByCreatedAtDescMessageIdDesc(eq(1L), anyLong(), eq(Limit.of(40))))
+                .thenReturn(List.of(messages));
+        when(messageRepository.findByUserIdAndMessageIdGreaterThanOrderByCreatedAtDescMessageIdDesc(eq(1L), anyLong(), eq(Limit.of(2))))
+                .thenReturn(List.of(messages));
+    }
+
+    private static CoachMessage message(Long messageId, MessageSender sender, String content) {
+        return CoachMessage.builder().messageId(messageId).userId(1L).sender(sender).content(content).build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.finz.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.finz.dto.expense.ExpenseImportResponseDto;
+import com.finz.exception.BaseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ExpenseImportServiceTest {
+
+    private static final String VALID_ROW = "{\"expense_name\":\"점심\",\"amount\":9000,\"category\":\"음식\","
+            + "\"expense_tag\":\"회사\",\"payment_method\":\"카드\",\"expense_date\":\"2026-10-01\"}";
+    private static final String MALFORMED_ROW = "{\"expense_name\":\"점심\",\"amount\":\"구천원\",\"category\":\"음식\","
+            + "\"expense_tag\":\"회사\",\"payment_method\":\"카드\",\"expense_date\":\"2026-10-01\"}";
+
+    private final ExpenseService expenseService = mock(ExpenseService.class);
+    private final ExpenseImportService importService = new ExpenseImportService(
+            expenseService, JsonMapper.builder().addModule(new JavaTimeModule()).build(), 2);
+
+    @Test
+    @DisplayName("형식 오류 행도 최대 건수에 포함된다")
+    void malformedRowsCountTowardsRowLimit() {
+        InputStream body = json(MALFORMED_ROW, MALFORMED_ROW, MALFORMED_ROW);
+
+        assertThatThrownBy(() -> importService.importJson(1L, body))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining("최대 2건");
+        verify(expenseService, never()).importExpenses(eq(1L), anyList());
+    }
+
+    @Test
+    @DisplayName("최대 건수 이내면 형식 오류 행만 거절하고 나머지는 등록한다")
+    void rejectsOnlyMalformedRowsWithinLimit() {
+        when(expenseService.importExpenses(eq(1L), anyList())).thenAnswer(invocation -> invocation.<List<?>>getArgument(1).size());
+
+        ExpenseImportResponseDto response = importService.importJson(1L, json(VALID_ROW, MALFORMED_ROW));
+
+        assertThat(response.getImportedCount()).isEqualTo(1);
+        assertThat(response.getRejectedCount()).isEqualTo(1);
+        assertThat(response.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getRow()).isEqualTo(2));
+    }
+
+    private static InputStream json(String... rows) {
+        return new ByteArrayInputStream(("[" + String.join(",", rows) + "]").getBytes(StandardCharsets.UTF_8));
+    }
+}
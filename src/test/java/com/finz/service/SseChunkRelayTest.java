@@ -0,0 +1,76 @@
+package com.finz.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SseChunkRelayTest {
+
+    private final Scheduler scheduler = Schedulers.newBoundedElastic(2, 100, "test-sse");
+
+    @AfterEach
+    void tearDown() {
+        scheduler.dispose();
+    }
+
+    @Test
+    @DisplayName("조각 전달이 느려도 accept 는 기다리지 않고, close 는 모든 조각이 순서대로 전달된 뒤 반환한다")
+    void deliversInOrderOffTheReadingThread() throws InterruptedException {
+        CountDownLatch clientBlocked = new CountDownLatch(1);
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        SseChunkRelay relay = new SseChunkRelay(scheduler, chunk -> {
+            await(clientBlocked);
+            threads.add(Thread.currentThread().getName());
+            delivered.add(chunk);
+        });
+        relay.accept("이번 ");
+        relay.accept("달 ");
+        relay.accept("식비는");
+
+        // 클라이언트 쓰기가 막혀 있어도 스트림 읽기 스레드는 이미 다음 단계로 진행
+        assertThat(delivered).isEmpty();
+
+        clientBlocked.countDown();
+        relay.close();
+
+        assertThat(delivered).containsExactly("이번 ", "달 ", "식비는");
+        assertThat(threads).allSatisfy(name -> assertThat(name).startsWith("test-sse"));
+    }
+
+    @Test
+    @DisplayName("조각 전달 중 예외가 나도 이후 조각과 close 는 계속 진행된다")
+    void continuesAfterDeliveryFailure() {
+        List<String> delivered = new CopyOnWriteArrayList<>();
+        SseChunkRelay relay = new SseChunkRelay(scheduler, chunk -> {
+            if (chunk.equals("실패")) {
+                throw new IllegalStateException("client gone");
+            }
+            delivered.add(chunk);
+        });
+
+        relay.accept("실패");
+        relay.accept("다음");
+        relay.close();
+
+        assertThat(delivered).containsExactly("다음");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
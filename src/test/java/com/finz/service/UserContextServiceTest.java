@@ -0,0 +1,92 @@
+package com.finz.service;
+
+import com.finz.domain.goal.GoalRepository;
+import com.finz.domain.user.AgeGroup;
+import com.finz.domain.user.Job;
+import com.finz.domain.user.User;
+import com.finz.domain.user.UserRepository;
+import com.finz.repository.ExpenseDailySummaryRepository;
+import com.finz.repository.ExpenseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserContextServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final GoalRepository goalRepository = mock(GoalRepository.class);
+    private final ExpenseRepository expenseRepository = mock(ExpenseRepository.class);
+    private final ExpenseDailySummaryRepository summaryRepository = mock(ExpenseDailySummaryRepository.class);
+    private final UserDataVersionService dataVersionService = mock(UserDataVersionService.class);
+    private final UserContextService contextService = new UserContextService(userRepository, goalRepository,
+            expenseRepository, summaryRepository, dataVersionService, Duration.ofMinutes(10), 100, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setUp() {
+        when(summaryRepository.findTotalAmountByUserIdAndDateAfter(anyLong(), any())).thenReturn(0);
+    }
+
+    @Test
+    @DisplayName("버전이 그대로면 캐시된 스냅샷을 다시 쓴다")
+    void reusesSnapshotWhileVersionIsUnchanged() {
+        givenUser(3L, 500_000);
+        when(dataVersionService.currentVersion(1L)).thenReturn(Optional.of(3L));
+
+        UserContextSnapshot first = contextService.getSnapshot(1L);
+        UserContextSnapshot second = contextService.getSnapshot(1L);
+
+        assertThat(second).isSameAs(first);
+        verify(userRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("무효화 뒤에 이전 데이터가 캐시에 남아도 더 새로운 버전이 커밋됐으면 다시 로드한다")
+    void reloadsSnapshotOlderThanCommittedVersion() {
+        givenUser(3L, 500_000);
+        when(dataVersionService.currentVersion(1L)).thenReturn(Optional.of(3L));
+        contextService.getSnapshot(1L);
+
+        // 예산 변경이 커밋되어 버전이 올라갔지만 무효화 이벤트보다 늦게 끝난 로드가 이전 스냅샷을 남긴 상황
+        givenUser(4L, 700_000);
+        when(dataVersionService.currentVersion(1L)).thenReturn(Optional.of(4L));
+
+        UserContextSnapshot snapshot = contextService.getSnapshot(1L);
+
+        assertThat(snapshot.getDataVersion()).isEqualTo(4L);
+        assertThat(snapshot.getUser().getMonthlyBudget()).isEqualTo(700_000);
+    }
+
+    @Test
+    @DisplayName("스냅샷에는 엔티티가 아닌 복사한 값이 담긴다")
+    void snapshotDoesNotShareEntity() {
+        User user = givenUser(3L, 500_000);
+        when(dataVersionService.currentVersion(1L)).thenReturn(Optional.of(3L));
+
+        UserContextSnapshot snapshot = contextService.getSnapshot(1L);
+        ReflectionTestUtils.setField(user, "monthlyBudget", 900_000);
+
+        assertThat(snapshot.getUser().getMonthlyBudget()).isEqualTo(500_000);
+        assertThat(snapshot.getUser().getNickname()).isEqualTo("김핀즈");
+    }
+
+    private User givenUser(long dataVersion, int monthlyBudget) {
+        User user = new User("김핀즈", AgeGroup.TWENTIES, Job.OFFICE_WORKER, monthlyBudget);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        ReflectionTestUtils.setField(user, "dataVersion", dataVersion);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        return user;
+    }
+}